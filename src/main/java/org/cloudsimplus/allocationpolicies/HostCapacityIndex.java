@@ -0,0 +1,259 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.allocationpolicies;
+
+import lombok.NonNull;
+import org.cloudsimplus.datacenters.Datacenter;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.*;
+
+/**
+ * An index of the Hosts from a {@link VmAllocationPolicyAbstract},
+ * where Hosts are bucketed by their active state and number of free PEs.
+ * It enables fit-based policies to visit Hosts in the order they would be selected,
+ * so that the Host for a VM is usually found after checking just a few candidates,
+ * instead of checking the suitability of every Host.
+ *
+ * <p>The buckets are kept up-to-date by the Hosts themselves,
+ * which notify the policy every time the status of some PE or the Host active state changes.
+ * Since a Host using a {@link VmSchedulerSpaceShared} requires as many free PEs as requested by a VM,
+ * buckets having fewer free PEs are skipped for such Hosts.
+ * Other Hosts (such as the ones using a time-shared scheduler, which may place more vPEs than free PEs)
+ * are never skipped due to their number of free PEs.
+ * Every candidate Host is still fully checked by {@link Host#isSuitableForVm(Vm)}.</p>
+ *
+ * <p>Hosts in the same bucket are visited in the order they are in the Host list,
+ * so that the selected Host is the same one selected by checking all Hosts sequentially.
+ * The index is rebuilt when the Datacenter {@link #invalidate() notifies}
+ * that Hosts were added to or removed from its Host list.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+final class HostCapacityIndex {
+    /** The active states of Hosts, in the order they must be visited. */
+    private static final boolean[] ACTIVE_FIRST = {true, false};
+
+    /** The policy which Hosts are indexed. */
+    private final VmAllocationPolicyAbstract policy;
+
+    /**
+     * Buckets of Hosts having the same active state and number of free PEs,
+     * where each bucket has its Hosts sorted by their position in the Host list.
+     */
+    private final NavigableMap<Bucket, NavigableSet<HostEntry>> buckets;
+
+    /** The entry of each Host inside the {@link #buckets}. */
+    private final Map<Host, HostEntry> entries;
+
+    /**
+     * The number of indexed Hosts which may be suitable for a VM
+     * even having fewer free PEs than requested by such a VM.
+     */
+    private int nonStrictHosts;
+
+    /**
+     * The Datacenter which Hosts are currently indexed,
+     * or null if the index must be (re)built before being used.
+     */
+    private Datacenter indexedDatacenter;
+
+    /**
+     * The key of a bucket of Hosts.
+     * @param active the Hosts active state
+     * @param freePes the Hosts number of free PEs
+     */
+    private record Bucket(boolean active, long freePes) implements Comparable<Bucket> {
+        private static final Comparator<Bucket> COMPARATOR =
+            Comparator.comparing(Bucket::active).thenComparingLong(Bucket::freePes);
+
+        @Override
+        public int compareTo(final Bucket other) {
+            return COMPARATOR.compare(this, other);
+        }
+    }
+
+    /**
+     * An entry in a bucket of Hosts.
+     * @param host the indexed Host
+     * @param index the Host position in the Host list
+     * @param strict true if the Host can only be suitable for VMs requesting at most its number of free PEs
+     * @param bucket the key of the bucket the Host is in
+     */
+    private record HostEntry(Host host, int index, boolean strict, Bucket bucket) {
+        private static final Comparator<HostEntry> COMPARATOR = Comparator.comparingInt(HostEntry::index);
+    }
+
+    /**
+     * Creates an index for the Hosts of a given policy.
+     * The index is just built when the first Host is requested.
+     * @param policy the policy which Hosts will be indexed
+     */
+    HostCapacityIndex(@NonNull final VmAllocationPolicyAbstract policy) {
+        this.policy = policy;
+        this.buckets = new TreeMap<>();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Finds the first suitable Host for a VM, visiting active Hosts first
+     * and then Hosts with the largest number of free PEs.
+     * @param vm the VM to find a Host to
+     * @return an {@link Optional} containing the Host or an empty {@link Optional} if no suitable Host was found
+     */
+    synchronized Optional<Host> findHostWithMostFreePes(final Vm vm) {
+        return findHost(vm, true);
+    }
+
+    /**
+     * Finds the first suitable Host for a VM, visiting active Hosts first
+     * and then Hosts with the smallest number of free PEs.
+     * @param vm the VM to find a Host to
+     * @return an {@link Optional} containing the Host or an empty {@link Optional} if no suitable Host was found
+     */
+    synchronized Optional<Host> findHostWithFewestFreePes(final Vm vm) {
+        return findHost(vm, false);
+    }
+
+    private Optional<Host> findHost(final Vm vm, final boolean mostFreePesFirst) {
+        buildIfOutdated();
+        final long requestedPes = vm.getCurrentRequestedMips().pes();
+        for (final boolean active : ACTIVE_FIRST) {
+            /* Buckets with fewer free PEs than requested by the VM
+             * just have to be checked for non-strict Hosts. */
+            final var fewerPes = buckets.subMap(new Bucket(active, Long.MIN_VALUE), true, new Bucket(active, requestedPes), false);
+            final var enoughPes = buckets.subMap(new Bucket(active, requestedPes), true, new Bucket(active, Long.MAX_VALUE), true);
+            final var host = mostFreePesFirst ?
+                findHost(vm, enoughPes.descendingMap(), true).or(() -> findHost(vm, fewerPes.descendingMap(), false)) :
+                findHost(vm, fewerPes, false).or(() -> findHost(vm, enoughPes, true));
+            if (host.isPresent()) {
+                return host;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the first suitable Host for a VM inside some buckets.
+     * @param vm the VM to find a Host to
+     * @param bucketsToVisit the buckets to visit, in the order they have to be visited
+     * @param includeStrictHosts true to check all Hosts, false to check just non-strict ones
+     * @return an {@link Optional} containing the Host or an empty {@link Optional} if no suitable Host was found
+     */
+    private Optional<Host> findHost(
+        final Vm vm, final Map<Bucket, NavigableSet<HostEntry>> bucketsToVisit, final boolean includeStrictHosts)
+    {
+        if (!includeStrictHosts && nonStrictHosts == 0) {
+            return Optional.empty();
+        }
+
+        for (final var bucket : bucketsToVisit.values()) {
+            for (final var entry : bucket) {
+                if ((includeStrictHosts || !entry.strict()) && entry.host().isSuitableForVm(vm)) {
+                    return Optional.of(entry.host());
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Moves a Host to the bucket matching its current active state and number of free PEs.
+     * Hosts not indexed yet are ignored, since they are indexed
+     * with their current state when the index is built.
+     * @param host the Host to update
+     */
+    synchronized void update(final Host host) {
+        final var entry = entries.get(host);
+        if (entry == null) {
+            return;
+        }
+
+        final var bucket = new Bucket(host.isActive(), host.getFreePesNumber());
+        if (bucket.equals(entry.bucket())) {
+            return;
+        }
+
+        remove(entry);
+        add(new HostEntry(host, entry.index(), entry.strict(), bucket));
+    }
+
+    /**
+     * Marks the index as outdated, so that it's rebuilt when the next Host is requested.
+     * It must be called every time Hosts are added to or removed from the Host list.
+     */
+    synchronized void invalidate() {
+        indexedDatacenter = null;
+    }
+
+    /**
+     * (Re)builds the index if it was not built yet, if it was {@link #invalidate() invalidated}
+     * or if the policy was assigned to another Datacenter.
+     */
+    private void buildIfOutdated() {
+        final Datacenter datacenter = policy.getDatacenter();
+        if (indexedDatacenter == datacenter) {
+            return;
+        }
+
+        final List<Host> hostList = policy.getHostList();
+
+        buckets.clear();
+        entries.clear();
+        nonStrictHosts = 0;
+        int index = 0;
+        for (final Host host : hostList) {
+            final boolean strict = host.getVmScheduler() instanceof VmSchedulerSpaceShared;
+            add(new HostEntry(host, index++, strict, new Bucket(host.isActive(), host.getFreePesNumber())));
+        }
+
+        indexedDatacenter = datacenter;
+    }
+
+    private void add(final HostEntry entry) {
+        buckets.computeIfAbsent(entry.bucket(), bucket -> new TreeSet<>(HostEntry.COMPARATOR)).add(entry);
+        entries.put(entry.host(), entry);
+        if (!entry.strict()) {
+            nonStrictHosts++;
+        }
+    }
+
+    private void remove(final HostEntry entry) {
+        final var bucket = buckets.get(entry.bucket());
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+            buckets.remove(entry.bucket());
+        }
+
+        entries.remove(entry.host());
+        if (!entry.strict()) {
+            nonStrictHosts--;
+        }
+    }
+}
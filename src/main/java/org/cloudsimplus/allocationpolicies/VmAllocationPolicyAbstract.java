@@ -7,11 +7,13 @@
  */
 package org.cloudsimplus.allocationpolicies;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.hosts.HostAbstract;
@@ -25,8 +27,11 @@ import org.cloudsimplus.vms.VmGroup;
 
 import java.util.*;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * An abstract class that represents the policy
@@ -44,6 +49,19 @@ import static java.util.stream.Collectors.toSet;
  */
 @Accessors(makeFinal = false) @Getter @Setter
 public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
+    /**
+     * A {@link Comparator} that sorts VMs in decreasing order of size
+     * (number of PEs, then total MIPS capacity, then RAM).
+     * Using it to {@link #setBatchVmComparator(Comparator) sort VMs submitted in batch}
+     * makes a First Fit policy to perform a First Fit Decreasing (FFD) placement
+     * and a Best Fit policy to perform a Best Fit Decreasing (BFD) placement.
+     */
+    public static final Comparator<Vm> DECREASING_VM_SIZE =
+        Comparator.comparingLong(Vm::getPesNumber)
+                  .thenComparingDouble(Vm::getTotalMipsCapacity)
+                  .thenComparingLong(vm -> vm.getRam().getCapacity())
+                  .reversed();
+
     /**
      * WARNING: the function should not be called directly because it may be null.
      * Use the {@link #findHostForVm(Vm)} instead.
@@ -59,6 +77,22 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /** @see #getHostCountForParallelSearch() */
     private int hostCountForParallelSearch;
 
+    /**
+     * An index of Hosts by their capacity,
+     * used by fit-based policies to find a Host for a VM without checking every Host.
+     * It's null if the index is disabled.
+     * @see #enableHostCapacityIndex()
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.NONE)
+    private HostCapacityIndex hostCapacityIndex;
+
+    /**
+     * A {@link Comparator} to sort VMs submitted in batch before placing them,
+     * or null to place VMs in the order they were submitted.
+     * @see #setBatchVmComparator(Comparator)
+     */
+    private Comparator<Vm> batchVmComparator;
+
     /**
      * Creates a VmAllocationPolicy.
      */
@@ -84,6 +118,109 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         return datacenter.getHostList();
     }
 
+    /**
+     * Gets a {@link Stream} of the {@link #getHostList() Hosts} to search for a suitable Host for a VM.
+     * It's a parallel stream if {@link #isParallelHostSearchEnabled()}.
+     *
+     * <p>Since the stream is ordered, operations such as {@link Stream#min(Comparator)},
+     * {@link Stream#max(Comparator)} and {@link Stream#findFirst()} select the same Host
+     * in both parallel and sequential modes: if multiple Hosts are equally suitable,
+     * the first one in the Host list is selected.
+     * Operations applied to the stream must not change the Hosts.</p>
+     *
+     * @return a parallel or sequential stream of Hosts
+     */
+    protected final Stream<Host> getHostStream() {
+        final Stream<Host> stream = this.<Host>getHostList().stream();
+        return isParallelHostSearchEnabled() ? stream.parallel() : stream;
+    }
+
+    /**
+     * Finds the index of the first Host that meets a given condition,
+     * checking the {@link #getHostList()} as a circular list starting from a given index.
+     * Hosts are checked in parallel if {@link #isParallelHostSearchEnabled()},
+     * but the returned index is always the same as in a sequential search.
+     *
+     * @param startIndex the index of the first Host to check
+     * @param predicate the condition the Host must meet
+     * @return the index of the first Host meeting the condition or -1 if no Host is found
+     */
+    protected final int findFirstHostIndex(final int startIndex, final Predicate<Host> predicate) {
+        final List<Host> hostList = getHostList();
+        final int size = hostList.size();
+        final var indexStream = IntStream.range(0, size).map(offset -> (startIndex + offset) % size);
+        return (isParallelHostSearchEnabled() ? indexStream.parallel() : indexStream)
+                    .filter(i -> predicate.test(hostList.get(i)))
+                    .findFirst()
+                    .orElse(-1);
+    }
+
+    /**
+     * Enables indexing Hosts by their active state and number of free PEs,
+     * so that fit-based policies (such as {@link VmAllocationPolicySimple} and {@link VmAllocationPolicyBestFit})
+     * just check the suitability of candidate Hosts, in the order they would be selected,
+     * instead of checking every Host for every VM.
+     * The selected Host is the same one selected when the index is disabled.
+     *
+     * <p>The index is recommended for large-scale scenarios, where it reduces the placement cost of VMs
+     * from linear to nearly logarithmic in the number of Hosts (at the cost of keeping the index updated).
+     * When it's enabled, the {@link #isParallelHostSearchEnabled() parallel Host search} is not used
+     * by the policies that rely on the index.</p>
+     *
+     * @return this policy
+     * @see #disableHostCapacityIndex()
+     */
+    public VmAllocationPolicyAbstract enableHostCapacityIndex() {
+        if (hostCapacityIndex == null) {
+            hostCapacityIndex = new HostCapacityIndex(this);
+        }
+
+        return this;
+    }
+
+    /**
+     * Disables indexing Hosts by their capacity.
+     * @return this policy
+     * @see #enableHostCapacityIndex()
+     */
+    public VmAllocationPolicyAbstract disableHostCapacityIndex() {
+        hostCapacityIndex = null;
+        return this;
+    }
+
+    /**
+     * Checks if Hosts are indexed by their capacity.
+     * @return true if the index is enabled, false otherwise
+     * @see #enableHostCapacityIndex()
+     */
+    public boolean isHostCapacityIndexEnabled() {
+        return hostCapacityIndex != null;
+    }
+
+    /**
+     * Updates the capacity index of a Host, after its active state or the status of some of its PEs has changed.
+     * It's called by the Host itself and has no effect if the index is disabled.
+     * @param host the Host to update
+     * @see #enableHostCapacityIndex()
+     */
+    public void updateHostCapacityIndex(final Host host) {
+        if (hostCapacityIndex != null) {
+            hostCapacityIndex.update(host);
+        }
+    }
+
+    /**
+     * Marks the Host capacity index as outdated, so that it's rebuilt before the next Host search.
+     * It's called by the Datacenter when Hosts are added to or removed from it
+     * and has no effect if the index is disabled.
+     * @see #enableHostCapacityIndex()
+     */
+    public void invalidateHostCapacityIndex() {
+        if (hostCapacityIndex != null) {
+            hostCapacityIndex.invalidate();
+        }
+    }
+
     @Override
     public boolean scaleVmVertically(final VerticalVmScaling scaling) {
         if (scaling.isVmUnderloaded()) {
@@ -231,11 +368,50 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /**
      * If you override this method, you must call {@link #allocateHostForVm(Vm, Host)}
      * for each suitable Host you have found that want to create a VM.
+     * VMs are placed in the order defined by the {@link #getBatchVmComparator()}, if one is set.
      * @see #allocateHostForVm(List)
      * @see Host#getSuitabilityFor(Vm)
+     * @see #sortBatchVmList(List)
      */
     protected Set<HostSuitability> allocateHostForVmInternal(final @NonNull List<Vm> vmList) {
-        return vmList.stream().map(this::allocateHostForVm).collect(toSet());
+        return sortBatchVmList(vmList).stream().map(this::allocateHostForVm).collect(toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Sorts a List of VMs submitted in batch using the {@link #getBatchVmComparator()}.
+     * VMs considered equal by the comparator keep their submission order.
+     *
+     * @param vmList the List of VMs to sort
+     * @return a new sorted List or the given one if no comparator is set
+     */
+    protected List<Vm> sortBatchVmList(final List<Vm> vmList) {
+        if (batchVmComparator == null) {
+            return vmList;
+        }
+
+        final var sortedVmList = new ArrayList<>(vmList);
+        sortedVmList.sort(batchVmComparator);
+        return sortedVmList;
+    }
+
+    /**
+     * Sets a {@link Comparator} to sort VMs submitted in batch before placing them,
+     * so that the whole List is placed at once, in the order defined by such a comparator
+     * (instead of the order VMs were submitted).
+     * VMs are submitted in batch when {@link DatacenterBroker#setBatchVmCreation(boolean) batch VM creation}
+     * is enabled.
+     *
+     * <p>For instance, using the {@link #DECREASING_VM_SIZE} comparator,
+     * larger VMs are placed first, which reduces the fragmentation of Hosts' capacity
+     * and the number of Hosts checked for the remaining smaller VMs.
+     * Such a placement is even faster when the {@link #enableHostCapacityIndex() Host capacity index} is enabled.</p>
+     *
+     * @param batchVmComparator the comparator to set or null to place VMs in the order they were submitted
+     * @return this policy
+     */
+    public VmAllocationPolicyAbstract setBatchVmComparator(final Comparator<Vm> batchVmComparator) {
+        this.batchVmComparator = batchVmComparator;
+        return this;
     }
 
     /**
@@ -65,16 +65,22 @@ public class VmAllocationPolicyBatchPlacementUnderloadedHosts extends VmAllocati
 
     @Override
     protected Set<HostSuitability> allocateHostForVmInternal(final @NonNull List<Vm> vmList) {
-        final Comparator<Host> comparator = Comparator.comparing(Host::isActive).thenComparing(this::isUnderloaded);
-        final var hosts = getHostList().stream().sorted(comparator.reversed()).toList();
+        /* Checking if a Host is underloaded requires computing its CPU utilization.
+         * This way, it's checked just once for each Host (possibly in parallel), instead of on every comparison. */
+        final var hosts = getHostStream()
+                            .map(host -> new HostRank(host, host.isActive(), isUnderloaded(host)))
+                            .sorted(HostRank.COMPARATOR)
+                            .map(HostRank::host)
+                            .toList();
 
+        final var sortedVmList = sortBatchVmList(vmList);
         int hostIdx = 0;
         final var suitabilities = new HashSet<HostSuitability>();
         final int attemptsTotal = hosts.size();
         //Find a Host until all VMs are assigned to a Host or all Hosts are tried
-        for (int vmIdx = 0, attempt = 1; vmIdx < vmList.size() && attempt <= attemptsTotal;) {
+        for (int vmIdx = 0, attempt = 1; vmIdx < sortedVmList.size() && attempt <= attemptsTotal;) {
             final var host = hosts.get(hostIdx);
-            final var vm = vmList.get(vmIdx);
+            final var vm = sortedVmList.get(vmIdx);
             //When a suitable underloaded Host is found, selects it to place the VM and try the next host for next VM
             final var suitability = host.getSuitabilityFor(vm);
             suitabilities.add(suitability);
@@ -91,4 +97,17 @@ public class VmAllocationPolicyBatchPlacementUnderloadedHosts extends VmAllocati
 
         return suitabilities;
     }
+
+    /**
+     * The attributes used to sort Hosts, so that active and underloaded Hosts come first.
+     * Since sorting is stable, Hosts with the same rank keep their order in the Host list.
+     *
+     * @param host the Host
+     * @param active if the Host is active
+     * @param underloaded if the Host is underloaded
+     */
+    private record HostRank(Host host, boolean active, boolean underloaded) {
+        private static final Comparator<HostRank> COMPARATOR =
+            Comparator.comparing(HostRank::active).thenComparing(HostRank::underloaded).reversed();
+    }
 }
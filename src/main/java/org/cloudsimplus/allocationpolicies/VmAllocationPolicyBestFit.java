@@ -28,7 +28,6 @@ import org.cloudsimplus.vms.Vm;
 
 import java.util.Comparator;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 /**
  * A Best Fit VmAllocationPolicy implementation that chooses, as
@@ -56,13 +55,16 @@ public class VmAllocationPolicyBestFit extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if (isHostCapacityIndexEnabled()) {
+            return getHostCapacityIndex().findHostWithFewestFreePes(vm);
+        }
+
         /* Since it's being used the min operation, the active comparator must be reversed so that
          * we get active hosts with minimum number of free PEs. */
         final Comparator<Host> activeComparator = Comparator.comparing(Host::isActive).reversed();
         final Comparator<Host> comparator = activeComparator.thenComparingLong(Host::getFreePesNumber);
 
-        final Stream<Host> stream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
-        return stream
+        return getHostStream()
                 .filter(host -> host.isSuitableForVm(vm))
                 .min(comparator);
     }
@@ -29,7 +29,6 @@ import lombok.Setter;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.vms.Vm;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -64,22 +63,13 @@ public class VmAllocationPolicyFirstFit extends VmAllocationPolicyAbstract imple
 
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
-        final List<Host> hostList = getHostList();
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = hostList.size();
-        for (int i = 0; i < maxTries; i++) {
-            final Host host = hostList.get(lastHostIndex);
-            if (host.isSuitableForVm(vm)) {
-                return Optional.of(host);
-            }
-
-            /* If it gets here, the previous Host doesn't have capacity to place the VM.
-             * Then, moves to the next Host.*/
-            incLastHostIndex();
+        final int hostIndex = findFirstHostIndex(lastHostIndex, host -> host.isSuitableForVm(vm));
+        if (hostIndex < 0) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        lastHostIndex = hostIndex;
+        return Optional.of(getHostList().get(hostIndex));
     }
 
     /**
@@ -61,9 +61,12 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
      */
     @Override
     protected Optional<Host> defaultFindHostForVm(final Vm vm) {
+        if (isHostCapacityIndexEnabled()) {
+            return getHostCapacityIndex().findHostWithMostFreePes(vm);
+        }
+
         final Comparator<Host> comparator = comparing(Host::isActive).thenComparingLong(Host::getFreePesNumber);
 
-        final var hostStream = isParallelHostSearchEnabled() ? getHostList().stream().parallel() : getHostList().stream();
-        return hostStream.filter(host -> host.isSuitableForVm(vm)).max(comparator);
+        return getHostStream().filter(host -> host.isSuitableForVm(vm)).max(comparator);
     }
 }
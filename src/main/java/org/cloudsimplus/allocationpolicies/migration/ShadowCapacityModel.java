@@ -0,0 +1,335 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.allocationpolicies.migration;
+
+import lombok.NonNull;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A lightweight "what-if" view of the capacity of Hosts,
+ * used by a {@link VmAllocationPolicyMigrationAbstract} to
+ * assess a new VM placement without changing the actual Hosts.
+ *
+ * <p>While a placement is being planned (between {@link #begin()} and {@link #end()}),
+ * VMs are {@link #allocate(Host, Vm) placed into} or {@link #deallocate(Host, Vm) removed from}
+ * the shadow capacity of a Host, instead of temporarily creating/destroying VMs into
+ * the Host itself (which requires saving and restoring the whole VM placement afterwards).
+ * Removing a VM from a Host just reduces the Host load, since its resources are only
+ * released when the VM actually finishes migrating out.
+ * The shadow capacity of a Host is just created when such a Host is first queried during the planning,
+ * so that Hosts not considered don't add any overhead.
+ * Outside a planning, all queries are delegated to the actual Host.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see <a href="https://github.com/cloudsimplus/cloudsimplus/issues/94">Issue #94</a>
+ */
+final class ShadowCapacityModel {
+    /**
+     * A map where each key is a Host and each value is its shadow capacity
+     * for the VM placement being planned.
+     * It's a concurrent map because Hosts may be queried in parallel
+     * when {@link VmAllocationPolicyMigrationAbstract#isParallelHostSearchEnabled() parallel Host search}
+     * is enabled, while VMs are just placed/removed sequentially.
+     */
+    private final Map<Host, HostCapacity> capacityMap = new ConcurrentHashMap<>();
+
+    /** @see #isPlanning() */
+    private boolean planning;
+
+    /**
+     * Starts planning a new VM placement, discarding any previous shadow capacity.
+     */
+    void begin() {
+        capacityMap.clear();
+        planning = true;
+    }
+
+    /**
+     * Finishes the planning of a VM placement, discarding the shadow capacity of all Hosts.
+     */
+    void end() {
+        capacityMap.clear();
+        planning = false;
+    }
+
+    /**
+     * {@return true if a VM placement is being planned, false otherwise}
+     * In the last case, all queries are delegated to the actual Hosts.
+     */
+    boolean isPlanning() {
+        return planning;
+    }
+
+    /**
+     * Checks if a Host has enough capacity to place a VM, considering the VMs
+     * already placed into or removed from it during the planning.
+     * @param host the Host to check
+     * @param vm the VM to check if the Host is suitable for
+     * @return true if the Host is suitable for the VM, false otherwise
+     */
+    boolean isSuitableForVm(final Host host, final Vm vm) {
+        return planning ? getCapacity(host).isSuitableForVm(vm) : host.isSuitableForVm(vm);
+    }
+
+    /**
+     * {@return the total MIPS requested by the VMs placed into a Host}
+     * @param host the Host to get the requested MIPS
+     */
+    double getCpuMipsRequested(final Host host) {
+        return planning ? getCapacity(host).requestedMips : computeCpuMipsRequested(host);
+    }
+
+    /**
+     * {@return the total MIPS used by the VMs placed into a Host}
+     * @param host the Host to get the used MIPS
+     * @see Host#getCpuMipsUtilization()
+     */
+    double getCpuMipsUtilization(final Host host) {
+        return planning ? getCapacity(host).utilizationMips : host.getCpuMipsUtilization();
+    }
+
+    /**
+     * {@return the percentage of CPU used by the VMs placed into a Host} (in scale from 0 to 1)
+     * @param host the Host to get the CPU utilization
+     * @see Host#getCpuPercentUtilization()
+     */
+    double getCpuPercentUtilization(final Host host) {
+        if(!planning) {
+            return host.getCpuPercentUtilization();
+        }
+
+        final double totalMips = host.getTotalMipsCapacity();
+        if (totalMips == 0) {
+            return 0;
+        }
+
+        final double utilization = getCapacity(host).utilizationMips / totalMips;
+        return utilization > 1 && utilization < 1.01 ? 1 : utilization;
+    }
+
+    /**
+     * {@return the total MIPS allocated to the VMs placed into a Host},
+     * including the CPU overhead of VMs migrating into it.
+     * @param host the Host to get the allocated MIPS
+     */
+    double getAllocatedMips(final Host host) {
+        return planning ? getCapacity(host).allocatedMips : computeAllocatedMips(host);
+    }
+
+    /**
+     * {@return the VMs from a Host that can be migrated}, excluding
+     * the ones already removed from it during the planning.
+     * @param host the Host to get the migratable VMs
+     * @see Host#getMigratableVms()
+     */
+    List<Vm> getMigratableVms(final Host host) {
+        final List<Vm> migratableVms = host.getMigratableVms();
+        if(!planning) {
+            return migratableVms;
+        }
+
+        final var removedVms = getCapacity(host).removedVms;
+        return migratableVms.stream().filter(vm -> !removedVms.contains(vm)).toList();
+    }
+
+    /**
+     * Places a VM into the shadow capacity of a Host.
+     * @param host the Host to place the VM into
+     * @param vm the VM to place
+     */
+    void allocate(final Host host, final Vm vm) {
+        getCapacity(host).allocate(vm);
+    }
+
+    /**
+     * Removes a VM from the shadow capacity of a Host.
+     * @param host the Host to remove the VM from
+     * @param vm the VM to remove
+     */
+    void deallocate(final Host host, final Vm vm) {
+        getCapacity(host).deallocate(vm);
+    }
+
+    private HostCapacity getCapacity(final Host host) {
+        if(!planning) {
+            throw new IllegalStateException("There is no VM placement being planned.");
+        }
+
+        return capacityMap.computeIfAbsent(host, HostCapacity::new);
+    }
+
+    private static double computeCpuMipsRequested(final Host host) {
+        return host.getVmList().stream().mapToDouble(Vm::getTotalCpuMipsRequested).sum();
+    }
+
+    private static double computeAllocatedMips(final Host host) {
+        double hostUtilizationMips = 0;
+        for (final var vm : host.getVmList()) {
+            hostUtilizationMips += additionalCpuUtilizationDuringMigration(host, vm) + host.getTotalAllocatedMipsForVm(vm);
+        }
+
+        return hostUtilizationMips;
+    }
+
+    /**
+     * Calculate additional potential CPU usage of a VM migrating into a given Host.
+     * @param host the Hosts that is being computed the current utilization of CPU MIPS
+     * @param vm a VM from that Host
+     * @return the additional amount of MIPS the Host will use if the VM is migrating into it, 0 otherwise
+     */
+    private static double additionalCpuUtilizationDuringMigration(final Host host, final Vm vm) {
+        if (!host.getVmsMigratingIn().contains(vm)) {
+            return 0;
+        }
+
+        final double maxCpuUtilization = host.getVmScheduler().getMaxCpuUsagePercentDuringOutMigration();
+        final double migrationOverhead = host.getVmScheduler().getVmMigrationCpuOverhead();
+        return host.getTotalAllocatedMipsForVm(vm) * maxCpuUtilization / migrationOverhead;
+    }
+
+    /**
+     * The shadow capacity of a single Host, initialized from the Host's
+     * current state when first queried during a planning.
+     */
+    private static final class HostCapacity {
+        private final Host host;
+        private final boolean spaceShared;
+        private long freeStorage;
+        private long freeRam;
+        private long freeBw;
+        private long freePes;
+        private double availableMips;
+        private double requestedMips;
+        private double utilizationMips;
+        private double allocatedMips;
+
+        /** VMs placed into the Host during the planning. */
+        private final Set<Vm> addedVms = new HashSet<>();
+
+        /** VMs removed from the Host during the planning. */
+        private final Set<Vm> removedVms = new HashSet<>();
+
+        HostCapacity(@NonNull final Host host) {
+            this.host = host;
+            this.spaceShared = host.getVmScheduler() instanceof VmSchedulerSpaceShared;
+            this.freeStorage = host.getStorage().getAvailableResource();
+            this.freeRam = host.getRam().getAvailableResource();
+            this.freeBw = host.getBw().getAvailableResource();
+            this.freePes = host.getFreePesNumber();
+            this.availableMips = host.getVmScheduler().getTotalAvailableMips();
+            this.requestedMips = computeCpuMipsRequested(host);
+            this.utilizationMips = host.getCpuMipsUtilization();
+            this.allocatedMips = computeAllocatedMips(host);
+        }
+
+        /**
+         * Checks if the Host is suitable for a VM,
+         * following the same rules of {@link Host#isSuitableForVm(Vm)}.
+         * Since a VM is re-created into the target Host when its migration finishes,
+         * requesting its entire MIPS capacity at that time, such a capacity
+         * is required to be available (instead of the MIPS currently requested by the VM).
+         * A Host having VMs selected to migrate out is not suitable, since the resources
+         * of such VMs are just released after their migration finishes
+         * (that also incurs CPU overhead in the Host meanwhile).
+         */
+        boolean isSuitableForVm(final Vm vm) {
+            if(host.isFailed() || addedVms.contains(vm) || !removedVms.isEmpty()) {
+                return false;
+            }
+
+            return freeStorage >= vm.getStorage().getCapacity() &&
+                   freeRam >= vm.getRam().getCapacity() &&
+                   freeBw >= vm.getBw().getCapacity() &&
+                   host.getWorkingPesNumber() >= vm.getPesNumber() &&
+                   (spaceShared ? isSpaceSharedSuitable(vm) : availableMips >= vm.getTotalMipsCapacity());
+        }
+
+        private boolean isSpaceSharedSuitable(final Vm vm) {
+            return freePes >= vm.getPesNumber() && vm.getMips() <= host.getWorkingPeList().get(0).getCapacity();
+        }
+
+        void allocate(final Vm vm) {
+            if(removedVms.remove(vm)) {
+                // The VM is being put back into the Host it was removed from
+                updateLoad(vm, host.getTotalAllocatedMipsForVm(vm), 1);
+                return;
+            }
+
+            if(addedVms.add(vm)) {
+                updateLoad(vm, vm.getCurrentRequestedMips().totalMips(), 1);
+                updateFreeCapacity(vm, -1);
+            }
+        }
+
+        void deallocate(final Vm vm) {
+            if(addedVms.remove(vm)) {
+                // The VM previously placed into the Host during the planning is being removed
+                updateLoad(vm, vm.getCurrentRequestedMips().totalMips(), -1);
+                updateFreeCapacity(vm, 1);
+                return;
+            }
+
+            /* The resources of a VM migrating out are just released when the migration finishes.
+             * This way, only the Host load is reduced, but the resources are kept booked for the VM. */
+            if(host.getVmList().contains(vm) && removedVms.add(vm)) {
+                updateLoad(vm, host.getTotalAllocatedMipsForVm(vm), -1);
+            }
+        }
+
+        /**
+         * Updates the Host load when a VM is placed into or removed from it.
+         * @param vm the VM placed/removed
+         * @param mips the total MIPS allocated to the VM
+         * @param sign 1 to indicate the VM is being placed into the Host, -1 to indicate it's being removed
+         */
+        private void updateLoad(final Vm vm, final double mips, final int sign) {
+            allocatedMips += sign * mips;
+            requestedMips += sign * vm.getTotalCpuMipsRequested();
+            utilizationMips += sign * vm.getTotalCpuMipsUtilization();
+        }
+
+        /**
+         * Updates the free capacity of the Host when a VM is placed into or removed from it,
+         * considering the entire VM capacity is used when its migration finishes.
+         * @param vm the VM placed/removed
+         * @param sign 1 to indicate resources are being released, -1 to indicate they're being booked
+         */
+        private void updateFreeCapacity(final Vm vm, final int sign) {
+            freeStorage += sign * vm.getStorage().getCapacity();
+            freeRam += sign * vm.getRam().getCapacity();
+            freeBw += sign * vm.getBw().getCapacity();
+            freePes += sign * vm.getPesNumber();
+            availableMips += sign * vm.getTotalMipsCapacity();
+        }
+    }
+}
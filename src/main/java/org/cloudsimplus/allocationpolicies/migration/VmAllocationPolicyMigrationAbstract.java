@@ -16,17 +16,15 @@ import org.cloudsimplus.allocationpolicies.VmAllocationPolicyAbstract;
 import org.cloudsimplus.core.CloudInformationService;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.hosts.Host;
-import org.cloudsimplus.hosts.HostAbstract;
 import org.cloudsimplus.selectionpolicies.VmSelectionPolicy;
 import org.cloudsimplus.util.TimeUtil;
 import org.cloudsimplus.vms.Vm;
-import org.cloudsimplus.vms.VmAbstract;
-import org.cloudsimplus.vms.VmSimple;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.*;
@@ -63,9 +61,10 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     private boolean overloaded;
 
     /**
-     * A map between a VM and the host where it is placed.
+     * The shadow capacity of Hosts, used to assess a new VM placement
+     * without temporarily creating/destroying VMs into the actual Hosts.
      */
-    private final Map<VmAbstract, Host> savedAllocation;
+    private ShadowCapacityModel shadowCapacity;
 
     /**
      * The datacenter to try migrating VMs to.
@@ -110,7 +109,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     {
         super(findHostForVmFunction);
         this.underUtilizationThreshold = DEF_UNDERLOAD_THRESHOLD;
-        this.savedAllocation = new HashMap<>();
+        this.shadowCapacity = new ShadowCapacityModel();
         setVmSelectionPolicy(vmSelectionPolicy);
     }
 
@@ -121,15 +120,30 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The new placement is assessed over a {@link ShadowCapacityModel shadow capacity} of Hosts,
+     * so that VMs are not temporarily created into or destroyed from the actual Hosts
+     * during such an assessment.</p>
+     *
+     * @param vmList {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public Map<Vm, Host> getOptimizedAllocationMap(final List<? extends Vm> vmList) {
-        //@TODO See https://github.com/cloudsimplus/cloudsimplus/issues/94
         final var overloadedHosts = getOverloadedHosts();
         this.overloaded = !overloadedHosts.isEmpty();
         printOverUtilizedHosts(overloadedHosts);
 
-        final Map<Vm, Host> migrationMap = getMigrationMapFromOverloadedHosts(overloadedHosts);
-        updateMigrationMapFromUnderloadedHosts(overloadedHosts, migrationMap);
+        final Map<Vm, Host> migrationMap;
+        shadowCapacity.begin();
+        try {
+            migrationMap = getMigrationMapFromOverloadedHosts(overloadedHosts);
+            updateMigrationMapFromUnderloadedHosts(overloadedHosts, migrationMap);
+        } finally {
+            shadowCapacity.end();
+        }
 
         if (overloaded && migrationMap.isEmpty()) {
             hostSearchRetry();
@@ -176,13 +190,12 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
 
         /*
         During the computation of the new placement for VMs,
-        the current VM placement is changed temporarily, before the actual migration of VMs.
-        If VMs are being migrated from overloaded Hosts, they in fact already were removed
-        from such Hosts and moved to destination ones.
+        the shadow capacity of Hosts is changed, before the actual migration of VMs.
+        If VMs are being migrated from overloaded Hosts, they are already
+        considered to be removed from such Hosts and moved to destination ones.
         The target Host that maybe was shut down, might become underloaded too.
         This way, such Hosts are added to be ignored when
         looking for underloaded Hosts.
-        See https://github.com/cloudsimplus/cloudsimplus/issues/94
          */
         ignoredSourceHosts.addAll(migrationMap.values());
 
@@ -190,6 +203,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         final var ignoredTargetHosts = getIgnoredHosts(overloadedHosts, switchedOffHosts);
 
         final int numberOfHosts = getHostList().size();
+        final var underloadedHosts = getUnderloadedHostsQueue(ignoredSourceHosts);
 
         this.underloaded = false;
         while (true) {
@@ -197,7 +211,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
                 break;
             }
 
-            final var underloadedHost = getUnderloadedHost(ignoredSourceHosts);
+            final var underloadedHost = getUnderloadedHost(underloadedHosts, ignoredSourceHosts);
             if (Host.NULL.equals(underloadedHost)) {
                 break;
             }
@@ -277,24 +291,18 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     }
 
     /**
-     * Checks if a host will be over utilized after placing of a candidate VM.
+     * Checks if a host will <b>NOT</b> be over utilized after placing a candidate VM.
+     * It considers the entire VM MIPS capacity is requested after the VM is placed,
+     * so that a VM doesn't make the target Host overloaded, just to be migrated again.
      *
      * @param host the host to verify
      * @param vm the candidate vm
-     * @return true, if the host will be over utilized after VM placement;
+     * @return true, if the host will not be over utilized after VM placement;
      *         false otherwise
      */
     private boolean isNotHostOverloadedAfterAllocation(final Host host, final Vm vm) {
-        final var tempVm = new VmSimple(vm);
-
-        if (!host.createTemporaryVm(tempVm).fully()) {
-            return false;
-        }
-
-        final double usagePercent = getHostCpuPercentRequested(host);
-        final boolean notOverloadedAfterAllocation = !isHostOverloaded(host, usagePercent);
-        ((HostAbstract)host).destroyTemporaryVm(tempVm);
-        return notOverloadedAfterAllocation;
+        final double usagePercent = (getHostTotalRequestedMips(host) + vm.getTotalMipsCapacity()) / host.getTotalMipsCapacity();
+        return !isHostOverloaded(host, usagePercent);
     }
 
     /**
@@ -306,7 +314,33 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      */
     @Override
     public boolean isOverloaded(final Host host) {
-        return isHostOverloaded(host, host.getCpuPercentUtilization());
+        return isHostOverloaded(host, getHostCpuPercentUtilization(host));
+    }
+
+    /**
+     * Gets the percentage of CPU used by the VMs placed into a Host (in scale from 0 to 1).
+     * While a new VM placement is being assessed, it considers the VMs
+     * already selected to be migrated into or out of the Host.
+     *
+     * @param host the Host to get the CPU utilization
+     * @return the Host CPU utilization percentage
+     * @see Host#getCpuPercentUtilization()
+     */
+    protected double getHostCpuPercentUtilization(final Host host) {
+        return shadowCapacity.getCpuPercentUtilization(host);
+    }
+
+    /**
+     * Gets the total MIPS used by the VMs placed into a Host.
+     * While a new VM placement is being assessed, it considers the VMs
+     * already selected to be migrated into or out of the Host.
+     *
+     * @param host the Host to get the used MIPS
+     * @return the Host CPU utilization in MIPS
+     * @see Host#getCpuMipsUtilization()
+     */
+    protected double getHostCpuMipsUtilization(final Host host) {
+        return shadowCapacity.getCpuMipsUtilization(host);
     }
 
     /**
@@ -362,7 +396,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         final var newPredicate =
             predicate
                 .and(host -> !host.equals(vm.getHost()))
-                .and(host -> host.isSuitableForVm(vm))
+                .and(host -> shadowCapacity.isSuitableForVm(host, vm))
                 .and(host -> isNotHostOverloadedAfterAllocation(host, vm));
 
         return findHostForVmInternal(vm, newPredicate);
@@ -379,7 +413,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      */
     protected Optional<Host> findHostForVmInternal(final Vm vm, final Predicate<Host> predicate){
         final Comparator<Host> powerConsumptionComparator = comparingDouble(host -> powerDiffAfterAllocation(host, vm));
-        return getHostList().stream().filter(predicate).min(powerConsumptionComparator);
+        return getHostStream().filter(predicate).min(powerConsumptionComparator);
     }
 
     /**
@@ -401,40 +435,71 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * and each value is the Host to place it;
      * an empty map if no suitable target Hosts were found
      * or if there is no overloaded host.
-     * TODO See issue in {@link #getVmsToMigrateFromOverloadedHost(Host)}
      */
     private Map<Vm, Host> getMigrationMapFromOverloadedHosts(final Set<Host> overloadedHosts) {
+        final var migrationMap = new HashMap<Vm, Host>();
         if(overloadedHosts.isEmpty()) {
-            return Collections.emptyMap();
+            return migrationMap;
         }
 
-        saveAllocation();
-        final var migrationMap = new HashMap<Vm, Host>();
-        try {
-            final var vmsToMigrateList = getVmsToMigrateFromOverloadedHosts(overloadedHosts);
-            sortByCpuUtilization(vmsToMigrateList, getDatacenter().getSimulation().clock());
-
-            final var builder = new StringBuilder();
-            final var targetVmAllocationPolicy = targetMigrationDc.getVmAllocationPolicy();
-            for (final var vm : vmsToMigrateList) {
-                targetVmAllocationPolicy.findHostForVm(vm).ifPresent(targetHost -> {
-                    addVmToMigrationMap(migrationMap, vm, targetHost);
-                    appendVmMigrationMsgToStringBuilder(builder, vm, targetHost);
-                });
-            }
+        final var vmsToMigrateList = getVmsToMigrateFromOverloadedHosts(overloadedHosts);
+        sortByCpuUtilization(vmsToMigrateList, getDatacenter().getSimulation().clock());
 
-            if(!migrationMap.isEmpty()) {
-                LOGGER.info(
-                    "{}: {}: Reallocation of VMs from overloaded hosts: {}{}",
-                    getDatacenter().getSimulation().clockStr(), getClass().getSimpleName(), System.lineSeparator(), builder);
-            }
-        } finally {
-            restoreAllocation();
+        final var builder = new StringBuilder();
+        for (final var vm : vmsToMigrateList) {
+            findHostForVmOnTargetDc(vm).ifPresent(targetHost -> {
+                addVmToMigrationMap(migrationMap, vm, targetHost);
+                appendVmMigrationMsgToStringBuilder(builder, vm, targetHost);
+            });
+        }
+
+        if(!migrationMap.isEmpty()) {
+            LOGGER.info(
+                "{}: {}: Reallocation of VMs from overloaded hosts: {}{}",
+                getDatacenter().getSimulation().clockStr(), getClass().getSimpleName(), System.lineSeparator(), builder);
         }
 
         return migrationMap;
     }
 
+    /**
+     * Finds a Host to place a VM from an overloaded Host, using the policy
+     * of the {@link #targetMigrationDc}.
+     *
+     * @param vm the VM to find a Host to be migrated into
+     * @return an {@link Optional} containing a suitable Host to place the VM or an empty {@link Optional} if not found
+     * @see #withSharedShadowCapacity(VmAllocationPolicy, Supplier)
+     */
+    private Optional<Host> findHostForVmOnTargetDc(final Vm vm) {
+        final var targetVmAllocationPolicy = targetMigrationDc.getVmAllocationPolicy();
+        return withSharedShadowCapacity(targetVmAllocationPolicy, () -> targetVmAllocationPolicy.findHostForVm(vm));
+    }
+
+    /**
+     * Performs an operation on another {@link VmAllocationPolicy},
+     * making it use the {@link #shadowCapacity} of this policy
+     * (if it is also a {@link VmAllocationPolicyMigrationAbstract}) while the operation runs.
+     * This way, the VMs already selected to be migrated by this policy are considered by the other one.
+     *
+     * @param policy the policy to perform the operation on
+     * @param operation the operation to perform
+     * @param <T> the type of the operation result
+     * @return the operation result
+     */
+    <T> T withSharedShadowCapacity(final VmAllocationPolicy policy, final Supplier<T> operation) {
+        if (policy == this || !(policy instanceof VmAllocationPolicyMigrationAbstract otherPolicy)) {
+            return operation.get();
+        }
+
+        final var previousShadowCapacity = otherPolicy.shadowCapacity;
+        otherPolicy.shadowCapacity = shadowCapacity;
+        try {
+            return operation.get();
+        } finally {
+            otherPolicy.shadowCapacity = previousShadowCapacity;
+        }
+    }
+
     private void appendVmMigrationMsgToStringBuilder(final StringBuilder builder, final Vm vm, final Host targetHost) {
         if(LOGGER.isInfoEnabled()) {
             builder.append("      ").append(vm).append(" will be migrated from ")
@@ -464,6 +529,8 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
                 LOGGER.warn(
                     "{}: VmAllocationPolicy: A new Host, which isn't also underloaded or won't be overloaded, couldn't be found to migrate {}. Migration of VMs from the underloaded {} cancelled.",
                     getDatacenter().getSimulation().clockStr(), vm, vm.getHost());
+                //Releases the shadow capacity booked for the VMs previously placed
+                migrationMap.forEach((placedVm, targetHost) -> shadowCapacity.deallocate(targetHost, placedVm));
                 return new HashMap<>();
             }
             addVmToMigrationMap(migrationMap, vm, optionalHost.get());
@@ -485,13 +552,13 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
 
     private <T extends Host> void addVmToMigrationMap(final Map<Vm, T> migrationMap, final Vm vm, final T targetHost) {
         /*
-        Temporarily creates the VM into the target Host so that
+        Places the VM into the shadow capacity of the target Host so that
         when the next VM is got to be migrated, if the same Host
         is selected as destination, the resource to be
         used by the previous VM will be considered when
         assessing the suitability of such a Host for the next VM.
          */
-        targetHost.createTemporaryVm(vm);
+        shadowCapacity.allocate(targetHost, vm);
         migrationMap.put(vm, targetHost);
     }
 
@@ -511,23 +578,21 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     }
 
     private List<Vm> getVmsToMigrateFromOverloadedHost(final Host host) {
-        /*
-        @TODO The method doesn't just gets a list of VMs to migrate from an overloaded Host,
-        but it temporarily destroys VMs on such Hosts.
-        See https://github.com/cloudsimplus/cloudsimplus/issues/94
-        */
         final var vmsToMigrateList = new LinkedList<Vm>();
         while (true) {
-            final var optionalVm = getVmSelectionPolicy().getVmToMigrate(host);
-            if (optionalVm.isEmpty()) {
+            final var migratableVms = shadowCapacity.getMigratableVms(host);
+            final var optionalVm = getVmSelectionPolicy().getVmToMigrate(host, migratableVms);
+            /* Stops if a custom selection policy ignores the candidate VMs,
+             * returning a VM already selected, which would make the loop never end. */
+            if (optionalVm.isEmpty() || !migratableVms.contains(optionalVm.get()) || vmsToMigrateList.contains(optionalVm.get())) {
                 break;
             }
 
             final var vm = optionalVm.get();
             vmsToMigrateList.add(vm);
-            /*Temporarily destroys the selected VM into the overloaded Host so that
+            /*Removes the selected VM from the shadow capacity of the overloaded Host so that
             the loop gets VMs from such a Host until it is not overloaded anymore.*/
-            ((HostAbstract)host).destroyTemporaryVm(vm);
+            shadowCapacity.deallocate(host, vm);
             if (!isOverloaded(host)) {
                 break;
             }
@@ -578,27 +643,71 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     }
 
     /**
-     * Gets the most underloaded Host.
+     * Gets a queue of underloaded Hosts, ordered by their CPU utilization,
+     * so that the most underloaded Host is always at the head.
      * If a Host is underloaded but it has VMs migrating in,
-     * then it's not included in the returned List
+     * then it's not included in the returned queue
      * because the VMs to be migrated to move the Host from
      * the underload state already are in migration to it.
      * Likewise, if all VMs are migrating out, nothing has to be
      * done anymore. It just has to wait the VMs to finish
      * the migration.
      *
+     * <p>The queue is built just once for each new VM placement computation.
+     * The utilization of a Host just changes during such a computation
+     * when it's selected as source or target of some VM migration.
+     * In that case, the Host is added to the ignored ones,
+     * so that the utilization stored for the remaining Hosts is still valid.</p>
+     *
+     * @param excludedHosts the Hosts that have to be ignored when looking for the under utilized Host
+     * @return a queue of under utilized Hosts, with the most under utilized at the head
+     */
+    private Queue<UnderloadedHost> getUnderloadedHostsQueue(final Set<? extends Host> excludedHosts) {
+        final var queue = new PriorityQueue<>(UnderloadedHost.COMPARATOR);
+        int index = 0;
+        for (final Host host : getHostList()) {
+            if (!excludedHosts.contains(host) && host.isActive() && isUnderloaded(host) &&
+                host.getVmsMigratingIn().isEmpty() && notAllVmsAreMigratingOut(host))
+            {
+                queue.add(new UnderloadedHost(host, getHostCpuPercentUtilization(host), index));
+            }
+
+            index++;
+        }
+
+        return queue;
+    }
+
+    /**
+     * Gets the most underloaded Host from a queue,
+     * removing from it the Hosts that became ignored after the queue was built.
+     *
+     * @param underloadedHosts the queue of under utilized Hosts
      * @param excludedHosts the Hosts that have to be ignored when looking for the under utilized Host
      * @return the most under utilized host or {@link Host#NULL} if no Host is found
+     * @see #getUnderloadedHostsQueue(Set)
      */
-    private Host getUnderloadedHost(final Set<? extends Host> excludedHosts) {
-        return this.getHostList().stream()
-            .filter(host -> !excludedHosts.contains(host))
-            .filter(Host::isActive)
-            .filter(this::isUnderloaded)
-            .filter(host -> host.getVmsMigratingIn().isEmpty())
-            .filter(this::notAllVmsAreMigratingOut)
-            .min(comparingDouble(Host::getCpuPercentUtilization))
-            .orElse(Host.NULL);
+    private Host getUnderloadedHost(final Queue<UnderloadedHost> underloadedHosts, final Set<? extends Host> excludedHosts) {
+        while (!underloadedHosts.isEmpty()) {
+            final var host = underloadedHosts.poll().host();
+            if (!excludedHosts.contains(host)) {
+                return host;
+            }
+        }
+
+        return Host.NULL;
+    }
+
+    /**
+     * An entry of the underloaded Hosts queue.
+     * @param host the underloaded Host
+     * @param utilization the Host CPU utilization percentage when the queue was built
+     * @param index the Host index in the Host list, used to break ties
+     *              so that the first Host in the list is selected
+     */
+    private record UnderloadedHost(Host host, double utilization, int index) {
+        private static final Comparator<UnderloadedHost> COMPARATOR =
+            Comparator.comparingDouble(UnderloadedHost::utilization).thenComparingInt(UnderloadedHost::index);
     }
 
     private double getHostCpuPercentRequested(final Host host) {
@@ -606,14 +715,12 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
     }
 
     /**
-     * Gets the total MIPS that is currently being used by all VMs inside the Host.
+     * Gets the total MIPS that is currently being requested by all VMs inside the Host.
      * @param host
      * @return
      */
     private double getHostTotalRequestedMips(final Host host) {
-        return host.getVmList().stream()
-            .mapToDouble(Vm::getTotalCpuMipsRequested)
-            .sum();
+        return shadowCapacity.getCpuMipsRequested(host);
     }
 
     /**
@@ -628,51 +735,6 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
         return host.getVmList().stream().anyMatch(vm -> !vm.isInMigration());
     }
 
-    /**
-     * Saves the current map between a VM and the host where it is placed.
-     *
-     * @see #savedAllocation
-     */
-    private void saveAllocation() {
-        savedAllocation.clear();
-        for (final var host : getHostList()) {
-            for (final var vm : host.<VmAbstract>getVmList()) {
-                /* TODO: this VM loop has a quadratic wost-case complexity (when
-                    all Vms already in the VM list are migrating into this Host).
-                *  Instead of looping over the vmsMigratingIn list for every VM,
-                *  we could add a Host migratingIn attribute to the Vm.
-                * Then, for every VM on the Host, we check this VM attribute
-                * to see if the VM is migrating into the Host. */
-                if (!host.getVmsMigratingIn().contains(vm)) {
-                    savedAllocation.put(vm, host);
-                }
-            }
-        }
-    }
-
-    /**
-     * Restore VM allocation from the allocation history.
-     *  TODO: The allocation map only needs to be restored because
-     *  VMs are destroyed in order to assess a new VM placement.
-     *  After fixing this issue, there will be no need to restore VM mapping.
-     *  https://github.com/cloudsimplus/cloudsimplus/issues/94
-     *
-     * @see #savedAllocation
-     */
-    private void restoreAllocation() {
-        for (final var host : this.<HostAbstract>getHostList()) {
-            host.destroyAllVms();
-            host.reallocateMigratingInVms();
-        }
-
-        for (final var vm : savedAllocation.keySet()) {
-            final var host = savedAllocation.get(vm);
-            if (host.createTemporaryVm(vm).fully())
-                vm.setCreated(true);
-            else LOGGER.error("VmAllocationPolicy: Couldn't restore {} on {}", vm, host);
-        }
-    }
-
     /**
      * Gets the power consumption of a host after the supposed placement of a candidate VM.
      * The VM is not in fact placed at the host.
@@ -718,29 +780,7 @@ public abstract class VmAllocationPolicyMigrationAbstract extends VmAllocationPo
      * @return the utilization of the CPU in MIPS
      */
     protected double getUtilizationOfCpuMips(final Host host) {
-        double hostUtilizationMips = 0;
-        for (final var vm : host.getVmList()) {
-            final double additionalMips = additionalCpuUtilizationDuringMigration(host, vm);
-            hostUtilizationMips += additionalMips + host.getTotalAllocatedMipsForVm(vm);
-        }
-
-        return hostUtilizationMips;
-    }
-
-    /**
-     * Calculate additional potential CPU usage of a VM migrating into a given Host.
-     * @param host the Hosts that is being computed the current utilization of CPU MIPS
-     * @param vm a VM from that Host
-     * @return the additional amount of MIPS the Host will use if the VM is migrating into it, 0 otherwise
-     */
-    private double additionalCpuUtilizationDuringMigration(final Host host, final Vm vm) {
-        if (!host.getVmsMigratingIn().contains(vm)) {
-            return 0;
-        }
-
-        final double maxCpuUtilization = host.getVmScheduler().getMaxCpuUsagePercentDuringOutMigration();
-        final double migrationOverhead = host.getVmScheduler().getVmMigrationCpuOverhead();
-        return host.getTotalAllocatedMipsForVm(vm) * maxCpuUtilization / migrationOverhead;
+        return shadowCapacity.getAllocatedMips(host);
     }
 
     @Override
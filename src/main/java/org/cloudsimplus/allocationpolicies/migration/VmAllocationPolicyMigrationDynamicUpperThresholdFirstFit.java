@@ -63,7 +63,8 @@ public abstract class VmAllocationPolicyMigrationDynamicUpperThresholdFirstFit e
     @Override
     public boolean isOverloaded(final Host host) {
         if(getOverUtilizationThreshold(host) == Double.MAX_VALUE) {
-            return getFallbackVmAllocationPolicy().isOverloaded(host);
+            final var fallbackPolicy = getFallbackVmAllocationPolicy();
+            return withSharedShadowCapacity(fallbackPolicy, () -> fallbackPolicy.isOverloaded(host));
         }
 
         return super.isOverloaded(host);
@@ -15,7 +15,6 @@ import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.selectionpolicies.VmSelectionPolicy;
 import org.cloudsimplus.vms.Vm;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -90,19 +89,12 @@ public class VmAllocationPolicyMigrationFirstFitStaticThreshold extends VmAlloca
         /*It's ignoring the super class intentionally to avoid the additional filtering performed there
         * and to apply a different method to select the Host to place the VM.*/
 
-        final List<Host> hostList = getHostList();
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = hostList.size();
-        for (int i = 0; i < maxTries; i++) {
-            final Host host = hostList.get(lastHostIndex);
-            if (predicate.test(host)) {
-                return Optional.of(host);
-            }
-
-            lastHostIndex = ++lastHostIndex % getHostList().size();
+        final int hostIndex = findFirstHostIndex(lastHostIndex, predicate);
+        if (hostIndex < 0) {
+            return Optional.empty();
         }
 
-        return Optional.empty();
+        lastHostIndex = hostIndex;
+        return Optional.of(getHostList().get(hostIndex));
     }
 }
@@ -476,4 +476,24 @@ public interface DatacenterBroker extends SimEntity {
      * @see #isBatchVmCreation()
      */
     DatacenterBroker setBatchVmCreation(boolean enable);
+
+    /**
+     * {@return true of false} Checks if batch Cloudlet submission is enabled or not,
+     * to indicate if Cloudlets will be submitted to a Datacenter one-by-one
+     * or in batch (in a single submission event for all Cloudlets
+     * going to the same Datacenter after the same delay).
+     */
+    boolean isBatchCloudletSubmission();
+
+    /**
+     * Enables or disables batch Cloudlet submission.
+     * That reduces the number of events and Cloudlets processing updates
+     * when a large number of Cloudlets is submitted at once, such as when replaying traces.
+     * Since a single Cloudlets processing update is scheduled for each batch,
+     * Cloudlets finish times may be slightly different from the ones got
+     * when Cloudlets are submitted one-by-one.
+     * @param enable true of false to enable or disable
+     * @see #isBatchCloudletSubmission()
+     */
+    DatacenterBroker setBatchCloudletSubmission(boolean enable);
 }
@@ -34,6 +34,7 @@ import org.cloudsimplus.vms.VmSimple;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -64,6 +65,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private boolean batchVmCreation;
 
+    private boolean batchCloudletSubmission;
+
     /**
      * A List of registered event listeners for the onVmsCreatedListeners event.
      *
@@ -175,7 +178,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.vmCreation = new VmCreation();
         this.vmFailedList = new ArrayList<>();
         this.vmWaitingList = new ArrayList<>();
-        this.vmExecList = new ArrayList<>();
+        this.vmExecList = new VmExecList();
         this.vmCreatedList = new ArrayList<>();
         this.cloudletWaitingList = new ArrayList<>();
         this.cloudletFinishedList = new ArrayList<>();
@@ -891,6 +894,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         final var cloudlet = (Cloudlet) evt.getData();
         cloudletFinishedList.add(cloudlet);
         ((VmSimple) cloudlet.getVm()).addExpectedFreePesNumber(cloudlet.getPesNumber());
+        onVmExpectedFreePesChange(cloudlet.getVm());
         final String lifeTime = cloudlet.getLifeTime() == Double.MAX_VALUE ? "" : " (after defined lifetime expired)";
         LOGGER.info(
             "{}: {}: {} finished{} in {} and returned to broker.",
@@ -955,8 +959,13 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return delay > DEF_VM_DESTRUCTION_DELAY && vm.isIdleEnough(delay);
     }
 
+    /**
+     * {@inheritDoc}
+     * It's synchronized since VMs of Hosts processed concurrently may request it at the same time.
+     * @see org.cloudsimplus.datacenters.DatacenterSimple#setHostCountForParallelProcessing(int)
+     */
     @Override
-    public void requestShutdownWhenIdle() {
+    public synchronized void requestShutdownWhenIdle() {
         if (!shutdownRequested && isTimeToShutdownBroker()) {
             schedule(CloudSimTag.ENTITY_SHUTDOWN);
             shutdownRequested = true;
@@ -1030,6 +1039,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
          * Cloudlets in such new list were removed just after the loop,
          * degrading performance in large scale simulations. */
         int createdCloudlets = 0;
+        final var batches = new LinkedHashMap<CloudletSubmission, List<Cloudlet>>();
         for (final var iterator = cloudletWaitingList.iterator(); iterator.hasNext(); ) {
             final CloudletSimple cloudlet = (CloudletSimple)iterator.next();
             if (!cloudlet.getLastTriedDatacenter().equals(Datacenter.NULL)) {
@@ -1044,18 +1054,23 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             }
 
             ((VmSimple) lastSelectedVm).removeExpectedFreePesNumber(cloudlet.getPesNumber());
+            onVmExpectedFreePesChange(lastSelectedVm);
 
             cloudlet.setVm(lastSelectedVm);
             logCloudletCreationRequest(cloudlet);
             final Datacenter dc = getDatacenter(lastSelectedVm);
             final double totalDelay = cloudlet.getSubmissionDelay() + getVmStartupDelay(cloudlet);
-            send(dc, totalDelay, CloudSimTag.CLOUDLET_SUBMIT, cloudlet);
+            if(batchCloudletSubmission) {
+                batches.computeIfAbsent(new CloudletSubmission(dc, totalDelay), key -> new ArrayList<>()).add(cloudlet);
+            } else send(dc, totalDelay, CloudSimTag.CLOUDLET_SUBMIT, cloudlet);
             cloudlet.setLastTriedDatacenter(dc);
             cloudletCreatedList.add(cloudlet);
             iterator.remove();
             createdCloudlets++;
         }
 
+        //Sends a single submission request for all Cloudlets going to the same DC after the same delay
+        batches.forEach((submission, cloudlets) -> send(submission.dc(), submission.delay(), CloudSimTag.CLOUDLET_SUBMIT, cloudlets));
         allWaitingCloudletsSubmittedToVm(createdCloudlets);
         return createdCloudlets > 0;
     }
@@ -1182,6 +1197,57 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return (List<T>) new ArrayList<>(cloudletFinishedList);
     }
 
+    /**
+     * Cloudlets submitted to a Datacenter after a given delay,
+     * which are sent together when {@link #isBatchCloudletSubmission()} is enabled.
+     * @param dc the Datacenter to submit Cloudlets to
+     * @param delay the delay to submit the Cloudlets
+     */
+    private record CloudletSubmission(Datacenter dc, double delay) {}
+
+    /**
+     * Notifies the broker that a VM was added to or removed from the {@link #getVmExecList()}.
+     * Since such a list is also changed by other entities (such as Hosts when VMs are destroyed
+     * and Datacenters when VMs are migrated), sub-classes can override this method
+     * to keep track of running VMs without scanning the entire list.
+     *
+     * @param vm the VM added to or removed from the list
+     * @param added true if the VM was added, false if it was removed
+     */
+    protected void onVmExecListChange(final Vm vm, final boolean added) {/**/}
+
+    /**
+     * Notifies the broker that the {@link Vm#getExpectedFreePesNumber() expected number of free PEs}
+     * of a VM was changed, because a Cloudlet was mapped to it or a Cloudlet running on it has finished.
+     * Sub-classes can override this method to keep track of the VMs' available capacity.
+     *
+     * @param vm the VM that had its number of expected free PEs changed
+     */
+    protected void onVmExpectedFreePesChange(final Vm vm) {/**/}
+
+    /**
+     * A List of VMs that notifies the broker when VMs are added to or removed from it.
+     * @see #onVmExecListChange(Vm, boolean)
+     */
+    private final class VmExecList extends ArrayList<Vm> {
+        @Override
+        public boolean add(final Vm vm) {
+            super.add(vm);
+            onVmExecListChange(vm, true);
+            return true;
+        }
+
+        @Override
+        public boolean remove(final Object vm) {
+            if(super.remove(vm)) {
+                onVmExecListChange((Vm) vm, false);
+                return true;
+            }
+
+            return false;
+        }
+    }
+
     /**
      * Gets a Vm at a given index from the {@link #getVmExecList() list of created VMs}.
      *
@@ -28,6 +28,10 @@ import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.vms.Vm;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
@@ -36,10 +40,42 @@ import java.util.Comparator;
  * The Broker then places the submitted Vm's at the first Datacenter found.
  * If there isn't capacity in that one, it will try the other ones.
  *
+ * <p>Running VMs are indexed by their {@link Vm#getExpectedFreePesNumber() expected number of free PEs},
+ * so that the VM for a Cloudlet is selected in logarithmic time,
+ * instead of checking every running VM.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.3.8
  */
 public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
+    /**
+     * Running VMs sorted by their expected number of free PEs.
+     * VMs with the same number of free PEs are sorted in the order
+     * they were added to the {@link #getVmExecList()}.
+     */
+    private final NavigableSet<VmEntry> vmIndex;
+
+    /**
+     * The entry of each VM inside the {@link #vmIndex}.
+     */
+    private final Map<Vm, VmEntry> vmEntries;
+
+    /**
+     * The number of VMs added to the {@link #vmIndex} so far,
+     * used to define the order of VMs with the same number of free PEs.
+     */
+    private long vmEntriesCount;
+
+    /**
+     * An entry in the {@link #vmIndex}.
+     * @param freePes the VM expected number of free PEs when the entry was created
+     * @param order the order the VM was added to the {@link #getVmExecList()}
+     * @param vm the indexed VM
+     */
+    private record VmEntry(long freePes, long order, Vm vm) {
+        private static final Comparator<VmEntry> COMPARATOR =
+            Comparator.comparingLong(VmEntry::freePes).thenComparingLong(VmEntry::order);
+    }
 
     /**
      * Creates a DatacenterBroker object.
@@ -48,6 +84,8 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerBestFit(final CloudSimPlus simulation) {
         super(simulation);
+        this.vmIndex = new TreeSet<>(VmEntry.COMPARATOR);
+        this.vmEntries = new HashMap<>();
     }
 
     /**
@@ -61,11 +99,8 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmExecList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        final var entry = vmIndex.ceiling(new VmEntry(cloudlet.getPesNumber(), Long.MIN_VALUE, Vm.NULL));
+        final Vm mappedVm = entry == null ? Vm.NULL : entry.vm();
 
         if (Vm.NULL.equals(mappedVm)) {
             LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -78,4 +113,31 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
 
         return mappedVm;
     }
+
+    @Override
+    protected void onVmExecListChange(final Vm vm, final boolean added) {
+        final var entry = vmEntries.remove(vm);
+        if (entry != null) {
+            vmIndex.remove(entry);
+        }
+
+        if (added) {
+            addVmEntry(vm, vmEntriesCount++);
+        }
+    }
+
+    @Override
+    protected void onVmExpectedFreePesChange(final Vm vm) {
+        final var entry = vmEntries.remove(vm);
+        if (entry != null) {
+            vmIndex.remove(entry);
+            addVmEntry(vm, entry.order());
+        }
+    }
+
+    private void addVmEntry(final Vm vm, final long order) {
+        final var entry = new VmEntry(vm.getExpectedFreePesNumber(), order, vm);
+        vmIndex.add(entry);
+        vmEntries.put(vm, entry);
+    }
 }
@@ -27,6 +27,10 @@ import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.vms.Vm;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * A implementation of {@link DatacenterBroker} that uses a First Fit
  * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
@@ -34,6 +38,10 @@ import org.cloudsimplus.vms.Vm;
  * The Broker then places the submitted Vm's at the first Datacenter found.
  * If there isn't capacity in that one, it will try the other ones.
  *
+ * <p>The {@link Vm#getExpectedFreePesNumber() expected number of free PEs} of created VMs
+ * is indexed by a segment tree, so that the next VM able to run a Cloudlet
+ * is found in logarithmic time, instead of checking one VM after the other.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.6.0
  */
@@ -43,6 +51,17 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
      */
     private int lastVmIndex;
 
+    /**
+     * The expected number of free PEs of each VM in the {@link #getVmCreatedList()},
+     * in the order VMs are in that list.
+     */
+    private final FreePesTree freePesTree;
+
+    /**
+     * The index of each VM inside the {@link #getVmCreatedList()}.
+     */
+    private final Map<Vm, Integer> vmIndexes;
+
     /**
      * Creates a DatacenterBroker object.
      *
@@ -50,6 +69,8 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerFirstFit(final CloudSimPlus simulation) {
         super(simulation);
+        this.freePesTree = new FreePesTree();
+        this.vmIndexes = new HashMap<>();
     }
 
     /**
@@ -66,23 +87,22 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = getVmCreatedList().size();
-        for (int i = 0; i < maxTries; i++) {
-            final Vm vm = getVmCreatedList().get(lastVmIndex);
-            if (vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber()) {
-                LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
-                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
-                    vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
-                return vm;
-            }
+        indexNewCreatedVms();
+
+        /* Looks for the first Vm with capacity to place the Cloudlet, starting from the last selected one.
+         * If the end of the Vm list is reached, starts from the beginning. */
+        int vmIndex = freePesTree.findFirst(lastVmIndex, cloudlet.getPesNumber());
+        if (vmIndex < 0) {
+            vmIndex = freePesTree.findFirst(0, cloudlet.getPesNumber());
+        }
 
-            /* If it gets here, the previous Vm doesn't have capacity to place the Cloudlet.
-             * Then, moves to the next Vm.
-             * If the end of the Vm list is reached, starts from the beginning,
-             * until the max number of tries.*/
-            lastVmIndex = ++lastVmIndex % getVmCreatedList().size();
+        if (vmIndex >= 0) {
+            lastVmIndex = vmIndex;
+            final Vm vm = getVmCreatedList().get(vmIndex);
+            LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
+                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
+                vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
+            return vm;
         }
 
         LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -91,5 +111,93 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
         return Vm.NULL;
     }
 
+    /**
+     * Adds to the {@link #freePesTree} the VMs created since the last time a Cloudlet was mapped.
+     * Since VMs are never removed from the {@link #getVmCreatedList()}, just the
+     * ones at the end of the list need to be indexed.
+     */
+    private void indexNewCreatedVms() {
+        final var vmCreatedList = getVmCreatedList();
+        for (int i = freePesTree.size(); i < vmCreatedList.size(); i++) {
+            final Vm vm = vmCreatedList.get(i);
+            vmIndexes.put(vm, i);
+            freePesTree.add(vm.getExpectedFreePesNumber());
+        }
+    }
+
+    @Override
+    protected void onVmExpectedFreePesChange(final Vm vm) {
+        final Integer vmIndex = vmIndexes.get(vm);
+        if (vmIndex != null) {
+            freePesTree.set(vmIndex, vm.getExpectedFreePesNumber());
+        }
+    }
+
+    /**
+     * A segment tree storing the maximum number of free PEs
+     * among the VMs in each range of the {@link #getVmCreatedList()}.
+     */
+    private static final class FreePesTree {
+        /**
+         * The tree nodes, where the node i has children 2i and 2i+1,
+         * and the leaves (starting at {@link #capacity}) are the values of each VM.
+         */
+        private long[] nodes = {-1, -1};
+        private int capacity = 1;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void add(final long freePes) {
+            if (size == capacity) {
+                grow();
+            }
 
+            set(size++, freePes);
+        }
+
+        void set(final int index, final long freePes) {
+            int node = index + capacity;
+            nodes[node] = freePes;
+            for (node /= 2; node > 0; node /= 2) {
+                nodes[node] = Math.max(nodes[2 * node], nodes[2 * node + 1]);
+            }
+        }
+
+        /**
+         * Finds the first index, starting from a given one, with at least a given number of free PEs.
+         * @param fromIndex the index to start looking for
+         * @param minFreePes the minimum number of free PEs required
+         * @return the index found or -1 if there is no such an index
+         */
+        int findFirst(final int fromIndex, final long minFreePes) {
+            return findFirst(1, 0, capacity - 1, fromIndex, minFreePes);
+        }
+
+        private int findFirst(final int node, final int first, final int last, final int fromIndex, final long minFreePes) {
+            if (last < fromIndex || nodes[node] < minFreePes) {
+                return -1;
+            }
+
+            if (first == last) {
+                return first;
+            }
+
+            final int middle = (first + last) / 2;
+            final int index = findFirst(2 * node, first, middle, fromIndex, minFreePes);
+            return index >= 0 ? index : findFirst(2 * node + 1, middle + 1, last, fromIndex, minFreePes);
+        }
+
+        private void grow() {
+            final long[] leaves = Arrays.copyOfRange(nodes, capacity, capacity + size);
+            capacity *= 2;
+            nodes = new long[2 * capacity];
+            Arrays.fill(nodes, -1);
+            for (int i = 0; i < leaves.length; i++) {
+                set(i, leaves[i]);
+            }
+        }
+    }
 }
@@ -85,6 +85,8 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public Datacenter getLastSelectedDc() { return Datacenter.NULL; }
     @Override public boolean isBatchVmCreation() { return false; }
     @Override public DatacenterBroker setBatchVmCreation(boolean enable) { return this; }
+    @Override public boolean isBatchCloudletSubmission() { return false; }
+    @Override public DatacenterBroker setBatchCloudletSubmission(boolean enable) { return this; }
     @Override public boolean isShutdownWhenIdle() { return false; }
     @Override public DatacenterBroker setShutdownWhenIdle(boolean shutdownWhenIdle) { return this; }
     @Override public DatacenterBroker setVmComparator(Comparator<Vm> comparator) { return this; }
@@ -21,7 +21,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -88,6 +91,39 @@ abstract class CloudSim implements Simulation {
      */
     private final DeferredQueue deferred;
 
+    /**
+     * A buffer for the events scheduled to the same time,
+     * which are removed at once from the {@link #future} queue to be processed.
+     */
+    private final List<SimEvent> sameTimeEvents;
+
+    /**
+     * The index of the event from the {@link #sameTimeEvents} list that is being processed.
+     * Events after it are still pending and must be considered as future events.
+     */
+    private int sameTimeEventIndex;
+
+    /**
+     * The pool used to reuse processed events when event pooling is enabled.
+     * @see #setEventPoolingEnabled(boolean)
+     */
+    @Getter
+    private final EventPool eventPool;
+
+    /**
+     * The events held back by each thread
+     * while running {@link #runConcurrently(ForkJoinPool, List, ToDoubleFunction)},
+     * which will be sent when all elements are processed.
+     */
+    private final ThreadLocal<List<HeldEvent>> heldEvents = new ThreadLocal<>();
+
+    /**
+     * An event sent while running a function concurrently.
+     * @param evt the event sent
+     * @param first indicates if the event was sent to the beginning of the queue
+     */
+    private record HeldEvent(SimEvent evt, boolean first) {}
+
     /** @see #clock() */
     private double clock;
 
@@ -143,11 +179,29 @@ abstract class CloudSim implements Simulation {
      * @param minTimeBetweenEvents the minimal period between events.
      * Events within shorter periods after the last event are discarded.
      * @see CloudInformationService
+     * @see #CloudSim(double, FutureQueueType)
      */
     public CloudSim(final double minTimeBetweenEvents) {
+        this(minTimeBetweenEvents, FutureQueueType.TREE_SET);
+    }
+
+    /**
+     * Creates a CloudSim simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter,
+     * using a given data structure to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events.
+     * Events within shorter periods after the last event are discarded.
+     * @param futureQueueType the type of data structure used to store future events
+     * @see CloudInformationService
+     */
+    public CloudSim(final double minTimeBetweenEvents, @NonNull final FutureQueueType futureQueueType) {
         this.entityList = new ArrayList<>();
-        this.future = new FutureQueue();
+        this.future = new FutureQueue(futureQueueType);
         this.deferred = new DeferredQueue();
+        this.sameTimeEvents = new ArrayList<>();
+        this.eventPool = new EventPool(this);
         this.waitPredicates = new HashMap<>();
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
@@ -190,8 +244,12 @@ abstract class CloudSim implements Simulation {
 
         shutdownEntities();
         running = false;
+        notifyOnSimulationFinishListeners();
 
         printSimulationFinished();
+        if(isEventPoolingEnabled()) {
+            LOGGER.info("{}{}", eventPool, System.lineSeparator());
+        }
     }
 
     /**
@@ -269,6 +327,8 @@ abstract class CloudSim implements Simulation {
 
     protected abstract void notifyOnSimulationStartListeners();
 
+    protected abstract void notifyOnSimulationFinishListeners();
+
     private boolean logSimulationAborted() {
         if (!abortRequested) {
             return false;
@@ -467,16 +527,54 @@ abstract class CloudSim implements Simulation {
     }
 
     private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
-        processEvent(firstEvent);
-        future.remove(firstEvent);
+        while(!future.isEmpty() && future.first().getTime() == firstEvent.getTime()) {
+            sameTimeEvents.clear();
+            future.pollFirstEvents(sameTimeEvents);
+            processSameTimeEvents();
+        }
+    }
 
-        while(!future.isEmpty()) {
-            final SimEvent evt = future.first();
-            if(evt.getTime() != firstEvent.getTime())
+    /**
+     * Processes the {@link #sameTimeEvents} removed at once from the {@link #future} queue.
+     * If the processing of an event adds a new one to the queue that must be processed
+     * before the remaining events in the list, such events are added back to the queue
+     * to be processed in the correct order.
+     * While an event is processed, the remaining ones are still considered future events
+     * (they can be canceled and are included in future events queries).
+     * @see #pendingSameTimeEvents()
+     */
+    private void processSameTimeEvents() {
+        for (sameTimeEventIndex = 0; sameTimeEventIndex < sameTimeEvents.size(); sameTimeEventIndex++) {
+            final long addedEvents = future.getAddedEventsNumber();
+            processEvent(sameTimeEvents.get(sameTimeEventIndex));
+            if (future.getAddedEventsNumber() != addedEvents && isFirstFutureEventBefore(sameTimeEventIndex + 1)) {
+                future.addEventsBack(pendingSameTimeEvents());
                 break;
-            processEvent(evt);
-            future.remove(evt);
+            }
         }
+
+        sameTimeEvents.clear();
+    }
+
+    /**
+     * Gets the events from the {@link #sameTimeEvents} list which were removed from the {@link #future} queue,
+     * but were not processed yet.
+     * Removing events from the returned list removes them from the {@link #sameTimeEvents}.
+     * @return a view of the pending events inside the {@link #sameTimeEvents} list
+     */
+    private List<SimEvent> pendingSameTimeEvents() {
+        final int size = sameTimeEvents.size();
+        return sameTimeEvents.subList(Math.min(sameTimeEventIndex + 1, size), size);
+    }
+
+    /**
+     * Checks if the first event in the {@link #future} queue must be processed
+     * before a given event in the {@link #sameTimeEvents} list.
+     * @param index index of the event in the list
+     * @return true if the first future event must be processed before, false otherwise
+     */
+    private boolean isFirstFutureEventBefore(final int index) {
+        return index < sameTimeEvents.size() && !future.isEmpty() && future.first().compareTo(sameTimeEvents.get(index)) < 0;
     }
 
     /**
@@ -506,11 +604,15 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void send(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        send(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        send(eventPool.acquire(delay, src, dest, tag, data));
     }
 
     @Override
     public void send(@NonNull final SimEvent evt) {
+        if(holdEvent(evt, false))
+            return;
+
+        eventPool.checkSend(evt);
         //Events with a negative tag have higher priority
         if(evt.getTag() < 0)
             future.addEventFirst(evt);
@@ -519,14 +621,69 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(final SimEntity src, final SimEntity dest, final double delay, final int tag, final Object data) {
-        sendFirst(new CloudSimEvent(SimEvent.Type.SEND, delay, src, dest, tag, data));
+        sendFirst(eventPool.acquire(delay, src, dest, tag, data));
     }
 
     @Override
     public void sendFirst(SimEvent evt) {
+        if(holdEvent(evt, true))
+            return;
+
+        eventPool.checkSend(evt);
         future.addEventFirst(evt);
     }
 
+    /**
+     * Holds back an event sent by a function running concurrently,
+     * if the current thread is running such a function.
+     * @param evt the event being sent
+     * @param first indicates if the event is sent to the beginning of the queue
+     * @return true if the event was held back, false if it must be sent right away
+     */
+    private boolean holdEvent(final SimEvent evt, final boolean first) {
+        final var events = heldEvents.get();
+        if(events == null)
+            return false;
+
+        events.add(new HeldEvent(evt, first));
+        return true;
+    }
+
+    @Override
+    public <T> double[] runConcurrently(
+        @NonNull final ForkJoinPool pool,
+        @NonNull final List<? extends T> list,
+        @NonNull final ToDoubleFunction<T> function)
+    {
+        final double[] results = new double[list.size()];
+        final var eventsByElement = new ArrayList<List<HeldEvent>>(Collections.nCopies(list.size(), List.of()));
+        pool.submit(() -> IntStream.range(0, list.size()).parallel().forEach(i -> {
+            final var events = new ArrayList<HeldEvent>();
+            /* A worker blocked inside the function may run (steal) the task of another element.
+             * This way, the events list of the interrupted task must be restored when the stolen one finishes. */
+            final var previousEvents = heldEvents.get();
+            heldEvents.set(events);
+            try {
+                results[i] = function.applyAsDouble(list.get(i));
+            } finally {
+                if(previousEvents == null)
+                    heldEvents.remove();
+                else heldEvents.set(previousEvents);
+            }
+            eventsByElement.set(i, events);
+        })).join();
+
+        for (final var events : eventsByElement) {
+            for (final var held : events) {
+                if(held.first())
+                    sendFirst(held.evt());
+                else send(held.evt());
+            }
+        }
+
+        return results;
+    }
+
     @Override
     public void wait(final CloudSimEntity src, final Predicate<SimEvent> predicate) {
         src.setState(SimEntity.State.WAITING);
@@ -538,63 +695,58 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
-        }
-
-        return evt;
+        return deferred.removeFirst(dest, predicate);
     }
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
-    }
-
-    /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @param dest id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
-     */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
+        return deferred.stream(dest).filter(predicate).findFirst().orElse(SimEvent.NULL);
     }
 
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
         final SimEvent canceled =
-            future.stream()
-                  .filter(isEventSourceEqualsTo(predicate, src))
-                  .findFirst()
+            Stream.concat(futureEventsFromSource(src, predicate), pendingSameTimeEventsFromSource(src))
+                  .filter(predicate)
+                  .min(Comparator.naturalOrder())
                   .orElse(SimEvent.NULL);
-        future.remove(canceled);
+        if (!future.remove(canceled)) {
+            pendingSameTimeEvents().remove(canceled);
+        }
+
         return canceled;
     }
 
     @Override
     public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final int previousSize = future.size();
-        future.removeIf(isEventSourceEqualsTo(predicate, src));
-        return previousSize < future.size();
+        final List<SimEvent> canceled = futureEventsFromSource(src, predicate).filter(predicate).toList();
+        final boolean canceledPending = pendingSameTimeEvents().removeIf(evt -> evt.getSource() == src && predicate.test(evt));
+        return future.removeAll(canceled) | canceledPending;
     }
 
-    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
-        return predicate.and(evt -> evt.getSource().equals(src));
+    /**
+     * Gets a stream of the pending {@link #sameTimeEvents} sent by a given entity.
+     * @param src the entity that sent the events
+     * @return a stream of events, that still have to be filtered by some predicate
+     * @see #pendingSameTimeEvents()
+     */
+    private Stream<SimEvent> pendingSameTimeEventsFromSource(final SimEntity src) {
+        return pendingSameTimeEvents().stream().filter(evt -> evt.getSource() == src);
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
+     * Gets a stream of the future events sent by a given entity,
+     * using the {@link FutureQueue} index to avoid traversing the entire queue.
+     * If the predicate is a {@link PredicateType}, just events with the tag it defines are returned.
      *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
+     * @param src the entity that sent the events
+     * @param predicate the predicate that will be used to select events
+     * @return a stream of events (in no particular order), that still have to be filtered by the predicate
      */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
+    private Stream<SimEvent> futureEventsFromSource(final SimEntity src, final Predicate<SimEvent> predicate) {
+        return predicate instanceof PredicateType type ?
+                future.streamBySource(src, type.tag()) :
+                future.streamBySource(src);
     }
 
     /**
@@ -658,7 +810,8 @@ abstract class CloudSim implements Simulation {
 
         final var eventPredicate = waitPredicates.get(destEnt);
         if (eventPredicate == null || eventPredicate.test(evt)) {
-            destEnt.setEventBuffer(new CloudSimEvent(evt));
+            //A pooled event is just released after processed, so it doesn't need to be cloned
+            destEnt.setEventBuffer(isEventPoolingEnabled() ? evt : new CloudSimEvent(evt));
             destEnt.setState(SimEntity.State.RUNNABLE);
             waitPredicates.remove(destEnt);
             return;
@@ -767,12 +920,14 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public long getNumberOfFutureEvents(final Predicate<SimEvent> predicate){
-        return future.stream().filter(predicate).count();
+        return future.unorderedStream().filter(predicate).count() +
+               pendingSameTimeEvents().stream().filter(predicate).count();
     }
 
     @Override
     public boolean isThereAnyFutureEvt(final Predicate<SimEvent> predicate){
-        return future.stream().anyMatch(predicate);
+        return future.unorderedStream().anyMatch(predicate) ||
+               pendingSameTimeEvents().stream().anyMatch(predicate);
     }
 
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
@@ -789,7 +944,7 @@ abstract class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().getTime() >= pauseAt;
+        return future.first().getTime() >= pauseAt;
     }
 
     @Override
@@ -806,12 +961,42 @@ abstract class CloudSim implements Simulation {
         return future.getMaxEventsNumber();
     }
 
+    /** Gets the type of data structure used to store events in the {@link FutureQueue} */
+    public FutureQueueType getFutureQueueType() {
+        return future.getType();
+    }
+
     /** Gets the total number of events generated in the {@link FutureQueue} */
     public long getGeneratedEventsNumber() {
         return future.getSerial();
     }
 
+    /**
+     * Enables or disables event pooling, which reuses processed {@link CloudSimEvent}s
+     * instead of creating new ones for every message sent.
+     * That reduces memory allocation for long simulations,
+     * but requires entities and listeners not to keep references to events after processing them
+     * (unless they call {@link EventPool#pin(SimEvent)}).
+     *
+     * @param enable true to enable event pooling, false to disable
+     * @return this simulation
+     * @see #getEventPool()
+     */
+    public Simulation setEventPoolingEnabled(final boolean enable) {
+        eventPool.setEnabled(enable);
+        return this;
+    }
+
+    /**
+     * Checks if event pooling is enabled.
+     * @return true if enabled, false otherwise
+     * @see #setEventPoolingEnabled(boolean)
+     */
+    public boolean isEventPoolingEnabled() {
+        return eventPool.isEnabled();
+    }
+
     public boolean noFutureEvents(){
-        return future.isEmpty();
+        return future.isEmpty() && pendingSameTimeEvents().isEmpty();
     }
 }
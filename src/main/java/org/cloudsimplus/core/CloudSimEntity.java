@@ -112,7 +112,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        return schedule(newEvent(delay, dest, tag, data));
     }
 
     @Override
@@ -145,6 +145,17 @@ public abstract class CloudSimEntity implements SimEntity {
         return false;
     }
 
+    /**
+     * Creates an event to be sent from this entity,
+     * reusing a processed event if event pooling is enabled.
+     * @see CloudSim#setEventPoolingEnabled(boolean)
+     */
+    private CloudSimEvent newEvent(final double delay, final SimEntity dest, final int tag, final Object data) {
+        return simulation instanceof CloudSim sim && sim.isEventPoolingEnabled() ?
+                    sim.getEventPool().acquire(delay, this, dest, tag, data) :
+                    new CloudSimEvent(delay, this, dest, tag, data);
+    }
+
     /**
      * If the simulation has finished and an  {@link CloudSimTag#SIMULATION_END}
      * message is sent, it has to be processed to enable entities to shut down.
@@ -221,7 +232,7 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final var evt = new CloudSimEvent(delay, this, dest, tag, data);
+        final var evt = newEvent(delay, dest, tag, data);
         if (canSendEvent(evt)) {
             simulation.sendFirst(evt);
         }
@@ -319,6 +330,7 @@ public abstract class CloudSimEntity implements SimEntity {
 
         while (evt != SimEvent.NULL) {
             processEvent(evt);
+            releaseEvent(evt);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -329,6 +341,16 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Returns a processed event to the {@link EventPool} if event pooling is enabled.
+     * @param evt the processed event
+     */
+    private void releaseEvent(final SimEvent evt) {
+        if (simulation instanceof CloudSim sim && sim.isEventPoolingEnabled()) {
+            sim.getEventPool().release(evt);
+        }
+    }
+
     @Override
     public SimEntity setName(@NonNull final String name) throws IllegalArgumentException {
         if (name.isBlank()) {
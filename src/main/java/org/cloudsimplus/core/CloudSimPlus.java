@@ -24,6 +24,7 @@
 package org.cloudsimplus.core;
 
 import lombok.NonNull;
+import org.cloudsimplus.core.events.FutureQueueType;
 import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -46,6 +47,7 @@ public final class CloudSimPlus extends CloudSim {
     private final Set<EventListener<EventInfo>> onSimulationPauseListeners;
     private final Set<EventListener<EventInfo>> onClockTickListeners;
     private final Set<EventListener<EventInfo>> onSimulationStartListeners;
+    private final Set<EventListener<EventInfo>> onSimulationFinishListeners;
 
     /**
      * Creates a CloudSim Plus simulation.
@@ -68,11 +70,42 @@ public final class CloudSimPlus extends CloudSim {
      * @see CloudInformationService
      */
     public CloudSimPlus(final double minTimeBetweenEvents) {
-        super(minTimeBetweenEvents);
+        this(minTimeBetweenEvents, FutureQueueType.TREE_SET);
+    }
+
+    /**
+     * Creates a CloudSim Plus simulation that uses a given data structure
+     * to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param futureQueueType the type of data structure used to store future events
+     * @see CloudInformationService
+     * @see #CloudSimPlus(double, FutureQueueType)
+     */
+    public CloudSimPlus(final FutureQueueType futureQueueType) {
+        this(DEF_MIN_TIME_BETWEEN_EVENTS, futureQueueType);
+    }
+
+    /**
+     * Creates a CloudSim Plus simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter,
+     * using a given data structure to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events.
+     * Events within shorter periods after the last event are discarded.
+     * @param futureQueueType the type of data structure used to store future events.
+     *                        All types provide the same event ordering,
+     *                        but different performance for large simulations.
+     * @see CloudInformationService
+     */
+    public CloudSimPlus(final double minTimeBetweenEvents, final FutureQueueType futureQueueType) {
+        super(minTimeBetweenEvents, futureQueueType);
         this.onEventProcessingListeners = new HashSet<>();
         this.onSimulationPauseListeners = new HashSet<>();
         this.onClockTickListeners = new HashSet<>();
         this.onSimulationStartListeners = new HashSet<>();
+        this.onSimulationFinishListeners = new HashSet<>();
         this.clockQueue = new CircularTimeQueue(this);
     }
 
@@ -99,6 +132,8 @@ public final class CloudSimPlus extends CloudSim {
     protected void processEvent(SimEvent evt) {
         super.processEvent(evt);
         for (final var listener : onEventProcessingListeners) {
+            //Listeners may keep a reference to the event, so it cannot be reused
+            getEventPool().pin(evt);
             listener.update(evt);
         }
     }
@@ -138,6 +173,11 @@ public final class CloudSimPlus extends CloudSim {
         }
     }
 
+    @Override
+    protected void notifyOnSimulationFinishListeners() {
+        notifyEventListeners(onSimulationFinishListeners, clock());
+    }
+
     @Override
     public Simulation addOnSimulationPauseListener(@NonNull final EventListener<EventInfo> listener) {
         this.onSimulationPauseListeners.add(listener);
@@ -150,6 +190,12 @@ public final class CloudSimPlus extends CloudSim {
         return this;
     }
 
+    @Override
+    public Simulation addOnSimulationFinishListener(@NonNull final EventListener<EventInfo> listener) {
+        this.onSimulationFinishListeners.add(listener);
+        return this;
+    }
+
     @Override
     public boolean removeOnSimulationPauseListener(@NonNull final EventListener<EventInfo> listener) {
         return this.onSimulationPauseListeners.remove(listener);
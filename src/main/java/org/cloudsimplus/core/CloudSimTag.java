@@ -108,7 +108,8 @@ public class CloudSimTag{
      * Denotes the submission of a Cloudlet. This tag is normally used between
      * a DatacenterBroker and Datacenter entity.
      * When an event of this type is sent, the {@link SimEvent#getData()}
-     * must be a {@link Cloudlet} object.
+     * must be a {@link Cloudlet} object or a List of Cloudlets
+     * (when {@link org.cloudsimplus.brokers.DatacenterBroker#isBatchCloudletSubmission()} is enabled).
      */
     public static final int CLOUDLET_SUBMIT = BASE + 16;
 
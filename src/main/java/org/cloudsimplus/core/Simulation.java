@@ -18,7 +18,9 @@ import org.cloudsimplus.vms.VmGroup;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * An interface to be implemented by a class that manages simulation
@@ -238,6 +240,18 @@ public interface Simulation {
 
     Simulation addOnSimulationStartListener(EventListener<EventInfo> listener);
 
+    /**
+     * Adds an {@link EventListener} object that will be notified when the simulation finishes,
+     * after all entities are shut down.
+     * It can be used to release resources (such as open files) used along the simulation execution.
+     * When this Listener is notified, it will receive an {@link EventInfo} informing
+     * the time the simulation finished.
+     *
+     * @param listener the event listener to add
+     * @return this simulation
+     */
+    Simulation addOnSimulationFinishListener(EventListener<EventInfo> listener);
+
     /**
      * Removes a listener from the onSimulationPausedListener List.
      *
@@ -382,6 +396,25 @@ public interface Simulation {
      */
     void sendNow(SimEntity src, SimEntity dest, int tag, Object data);
 
+    /**
+     * Concurrently applies a function to every element of a list,
+     * such as the {@link org.cloudsimplus.hosts.Host}s of a {@link Datacenter}.
+     * The events sent while the function is running are held back
+     * and just sent after all elements are processed, following the list order.
+     * This way, the order of events is the same as if the function was applied
+     * sequentially, making the simulation results reproducible.
+     *
+     * <p><b>WARNING:</b> The function must change just the state of the element given to it,
+     * since elements are processed by multiple threads at the same time.</p>
+     *
+     * @param pool the pool used to run the function in parallel
+     * @param list the list of elements to process
+     * @param function the function to apply to each element
+     * @param <T> the type of the elements
+     * @return an array with the values returned by the function for each element, in the list order
+     */
+    <T> double[] runConcurrently(ForkJoinPool pool, List<? extends T> list, ToDoubleFunction<T> function);
+
     /**
      * Runs the simulation for a specific period of time and then immediately returns.
      * In order to complete the whole simulation you need to invoke this method multiple times
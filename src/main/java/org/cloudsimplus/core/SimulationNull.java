@@ -8,7 +8,9 @@ import org.cloudsimplus.network.topologies.NetworkTopology;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
 
 /**
  * A class that implements the Null Object Design Pattern for {@link Simulation}
@@ -53,6 +55,7 @@ final class SimulationNull implements Simulation {
         return this;
     }
     @Override public Simulation addOnSimulationStartListener(EventListener<EventInfo> listener) { return this; }
+    @Override public Simulation addOnSimulationFinishListener(EventListener<EventInfo> listener) { return this; }
     @Override public boolean removeOnSimulationPauseListener(EventListener<EventInfo> listener) {
         return false;
     }
@@ -78,6 +81,9 @@ final class SimulationNull implements Simulation {
     @Override public void sendFirst(SimEvent evt) {/**/}
     @Override public void sendFirst(SimEntity src, SimEntity dest, double delay, int tag, Object data) {/**/}
     @Override public void sendNow(SimEntity src, SimEntity dest, int tag, Object data) {/**/}
+    @Override public <T> double[] runConcurrently(ForkJoinPool pool, List<? extends T> list, ToDoubleFunction<T> function) {
+        return new double[0];
+    }
     @Override public double runFor(double interval) { return 0; }
     @Override public Simulation addOnEventProcessingListener(EventListener<SimEvent> listener) {
         return this;
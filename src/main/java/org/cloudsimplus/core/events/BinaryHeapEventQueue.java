@@ -0,0 +1,126 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SortedEventQueue} backed by an array-based binary heap
+ * (a {@link PriorityQueue}).
+ * Adding and polling events cost O(log n) but, differently from
+ * the {@link TreeSetEventQueue}, no node is allocated for each stored event.
+ *
+ * <p>Since the heap just ensures the first element is the smallest one,
+ * {@link #iterator()} and {@link #stream()} sort a copy of the heap.
+ * Removing an arbitrary event (which isn't the first one) costs O(n).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see FutureQueueType#BINARY_HEAP
+ */
+public class BinaryHeapEventQueue implements SortedEventQueue {
+    private final PriorityQueue<SimEvent> heap = new PriorityQueue<>();
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        heap.add(newEvent);
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return sortedList().iterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return sortedList().stream();
+    }
+
+    @Override
+    public Stream<SimEvent> unorderedStream() {
+        return heap.stream();
+    }
+
+    private List<SimEvent> sortedList() {
+        final var list = new ArrayList<>(heap);
+        Collections.sort(list);
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        return heap.element();
+    }
+
+    @Override
+    public SimEvent pollFirst() throws NoSuchElementException {
+        return heap.remove();
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        return heap.remove(event);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since removing an arbitrary event from the heap costs O(n),
+     * all the given events are removed in a single pass over the heap.
+     *
+     * @param events {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        if (events.size() == 1) {
+            return heap.remove(events.iterator().next());
+        }
+
+        final var eventSet = Collections.newSetFromMap(new IdentityHashMap<SimEvent, Boolean>());
+        eventSet.addAll(events);
+        return heap.removeIf(eventSet::contains);
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        return heap.removeIf(predicate);
+    }
+
+    @Override
+    public void clear() {
+        heap.clear();
+    }
+}
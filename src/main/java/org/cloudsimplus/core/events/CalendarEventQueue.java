@@ -0,0 +1,259 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SortedEventQueue} implementing the Calendar Queue proposed by R. Brown,
+ * whose enqueue and dequeue operations are close to O(1) when event times are evenly spread
+ * over the buckets, but degrade when lots of events fall into the same bucket
+ * (since each bucket is a sorted list).
+ *
+ * <p>Events are stored into an array of buckets (the days of a year),
+ * each one storing events scheduled to a given time interval (the bucket width).
+ * An event is stored at the bucket {@code floor(time/width) mod buckets}.
+ * The queue is resized (and the bucket width is recomputed by sampling
+ * the earliest events) when the number of events becomes too high or too low
+ * for the number of buckets.
+ * Events with the same time and tag are kept in FIFO order inside a bucket,
+ * so that lots of events scheduled to the same time are cheaply enqueued and dequeued.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see FutureQueueType#CALENDAR
+ * @see <a href="https://doi.org/10.1145/63039.63045">R. Brown, "Calendar queues: a fast O(1) priority queue implementation for the simulation event set problem," Communications of the ACM, 1988</a>
+ */
+public class CalendarEventQueue implements SortedEventQueue {
+    /** Minimum number of buckets (must be a power of 2). */
+    private static final int MIN_BUCKETS = 16;
+
+    /** Number of earliest events sampled to compute the bucket width when the queue is resized. */
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    private SortedEventList[] buckets;
+
+    /** Mask to compute the index of a bucket from a virtual bucket number. */
+    private int mask;
+
+    private double width;
+
+    /**
+     * The virtual bucket number (the time divided by the bucket width)
+     * where the first event of the queue is.
+     * All events have a virtual bucket number equal or greater than this one.
+     */
+    private long currentVirtualBucket;
+
+    private int size;
+
+    /**
+     * Creates a Calendar Queue.
+     */
+    public CalendarEventQueue() {
+        this.width = 1;
+        this.buckets = newBuckets(MIN_BUCKETS);
+    }
+
+    private SortedEventList[] newBuckets(final int number) {
+        this.mask = number - 1;
+        final var array = new SortedEventList[number];
+        for (int i = 0; i < number; i++) {
+            array[i] = new SortedEventList();
+        }
+
+        return array;
+    }
+
+    private long virtualBucket(final SimEvent evt) {
+        return (long) Math.floor(evt.getTime() / width);
+    }
+
+    private SortedEventList bucket(final long virtualBucket) {
+        return buckets[(int) (virtualBucket & mask)];
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        final long virtualBucket = virtualBucket(newEvent);
+        if (size == 0 || virtualBucket < currentVirtualBucket) {
+            currentVirtualBucket = virtualBucket;
+        }
+
+        bucket(virtualBucket).add(newEvent);
+        if (++size > 2 * buckets.length) {
+            resize(2 * buckets.length);
+        }
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        return firstBucket().first();
+    }
+
+    @Override
+    public SimEvent pollFirst() throws NoSuchElementException {
+        final SimEvent evt = firstBucket().pollFirst();
+        decreaseSize();
+        return evt;
+    }
+
+    /**
+     * Finds the bucket containing the first event,
+     * updating the {@link #currentVirtualBucket}.
+     * @return the bucket containing the first event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    private SortedEventList firstBucket() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Calendar Queue is empty.");
+        }
+
+        // Scans one year of buckets, starting from the current one
+        for (int i = 0; i < buckets.length; i++) {
+            final var bucket = bucket(currentVirtualBucket);
+            if (!bucket.isEmpty() && virtualBucket(bucket.first()) == currentVirtualBucket) {
+                return bucket;
+            }
+
+            currentVirtualBucket++;
+        }
+
+        // No event in the next year: performs a direct search for the smallest event.
+        SortedEventList minBucket = null;
+        for (final var bucket : buckets) {
+            if (!bucket.isEmpty() && (minBucket == null || bucket.first().compareTo(minBucket.first()) < 0)) {
+                minBucket = bucket;
+            }
+        }
+
+        currentVirtualBucket = virtualBucket(Objects.requireNonNull(minBucket).first());
+        return minBucket;
+    }
+
+    private void decreaseSize() {
+        if (--size < buckets.length / 2 && buckets.length > MIN_BUCKETS) {
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Changes the number of buckets, re-computing the bucket width
+     * and redistributing all events.
+     * @param newBucketsNumber the new number of buckets (a power of 2)
+     */
+    private void resize(final int newBucketsNumber) {
+        final var events = new ArrayList<SimEvent>(size);
+        for (final var bucket : buckets) {
+            bucket.stream().forEach(events::add);
+        }
+
+        width = newWidth(events);
+        buckets = newBuckets(newBucketsNumber);
+        size = 0;
+        for (final var evt : events) {
+            addEvent(evt);
+        }
+    }
+
+    /**
+     * Computes a new bucket width as 3 times the average separation
+     * between the times of the earliest events, as proposed by Brown.
+     * @param events the events in the queue
+     * @return the new width or the current one if there is no
+     *         distinct times to compute the width
+     */
+    private double newWidth(final List<SimEvent> events) {
+        // Max-heap keeping the smallest sampled times
+        final var sample = new PriorityQueue<Double>(WIDTH_SAMPLE_SIZE + 1, Comparator.reverseOrder());
+        for (final var evt : events) {
+            sample.add(evt.getTime());
+            if (sample.size() > WIDTH_SAMPLE_SIZE) {
+                sample.poll();
+            }
+        }
+
+        final double[] times = sample.stream().mapToDouble(Double::doubleValue).sorted().distinct().toArray();
+        if (times.length < 2) {
+            return width;
+        }
+
+        final double avgSeparation = (times[times.length - 1] - times[0]) / (times.length - 1);
+        return avgSeparation > 0 ? 3 * avgSeparation : width;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if (size == 0 || !bucket(virtualBucket(event)).remove(event)) {
+            return false;
+        }
+
+        decreaseSize();
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        int removed = 0;
+        for (final var bucket : buckets) {
+            removed += bucket.removeIf(predicate);
+        }
+
+        size -= removed;
+        return removed > 0;
+    }
+
+    @Override
+    public void clear() {
+        buckets = newBuckets(MIN_BUCKETS);
+        size = 0;
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return unorderedStream().sorted();
+    }
+
+    @Override
+    public Stream<SimEvent> unorderedStream() {
+        return Arrays.stream(buckets).flatMap(SortedEventList::stream);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -33,9 +33,11 @@ public final class CloudSimEvent implements SimEvent {
     @NonNull
     private Simulation simulation;
 
-    private final Type type;
+    @Setter(AccessLevel.NONE)
+    private Type type;
 
-    private final double time;
+    @Setter(AccessLevel.NONE)
+    private double time;
 
     @Setter(AccessLevel.NONE)
     private double endWaitingTime;
@@ -46,12 +48,41 @@ public final class CloudSimEvent implements SimEvent {
     @NonNull
     private SimEntity destination;
 
-    private final int tag;
+    @Setter(AccessLevel.NONE)
+    private int tag;
 
-    private final Object data;
+    @Setter(AccessLevel.NONE)
+    private Object data;
 
     private long serial = -1;
 
+    /**
+     * Indicates if the event was created by an {@link EventPool},
+     * so that it can be returned to the pool after being processed.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.NONE)
+    private final boolean pooled;
+
+    /**
+     * Indicates if the event is currently inside the {@link EventPool},
+     * waiting to be reused. Such an event must not be used anymore.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private boolean released;
+
+    /**
+     * Indicates if the event was already sent.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private boolean sent;
+
+    /**
+     * Indicates if the event must never be returned to the {@link EventPool},
+     * since some object may be keeping a reference to it.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private boolean pinned;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -159,6 +190,32 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity source, final SimEntity destination,
         final int tag, final Object data)
+    {
+        this.pooled = false;
+        init(type, delay, source, destination, tag, data);
+    }
+
+    /**
+     * Creates an empty CloudSimEvent to be stored inside an {@link EventPool}.
+     * @param simulation the simulation the event belongs to
+     */
+    CloudSimEvent(final Simulation simulation) {
+        this.pooled = true;
+        this.type = Type.NULL;
+        this.source = SimEntity.NULL;
+        this.destination = SimEntity.NULL;
+        this.simulation = simulation;
+    }
+
+    /**
+     * Initializes the event attributes,
+     * enabling a pooled event to be reused.
+     * @see #CloudSimEvent(Type, double, SimEntity, SimEntity, int, Object)
+     */
+    void init(
+        final Type type, final double delay,
+        final SimEntity source, final SimEntity destination,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -171,6 +228,21 @@ public final class CloudSimEvent implements SimEvent {
         this.time = simulation.clock() + delay;
         this.tag = tag;
         this.data = data;
+        this.serial = -1;
+        this.released = false;
+        this.sent = false;
+        this.pinned = false;
+    }
+
+    /**
+     * Clears the event attributes that refer to other objects,
+     * so that they can be garbage collected while the event is inside an {@link EventPool}.
+     */
+    void clear() {
+        this.type = Type.NULL;
+        this.source = SimEntity.NULL;
+        this.destination = SimEntity.NULL;
+        this.data = null;
     }
 
     @Override
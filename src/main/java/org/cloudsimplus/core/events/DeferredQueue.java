@@ -1,6 +1,7 @@
 package org.cloudsimplus.core.events;
 
 import lombok.Getter;
+import org.cloudsimplus.core.SimEntity;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -14,24 +15,34 @@ import java.util.stream.Stream;
  * because the {@link LinkedList} provides constant O(1) complexity
  * to add elements to the end.
  *
+ * <p>Events are stored into one list for each {@link SimEvent#getDestination() destination entity},
+ * keeping the time order of the events for every entity.
+ * This way, selecting the events for a given entity just traverses the events for that entity,
+ * instead of the events for all entities.
+ * The order of events for different entities having the same time
+ * is not defined when traversing all the events in the queue.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.4.2
  */
 public class DeferredQueue implements EventQueue {
     /**
+     * Lists of events for each destination entity.
+     * A list is removed when it becomes empty, so that entities which
+     * don't receive events anymore don't keep using memory.
      * Despite the events are sorted by time and there are
      * sorted collections such as {@link java.util.SortedSet},
      * since the time of a new event is usually higher than the previous
      * one, in such a case, the {@link LinkedList#add(Object)} provides
      * better performance, which is O(1).
      */
-    private final List<SimEvent> eventList = new LinkedList<>();
+    private final Map<SimEntity, LinkedList<SimEvent>> eventsByDestination = new HashMap<>();
 
     /**
-     * The max time that an added event is scheduled.
+     * The total number of events in the queue.
      */
-    private double maxTime = -1;
+    private int size;
 
     /**
      * Keeps track of the total number of events
@@ -63,20 +74,22 @@ public class DeferredQueue implements EventQueue {
      * @param newEvent the event to be added to the queue.
      */
     public void addEvent(final SimEvent newEvent) {
+        maxSize = Math.max(maxSize, size);
+        size++;
+        final var eventList = eventsByDestination.computeIfAbsent(newEvent.getDestination(), dest -> new LinkedList<>());
+
         // The event has to be inserted as the last of all events
         // with the same event_time(). Yes, this matters.
         final double eventTime = newEvent.getTime();
-        maxSize = Math.max(maxSize, eventList.size());
-        if (eventTime >= maxTime) {
+        if (eventList.isEmpty() || eventTime >= eventList.getLast().getTime()) {
             eventList.add(newEvent);
-            maxTime = eventTime;
             addedToTail++;
             return;
         }
 
         /*
          * Adds an event in some position from the tail of the list.
-         * If the event time is smaller than the maxTime, traverses the list
+         * If the event time is smaller than the time of the last event, traverses the list
          * to find the place to insert the event.
          * It uses a reverse iterator because usually in such cases,
          * the time of the new event is close to the last events.
@@ -93,7 +106,8 @@ public class DeferredQueue implements EventQueue {
             }
         }
 
-        eventList.add(newEvent);
+        eventList.addFirst(newEvent);
+        addedToMiddle++;
     }
 
     /**
@@ -102,7 +116,7 @@ public class DeferredQueue implements EventQueue {
      * @return the iterator
      */
     public Iterator<SimEvent> iterator() {
-        return eventList.iterator();
+        return stream().iterator();
     }
 
     /**
@@ -111,7 +125,22 @@ public class DeferredQueue implements EventQueue {
      * @return the stream
      */
     public Stream<SimEvent> stream() {
-        return eventList.stream();
+        return eventsByDestination
+                    .values().stream()
+                    .flatMap(List::stream)
+                    .sorted(Comparator.comparingDouble(SimEvent::getTime));
+    }
+
+    /**
+     * Returns a stream to the events into the queue which are targeted to a given entity,
+     * in the order they were added to the queue.
+     *
+     * @param dest the destination entity of the events
+     * @return the stream
+     */
+    public Stream<SimEvent> stream(final SimEntity dest) {
+        final var eventList = eventsByDestination.get(dest);
+        return eventList == null ? Stream.empty() : eventList.stream();
     }
 
     /**
@@ -120,12 +149,12 @@ public class DeferredQueue implements EventQueue {
      * @return the number of events in the queue.
      */
     public int size() {
-        return eventList.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return eventList.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -135,7 +164,42 @@ public class DeferredQueue implements EventQueue {
      * @return true if successful; false otherwise
      */
     public boolean remove(final SimEvent event) {
-        return eventList.remove(event);
+        final var eventList = eventsByDestination.get(event.getDestination());
+        if (eventList != null && eventList.remove(event)) {
+            size--;
+            removeListIfEmpty(event.getDestination(), eventList);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes the first event targeted to a given entity which matches a given predicate.
+     * It just traverses the events for that entity.
+     *
+     * @param dest the destination entity of the event
+     * @param predicate the event selection predicate
+     * @return the removed event or {@link SimEvent#NULL} if not found
+     */
+    public SimEvent removeFirst(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final var eventList = eventsByDestination.get(dest);
+        if (eventList == null) {
+            return SimEvent.NULL;
+        }
+
+        final var iterator = eventList.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (predicate.test(evt)) {
+                iterator.remove();
+                size--;
+                removeListIfEmpty(dest, eventList);
+                return evt;
+            }
+        }
+
+        return SimEvent.NULL;
     }
 
     /**
@@ -145,26 +209,67 @@ public class DeferredQueue implements EventQueue {
      * @return true if successful; false otherwise
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return eventList.removeAll(events);
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate) {
-        return eventList.removeIf(predicate);
+        final int previousSize = size;
+        final var iterator = eventsByDestination.values().iterator();
+        while (iterator.hasNext()) {
+            final var eventList = iterator.next();
+            final int previousListSize = eventList.size();
+            eventList.removeIf(predicate);
+            size -= previousListSize - eventList.size();
+            if (eventList.isEmpty()) {
+                iterator.remove();
+            }
+        }
+
+        return size < previousSize;
+    }
+
+    /**
+     * Removes the list of events for a given destination entity if it is empty.
+     * @param dest the destination entity of the events
+     * @param eventList the list of events for that entity
+     */
+    private void removeListIfEmpty(final SimEntity dest, final List<SimEvent> eventList) {
+        if (eventList.isEmpty()) {
+            eventsByDestination.remove(dest);
+        }
+    }
+
+    /**
+     * Gets the number of destination entities which have events in the queue.
+     * @return the number of destination entities
+     */
+    int destinations() {
+        return eventsByDestination.size();
     }
 
     /**
      * Clears the queue removing all elements.
      */
     public void clear() {
-        eventList.clear();
+        eventsByDestination.clear();
+        size = 0;
     }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-        if (eventList.isEmpty()) {
+        if (isEmpty()) {
             throw new NoSuchElementException("The Deferred Queue is empty.");
         }
 
-        return eventList.get(0);
+        return eventsByDestination
+                    .values().stream()
+                    .map(LinkedList::getFirst)
+                    .min(Comparator.comparingDouble(SimEvent::getTime))
+                    .orElseThrow();
     }
 }
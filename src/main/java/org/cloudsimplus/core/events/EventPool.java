@@ -0,0 +1,276 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.cloudsimplus.core.SimEntity;
+import org.cloudsimplus.core.Simulation;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables reusing processed events,
+ * instead of creating new ones for every message sent,
+ * reducing the pressure on the garbage collector for long simulations.
+ *
+ * <p>Events are just returned to the pool after being processed by their destination entity.
+ * Only events created by the pool are reused.
+ * If an entity or listener needs to keep a reference to an event after it's processed,
+ * it must call {@link #pin(SimEvent)}, so that the event is never reused.
+ * Events passed to onEventProcessingListeners and events sent again
+ * after being received are automatically pinned.
+ * Trying to send an event that was returned to the pool throws an {@link IllegalStateException},
+ * indicating some object is improperly keeping a reference to that event.</p>
+ *
+ * <p>The pool also collects statistics about created and reused events,
+ * and the garbage collector activity since the pool was enabled,
+ * so that the effect of pooling can be checked.</p>
+ *
+ * <p>Events can be acquired and released by multiple threads,
+ * such as when Hosts are processed concurrently.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+public class EventPool {
+    /** Default value for {@link #getMaxSize()}. */
+    public static final int DEF_MAX_SIZE = 100_000;
+
+    private final Simulation simulation;
+
+    private final Deque<CloudSimEvent> freeEvents;
+
+    /**
+     * Maximum number of free events stored into the pool.
+     * Released events are just discarded when the pool is full.
+     */
+    @Getter
+    private final int maxSize;
+
+    /**
+     * Indicates if events are being reused.
+     */
+    @Getter
+    private boolean enabled;
+
+    /** Number of events created by the pool since it was enabled. */
+    @Getter
+    private long createdEvents;
+
+    /** Number of events reused from the pool since it was enabled. */
+    @Getter
+    private long reusedEvents;
+
+    /** Number of events pinned (which cannot be reused) since the pool was enabled. */
+    @Getter
+    private long pinnedEvents;
+
+    private long gcCountAtStart;
+    private long gcTimeAtStart;
+
+    /**
+     * Creates a disabled event pool with the {@link #DEF_MAX_SIZE default max size}.
+     * @param simulation the simulation the pooled events belong to
+     */
+    public EventPool(final Simulation simulation) {
+        this(simulation, DEF_MAX_SIZE);
+    }
+
+    /**
+     * Creates a disabled event pool.
+     * @param simulation the simulation the pooled events belong to
+     * @param maxSize maximum number of free events stored into the pool
+     */
+    public EventPool(@NonNull final Simulation simulation, final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The max size of the pool must be positive.");
+        }
+
+        this.simulation = simulation;
+        this.maxSize = maxSize;
+        this.freeEvents = new ArrayDeque<>();
+    }
+
+    /**
+     * Enables or disables the reuse of events.
+     * Enabling the pool resets its statistics.
+     * @param enabled true to enable, false to disable
+     * @return this pool
+     */
+    public EventPool setEnabled(final boolean enabled) {
+        if (enabled && !this.enabled) {
+            createdEvents = 0;
+            reusedEvents = 0;
+            pinnedEvents = 0;
+            gcCountAtStart = gcCount();
+            gcTimeAtStart = gcTime();
+        }
+
+        if (!enabled) {
+            freeEvents.clear();
+        }
+
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Gets a {@link SimEvent.Type#SEND} event from the pool (or creates a new one if the pool is empty),
+     * initialized with the given attributes.
+     * If the pool is disabled, just creates a regular event.
+     *
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param source the source entity which is sending the message
+     * @param destination the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the initialized event
+     */
+    public synchronized CloudSimEvent acquire(
+        final double delay, final SimEntity source, final SimEntity destination,
+        final int tag, final Object data)
+    {
+        if (!enabled) {
+            return new CloudSimEvent(delay, source, destination, tag, data);
+        }
+
+        CloudSimEvent evt = freeEvents.pollLast();
+        if (evt == null) {
+            evt = new CloudSimEvent(simulation);
+            createdEvents++;
+        } else reusedEvents++;
+
+        evt.init(SimEvent.Type.SEND, delay, source, destination, tag, data);
+        return evt;
+    }
+
+    /**
+     * Returns a processed event to the pool, so that it can be reused.
+     * Events not created by the pool or {@link #pin(SimEvent) pinned} ones are ignored.
+     *
+     * @param evt the event to release
+     * @return true if the event was returned to the pool, false otherwise
+     */
+    public synchronized boolean release(final SimEvent evt) {
+        if (!enabled || !(evt instanceof CloudSimEvent cse) || !cse.isPooled() || cse.isPinned() || cse.isReleased()) {
+            return false;
+        }
+
+        cse.setReleased(true);
+        cse.clear();
+        if (freeEvents.size() < maxSize) {
+            freeEvents.addLast(cse);
+        }
+
+        return true;
+    }
+
+    /**
+     * Prevents an event from being returned to the pool,
+     * enabling a reference to it to be safely kept after the event is processed.
+     *
+     * @param evt the event to pin
+     */
+    public synchronized void pin(final SimEvent evt) {
+        if (evt instanceof CloudSimEvent cse && cse.isPooled() && !cse.isPinned()) {
+            cse.setPinned(true);
+            pinnedEvents++;
+        }
+    }
+
+    /**
+     * Checks if an event can be sent, marking it as sent.
+     * If the event was already sent (it's being sent again),
+     * it's pinned to avoid being returned to the pool while it's still in use.
+     *
+     * @param evt the event being sent
+     * @throws IllegalStateException when the event was already returned to the pool
+     */
+    public synchronized void checkSend(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent cse) || !cse.isPooled()) {
+            return;
+        }
+
+        if (cse.isReleased()) {
+            throw new IllegalStateException(
+                "Trying to send an event that was already returned to the EventPool. " +
+                "Some object is keeping a reference to the event after it's processed. " +
+                "Call EventPool.pin(evt) to keep such references or disable event pooling.");
+        }
+
+        if (cse.isSent()) {
+            pin(cse);
+        }
+
+        cse.setSent(true);
+    }
+
+    /**
+     * Gets the percentage of events acquired from the pool that were reused,
+     * instead of being created.
+     * @return the reuse percentage (in scale from 0 to 1)
+     */
+    public double getReuseRatio() {
+        final long total = createdEvents + reusedEvents;
+        return total == 0 ? 0 : reusedEvents / (double) total;
+    }
+
+    /**
+     * Gets the number of garbage collections performed by the JVM since the pool was enabled.
+     * @return the number of collections
+     */
+    public long getGcCount() {
+        return gcCount() - gcCountAtStart;
+    }
+
+    /**
+     * Gets the accumulated time spent by the JVM in garbage collections since the pool was enabled.
+     * @return the collection time (in milliseconds)
+     */
+    public long getGcTimeMillis() {
+        return gcTime() - gcTimeAtStart;
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                                .filter(count -> count > 0).sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                                .filter(time -> time > 0).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "EventPool: %d events created, %d reused (%.2f%%), %d pinned. GC: %d collections in %d ms"
+                .formatted(createdEvents, reusedEvents, getReuseRatio()*100, pinnedEvents, getGcCount(), getGcTimeMillis());
+    }
+}
@@ -9,6 +9,8 @@
 package org.cloudsimplus.core.events;
 
 import lombok.Getter;
+import lombok.NonNull;
+import org.cloudsimplus.core.SimEntity;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -16,22 +18,35 @@ import java.util.stream.Stream;
 
 /**
  * An {@link EventQueue} that stores future simulation events.
- * It uses a {@link TreeSet} in order ensure the events
+ * It uses a {@link SortedEventQueue} in order ensure the events
  * are stored ordered. Using a {@link java.util.LinkedList}
  * as defined by {@link DeferredQueue} to improve performance
  * doesn't work for this queue.
  *
+ * <p>The data structure used to store events is defined by a {@link FutureQueueType}.
+ * By default, a {@link TreeSet} is used.</p>
+ *
+ * <p>Events are additionally indexed by their source entity and tag,
+ * so that the events sent by a given entity can be found (usually to be canceled)
+ * without traversing the entire queue.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
- * @see java.util.TreeSet
+ * @see FutureQueueType
  * @since CloudSim Toolkit 1.0
  */
 public class FutureQueue implements EventQueue {
 
     /**
-     * The sorted set of events.
+     * The sorted queue of events.
+     */
+    private final SortedEventQueue sortedQueue;
+
+    /**
+     * The type of data structure used to store the events.
      */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
+    @Getter
+    private final FutureQueueType type;
 
     /** An incremental number used for {@link SimEvent#getSerial()} event attribute. */
     @Getter
@@ -46,11 +61,61 @@ public class FutureQueue implements EventQueue {
     @Getter
     private long maxEventsNumber;
 
+    /**
+     * The events in the queue indexed by their source entity and then by their tag.
+     * Sets are identity-based, since the same event instances are added and removed.
+     */
+    private final Map<SimEntity, Map<Integer, Set<SimEvent>>> sourceIndex;
+
+    /**
+     * Creates a FutureQueue that stores events into a {@link TreeSet}.
+     */
+    public FutureQueue() {
+        this(FutureQueueType.TREE_SET);
+    }
+
+    /**
+     * Creates a FutureQueue that stores events into a given type of data structure.
+     * @param type the type of data structure to store events
+     */
+    public FutureQueue(@NonNull final FutureQueueType type) {
+        this.type = type;
+        this.sortedQueue = type.newQueue();
+        this.sourceIndex = new HashMap<>();
+    }
+
     @Override
     public void addEvent(final SimEvent newEvent) {
         newEvent.setSerial(serial++);
-        sortedSet.add(newEvent);
-        maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
+        addEventInternal(newEvent);
+        maxEventsNumber = Math.max(maxEventsNumber, sortedQueue.size());
+    }
+
+    private void addEventInternal(final SimEvent evt) {
+        sortedQueue.addEvent(evt);
+        sourceIndex
+            .computeIfAbsent(evt.getSource(), src -> new HashMap<>())
+            .computeIfAbsent(evt.getTag(), tag -> Collections.newSetFromMap(new IdentityHashMap<>()))
+            .add(evt);
+    }
+
+    /**
+     * Removes an event from the {@link #sourceIndex}.
+     * @param evt the event to remove
+     */
+    private void unindex(final SimEvent evt) {
+        final var eventsByTag = sourceIndex.get(evt.getSource());
+        if (eventsByTag == null) {
+            return;
+        }
+
+        final var events = eventsByTag.get(evt.getTag());
+        if (events != null && events.remove(evt) && events.isEmpty()) {
+            eventsByTag.remove(evt.getTag());
+            if (eventsByTag.isEmpty()) {
+                sourceIndex.remove(evt.getSource());
+            }
+        }
     }
 
     /**
@@ -60,27 +125,38 @@ public class FutureQueue implements EventQueue {
      */
     public void addEventFirst(final SimEvent newEvent) {
         newEvent.setSerial(--lowestSerial);
-        sortedSet.add(newEvent);
+        addEventInternal(newEvent);
     }
 
     @Override
     public Iterator<SimEvent> iterator() {
-        return sortedSet.iterator();
+        return sortedQueue.iterator();
     }
 
     @Override
     public Stream<SimEvent> stream() {
-        return sortedSet.stream();
+        return sortedQueue.stream();
+    }
+
+    /**
+     * Returns a stream to the elements into the queue, in no particular order.
+     * It should be used instead of {@link #stream()} when the order doesn't matter,
+     * since some {@link FutureQueueType}s need to sort events to provide an ordered stream.
+     *
+     * @return the stream
+     */
+    public Stream<SimEvent> unorderedStream() {
+        return sortedQueue.unorderedStream();
     }
 
     @Override
     public int size() {
-        return sortedSet.size();
+        return sortedQueue.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return sortedSet.isEmpty();
+        return sortedQueue.isEmpty();
     }
 
     /**
@@ -90,7 +166,12 @@ public class FutureQueue implements EventQueue {
      * @return true if successful; false if not event was removed
      */
     public boolean remove(final SimEvent event) {
-        return sortedSet.remove(event);
+        if (sortedQueue.remove(event)) {
+            unindex(event);
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -100,22 +181,107 @@ public class FutureQueue implements EventQueue {
      * @return true if successful; false if not event was removed
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
+        if (!sortedQueue.removeAll(events)) {
+            return false;
+        }
+
+        events.forEach(this::unindex);
+        return true;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate){
-        return sortedSet.removeIf(predicate);
+        final var removed = new ArrayList<SimEvent>();
+        sortedQueue.removeIf(evt -> predicate.test(evt) && removed.add(evt));
+        removed.forEach(this::unindex);
+        return !removed.isEmpty();
+    }
+
+    /**
+     * Gets a stream of the events sent by a given entity, in no particular order.
+     * It just traverses the events from such an entity, instead of the entire queue.
+     *
+     * @param source the entity that sent the events
+     * @return the stream of events sent by the entity
+     */
+    public Stream<SimEvent> streamBySource(final SimEntity source) {
+        return sourceIndex.getOrDefault(source, Map.of()).values().stream().flatMap(Set::stream);
+    }
+
+    /**
+     * Gets a stream of the events with a given tag sent by a given entity, in no particular order.
+     * It just traverses such events, instead of the entire queue.
+     *
+     * @param source the entity that sent the events
+     * @param tag the tag of the events
+     * @return the stream of events sent by the entity with the given tag
+     */
+    public Stream<SimEvent> streamBySource(final SimEntity source, final int tag) {
+        return sourceIndex.getOrDefault(source, Map.of()).getOrDefault(tag, Set.of()).stream();
     }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-        return sortedSet.first();
+        return sortedQueue.first();
+    }
+
+    /**
+     * Gets and removes the first event from the queue.
+     *
+     * @return the first event
+     * @throws NoSuchElementException when the queue is empty
+     */
+    public SimEvent pollFirst() throws NoSuchElementException {
+        final SimEvent evt = sortedQueue.pollFirst();
+        unindex(evt);
+        return evt;
+    }
+
+    /**
+     * Removes all events scheduled to the same time of the {@link #first()} event,
+     * adding them to a given list, in the order they must be processed.
+     *
+     * @param target the list to add the removed events to
+     * @return the number of removed events (zero if the queue is empty)
+     */
+    public int pollFirstEvents(final List<SimEvent> target) {
+        if (isEmpty()) {
+            return 0;
+        }
+
+        final int previousSize = target.size();
+        final int count = sortedQueue.pollAll(sortedQueue.first().getTime(), target);
+        for (int i = previousSize; i < target.size(); i++) {
+            unindex(target.get(i));
+        }
+
+        return count;
+    }
+
+    /**
+     * Adds back events previously removed from the queue,
+     * keeping their original {@link SimEvent#getSerial() serial},
+     * so that their order is preserved.
+     *
+     * @param events the events to add back
+     */
+    public void addEventsBack(final Collection<SimEvent> events) {
+        events.forEach(this::addEventInternal);
+    }
+
+    /**
+     * Gets the total number of events added to the queue so far,
+     * including the ones added to the head of the queue.
+     * @return the total number of added events
+     */
+    public long getAddedEventsNumber() {
+        return serial - lowestSerial;
     }
 
     /**
      * Clears the queue.
      */
     public void clear() {
-        sortedSet.clear();
+        sortedQueue.clear();
+        sourceIndex.clear();
     }
 }
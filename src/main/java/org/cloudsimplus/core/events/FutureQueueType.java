@@ -0,0 +1,83 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.core.CloudSimPlus;
+
+import java.util.function.Supplier;
+
+/**
+ * The data structures that can be used to store future events
+ * inside a {@link FutureQueue}.
+ * All of them provide the same ordering of events,
+ * so that the selected type only affects the simulation performance.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see CloudSimPlus#CloudSimPlus(double, FutureQueueType)
+ */
+public enum FutureQueueType {
+    /**
+     * Stores events into a {@link TreeSetEventQueue} (the default type),
+     * which provides O(log n) operations.
+     */
+    TREE_SET(TreeSetEventQueue::new),
+
+    /**
+     * Stores events into a {@link BinaryHeapEventQueue},
+     * which provides O(log n) enqueue/dequeue with no allocation per event,
+     * but O(n) removal of arbitrary events.
+     */
+    BINARY_HEAP(BinaryHeapEventQueue::new),
+
+    /**
+     * Stores events into a {@link CalendarEventQueue},
+     * which provides close to O(1) enqueue/dequeue
+     * when event times are evenly spread,
+     * but degrades when event times are skewed.
+     */
+    CALENDAR(CalendarEventQueue::new),
+
+    /**
+     * Stores events into a {@link LadderEventQueue},
+     * which provides amortized O(1) enqueue/dequeue,
+     * being less sensitive to skewed event time distributions than the {@link #CALENDAR},
+     * but O(n) removal of arbitrary events.
+     */
+    LADDER(LadderEventQueue::new);
+
+    private final Supplier<SortedEventQueue> supplier;
+
+    FutureQueueType(final Supplier<SortedEventQueue> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Creates a new empty queue of this type.
+     * @return the new queue
+     */
+    public SortedEventQueue newQueue() {
+        return supplier.get();
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SortedEventQueue} implementing the Ladder Queue proposed by Tang, Goh and Thng,
+ * which provides amortized O(1) enqueue and dequeue operations,
+ * being less sensitive to skewed event time distributions
+ * than the {@link CalendarEventQueue}.
+ *
+ * <p>The queue is split into 3 tiers:
+ * <ul>
+ *     <li><b>Top</b>: an unsorted list of events scheduled after the time covered by the rungs;</li>
+ *     <li><b>Ladder</b>: a stack of rungs, each one having buckets of unsorted events,
+ *     where every rung covers the time interval of a single bucket from the rung above it;</li>
+ *     <li><b>Bottom</b>: a sorted list of the earliest events, from which events are dequeued.</li>
+ * </ul>
+ * Events are just sorted when a bucket having no more than {@link #THRESHOLD} events
+ * is moved to the bottom. Larger buckets are split into a new rung instead.
+ * </p>
+ *
+ * <p>Since the top and the rung buckets are unsorted lists,
+ * removing an arbitrary event from them (such as when an event is cancelled)
+ * is linear in the number of events there.
+ * Therefore, this queue isn't recommended for simulations cancelling lots of events.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see FutureQueueType#LADDER
+ * @see <a href="https://doi.org/10.1145/1103323.1103324">W. T. Tang, R. S. M. Goh, and I. L.-J. Thng, "Ladder queue: An O(1) priority queue structure for large-scale discrete event simulation," ACM TOMACS, 2005</a>
+ */
+public class LadderEventQueue implements SortedEventQueue {
+    /** Max number of events in a bucket to be sorted into the bottom, instead of being split into a new rung. */
+    private static final int THRESHOLD = 50;
+
+    /** Max number of rungs in the ladder. */
+    private static final int MAX_RUNGS = 8;
+
+    private final List<SimEvent> top;
+
+    /** Events scheduled after this time are stored at the {@link #top}. */
+    private double topStart;
+
+    private final Rung[] rungs;
+
+    /** Number of rungs currently in use. */
+    private int rungsNumber;
+
+    private SortedEventList bottom;
+
+    private int size;
+
+    /**
+     * Creates a Ladder Queue.
+     */
+    public LadderEventQueue() {
+        this.top = new ArrayList<>();
+        this.topStart = Double.NEGATIVE_INFINITY;
+        this.rungs = new Rung[MAX_RUNGS];
+        this.bottom = new SortedEventList();
+    }
+
+    /**
+     * A rung of the ladder, having buckets that split the time interval of a
+     * bucket from the previous rung (or the events moved from the top).
+     */
+    private static final class Rung {
+        private final double start;
+        private final double width;
+        private final List<SimEvent>[] buckets;
+
+        /**
+         * Index of the next bucket to be moved from this rung.
+         * Previous buckets were already moved to the next rung or the bottom.
+         */
+        private int current;
+
+        @SuppressWarnings("unchecked")
+        private Rung(final double start, final double width, final int bucketsNumber) {
+            this.start = start;
+            this.width = width;
+            this.buckets = new List[bucketsNumber];
+        }
+
+        /**
+         * Gets the index of the bucket an event belongs to.
+         * Since this is a non-decreasing function of the event time,
+         * events with the same time always go to the same bucket.
+         * @return the bucket index, that may be smaller than the {@link #current} one
+         */
+        private int bucketIndex(final SimEvent evt) {
+            final double idx = Math.floor((evt.getTime() - start) / width);
+            return idx >= buckets.length ? buckets.length - 1 : (int) Math.max(idx, -1);
+        }
+
+        private boolean accepts(final int bucketIndex) {
+            return bucketIndex >= current;
+        }
+
+        private void add(final int bucketIndex, final SimEvent evt) {
+            if (buckets[bucketIndex] == null) {
+                buckets[bucketIndex] = new ArrayList<>();
+            }
+
+            buckets[bucketIndex].add(evt);
+        }
+
+        /**
+         * Removes the next non-empty bucket from the rung.
+         * @return the removed bucket or null if the rung has no more events
+         */
+        private List<SimEvent> pollNextBucket() {
+            while (current < buckets.length) {
+                final var bucket = buckets[current];
+                buckets[current++] = null;
+                if (bucket != null && !bucket.isEmpty()) {
+                    return bucket;
+                }
+            }
+
+            return null;
+        }
+
+        private Stream<SimEvent> stream() {
+            return Arrays.stream(buckets, current, buckets.length).filter(Objects::nonNull).flatMap(List::stream);
+        }
+    }
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        size++;
+        if (newEvent.getTime() > topStart) {
+            top.add(newEvent);
+            return;
+        }
+
+        for (int i = 0; i < rungsNumber; i++) {
+            final int idx = rungs[i].bucketIndex(newEvent);
+            if (rungs[i].accepts(idx)) {
+                rungs[i].add(idx, newEvent);
+                return;
+            }
+        }
+
+        bottom.add(newEvent);
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        fillBottom();
+        return bottom.first();
+    }
+
+    @Override
+    public SimEvent pollFirst() throws NoSuchElementException {
+        fillBottom();
+        size--;
+        return bottom.pollFirst();
+    }
+
+    /**
+     * Moves events from the top or the ladder to the bottom if it's empty,
+     * so that the first event of the queue is at the bottom.
+     * @throws NoSuchElementException when the queue is empty
+     */
+    private void fillBottom() {
+        if (size == 0) {
+            throw new NoSuchElementException("The Ladder Queue is empty.");
+        }
+
+        while (bottom.isEmpty()) {
+            if (rungsNumber == 0) {
+                moveTopToLadder();
+                continue;
+            }
+
+            final var bucket = rungs[rungsNumber - 1].pollNextBucket();
+            if (bucket == null) {
+                rungs[--rungsNumber] = null;
+            } else if (bucket.size() > THRESHOLD && rungsNumber < MAX_RUNGS) {
+                addRung(bucket);
+            } else bottom = new SortedEventList(bucket);
+        }
+    }
+
+    private void moveTopToLadder() {
+        final var events = new ArrayList<>(top);
+        top.clear();
+        topStart = events.stream().mapToDouble(SimEvent::getTime).max().orElse(topStart);
+        addRung(events);
+    }
+
+    /**
+     * Adds a new rung to the ladder to store a given list of events,
+     * or moves such events directly to the bottom if they all have the same time.
+     * @param events the events to add
+     */
+    private void addRung(final List<SimEvent> events) {
+        final double min = events.stream().mapToDouble(SimEvent::getTime).min().orElse(0);
+        final double max = events.stream().mapToDouble(SimEvent::getTime).max().orElse(0);
+        final double width = (max - min) / events.size();
+        if (width <= 0) {
+            bottom = new SortedEventList(events);
+            return;
+        }
+
+        final var rung = new Rung(min, width, events.size() + 1);
+        for (final var evt : events) {
+            rung.add(rung.bucketIndex(evt), evt);
+        }
+
+        rungs[rungsNumber++] = rung;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        final boolean removed = removeInternal(event);
+        if (removed) {
+            size--;
+        }
+
+        return removed;
+    }
+
+    private boolean removeInternal(final SimEvent event) {
+        if (event.getTime() > topStart) {
+            return top.remove(event);
+        }
+
+        for (int i = 0; i < rungsNumber; i++) {
+            final int idx = rungs[i].bucketIndex(event);
+            if (rungs[i].accepts(idx)) {
+                final var bucket = rungs[i].buckets[idx];
+                return bucket != null && bucket.remove(event);
+            }
+        }
+
+        return bottom.remove(event);
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        final int previousSize = size;
+        size -= removeIf(top, predicate);
+        for (int i = 0; i < rungsNumber; i++) {
+            for (final var bucket : rungs[i].buckets) {
+                size -= removeIf(bucket, predicate);
+            }
+        }
+
+        size -= bottom.removeIf(predicate);
+        return size < previousSize;
+    }
+
+    private static int removeIf(final List<SimEvent> events, final Predicate<SimEvent> predicate) {
+        if (events == null) {
+            return 0;
+        }
+
+        final int previousSize = events.size();
+        events.removeIf(predicate);
+        return previousSize - events.size();
+    }
+
+    @Override
+    public void clear() {
+        top.clear();
+        topStart = Double.NEGATIVE_INFINITY;
+        Arrays.fill(rungs, null);
+        rungsNumber = 0;
+        bottom.clear();
+        size = 0;
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return unorderedStream().sorted();
+    }
+
+    @Override
+    public Stream<SimEvent> unorderedStream() {
+        final var ladder = Arrays.stream(rungs, 0, rungsNumber).flatMap(Rung::stream);
+        return Stream.of(top.stream(), ladder, bottom.stream()).flatMap(stream -> stream);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
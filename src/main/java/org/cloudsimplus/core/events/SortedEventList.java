@@ -0,0 +1,197 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A list of {@link SimEvent}s used as a bucket by the {@link SortedEventQueue} implementations,
+ * where events having the same time and tag are grouped together.
+ * Groups are internally stored in <b>reverse</b> order,
+ * making the group with the smallest events to be at the end
+ * of the underlying array, so that it can be removed in constant time.
+ *
+ * <p>Inside a group, events are stored in FIFO order (the order of their serial numbers).
+ * Since new events usually have a higher serial number than existing ones,
+ * adding an event to an existing group (such as lots of events scheduled to the same time)
+ * and removing the first event of a group are constant-time operations.
+ * Removing an arbitrary event (such as when an event is cancelled) is linear in the size of its group.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+final class SortedEventList {
+    /** Compares events by their group key (the time and tag). */
+    private static final Comparator<SimEvent> GROUP_COMPARATOR =
+        Comparator.comparingDouble(SimEvent::getTime).thenComparingInt(SimEvent::getTag);
+
+    /**
+     * Groups of events having the same time and tag, in reverse order of such attributes.
+     * Events inside each group are in ascending order of their serial numbers.
+     */
+    private final ArrayList<ArrayDeque<SimEvent>> groups;
+
+    private int size;
+
+    SortedEventList() {
+        this.groups = new ArrayList<>();
+    }
+
+    /**
+     * Creates a list from an unsorted collection.
+     * @param unsorted the events to add
+     */
+    SortedEventList(final Collection<SimEvent> unsorted) {
+        this();
+        final var events = new ArrayList<>(unsorted);
+        events.sort(null);
+        ArrayDeque<SimEvent> group = null;
+        for (final var evt : events) {
+            if (group == null || GROUP_COMPARATOR.compare(group.peekFirst(), evt) != 0) {
+                group = new ArrayDeque<>();
+                groups.add(group);
+            }
+
+            group.addLast(evt);
+        }
+
+        Collections.reverse(groups);
+        size = events.size();
+    }
+
+    /**
+     * Finds the group for a given event.
+     * @param evt the event to find the group for
+     * @return the index of the group (if found) or {@code -(insertion point) - 1}
+     */
+    private int groupIndex(final SimEvent evt) {
+        int low = 0;
+        int high = groups.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            // Groups are in reverse order
+            final int cmp = GROUP_COMPARATOR.compare(evt, groups.get(mid).peekFirst());
+            if (cmp > 0) {
+                high = mid - 1;
+            } else if (cmp < 0) {
+                low = mid + 1;
+            } else return mid;
+        }
+
+        return -(low + 1);
+    }
+
+    void add(final SimEvent evt) {
+        final int idx = groupIndex(evt);
+        size++;
+        if (idx < 0) {
+            final var group = new ArrayDeque<SimEvent>();
+            group.add(evt);
+            groups.add(-idx - 1, group);
+            return;
+        }
+
+        final var group = groups.get(idx);
+        if (group.peekLast().getSerial() < evt.getSerial()) {
+            group.addLast(evt);
+        } else if (group.peekFirst().getSerial() > evt.getSerial()) {
+            group.addFirst(evt);
+        } else {
+            // Events added back out of order: sorts the group again
+            final var events = new ArrayList<>(group);
+            events.add(evt);
+            events.sort(Comparator.comparingLong(SimEvent::getSerial));
+            group.clear();
+            group.addAll(events);
+        }
+    }
+
+    boolean remove(final SimEvent evt) {
+        final int idx = groupIndex(evt);
+        if (idx < 0 || !groups.get(idx).remove(evt)) {
+            return false;
+        }
+
+        removeGroupIfEmpty(idx);
+        size--;
+        return true;
+    }
+
+    private void removeGroupIfEmpty(final int idx) {
+        if (groups.get(idx).isEmpty()) {
+            groups.remove(idx);
+        }
+    }
+
+    /**
+     * Removes all events that match a given predicate.
+     * @param predicate the predicate to select the events to remove
+     * @return the number of removed events
+     */
+    int removeIf(final Predicate<SimEvent> predicate) {
+        final int previousSize = size;
+        groups.removeIf(group -> {
+            final int groupSize = group.size();
+            group.removeIf(predicate);
+            size -= groupSize - group.size();
+            return group.isEmpty();
+        });
+
+        return previousSize - size;
+    }
+
+    /** Gets the smallest event. The list must not be empty. */
+    SimEvent first() {
+        return groups.get(groups.size() - 1).getFirst();
+    }
+
+    /** Removes and returns the smallest event. The list must not be empty. */
+    SimEvent pollFirst() {
+        final int last = groups.size() - 1;
+        final SimEvent evt = groups.get(last).removeFirst();
+        removeGroupIfEmpty(last);
+        size--;
+        return evt;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        groups.clear();
+        size = 0;
+    }
+
+    /** Gets a stream of the events, in no particular order. */
+    Stream<SimEvent> stream() {
+        return groups.stream().flatMap(Collection::stream);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EventQueue} that keeps {@link SimEvent}s ordered according to their
+ * natural ordering (see {@link SimEvent#compareTo(Object)}), which is
+ * the event time, then the event tag and finally the event serial.
+ * It's the storage used by the {@link FutureQueue},
+ * enabling different data structures to be used for storing future events,
+ * according to the {@link FutureQueueType} selected for the simulation.
+ *
+ * <p>All implementations must provide the exact same ordering semantics,
+ * so that the simulation results don't depend on the selected queue.
+ * The {@link #iterator()} and {@link #stream()} methods return the events in that order.
+ * Since for some implementations that may require sorting the events,
+ * the {@link #unorderedStream()} should be used when the order doesn't matter.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+public interface SortedEventQueue extends EventQueue {
+    /**
+     * Gets and removes the first element of the queue.
+     *
+     * @return the first element
+     * @throws NoSuchElementException when the queue is empty
+     */
+    SimEvent pollFirst() throws NoSuchElementException;
+
+    /**
+     * Removes all events scheduled to a given time, which must be the time of the {@link #first()} event,
+     * adding them to a given collection, in the order they are stored in the queue.
+     * It enables removing multiple events at once,
+     * which may be cheaper than calling {@link #pollFirst()} repeatedly.
+     *
+     * @param time the time of the events to remove (that must be the time of the first event)
+     * @param target the collection to add the removed events to
+     * @return the number of removed events
+     */
+    default int pollAll(final double time, final Collection<? super SimEvent> target) {
+        int count = 0;
+        while (!isEmpty() && first().getTime() == time) {
+            target.add(pollFirst());
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Removes an event from the queue.
+     *
+     * @param event the event to remove
+     * @return true if the event was removed; false if it was not found
+     */
+    boolean remove(SimEvent event);
+
+    /**
+     * Removes a collection of events from the queue.
+     *
+     * @param events the events to remove
+     * @return true if any event was removed; false otherwise
+     */
+    default boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Removes all events that match a given predicate.
+     *
+     * @param predicate the predicate to select the events to remove
+     * @return true if any event was removed; false otherwise
+     */
+    boolean removeIf(Predicate<SimEvent> predicate);
+
+    /**
+     * Removes all events from the queue.
+     */
+    void clear();
+
+    /**
+     * Returns a stream to the elements into the queue, in no particular order.
+     * That is cheaper than {@link #stream()} for implementations that
+     * don't store all events sorted.
+     *
+     * @return the stream
+     */
+    default Stream<SimEvent> unorderedStream() {
+        return stream();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link SortedEventQueue} backed by a {@link TreeSet}.
+ * Adding and removing events cost O(log n) and require
+ * the allocation of a tree node for each event.
+ * That is the default queue, since it's the most predictable one
+ * when the distribution of event times is unknown.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see FutureQueueType#TREE_SET
+ */
+public class TreeSetEventQueue implements SortedEventQueue {
+    private final TreeSet<SimEvent> sortedSet = new TreeSet<>();
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        sortedSet.add(newEvent);
+    }
+
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return sortedSet.iterator();
+    }
+
+    @Override
+    public Stream<SimEvent> stream() {
+        return sortedSet.stream();
+    }
+
+    @Override
+    public int size() {
+        return sortedSet.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sortedSet.isEmpty();
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        return sortedSet.first();
+    }
+
+    @Override
+    public SimEvent pollFirst() throws NoSuchElementException {
+        if (sortedSet.isEmpty()) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        return sortedSet.pollFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     * It traverses the tree using an iterator,
+     * instead of searching the first event again for every removal.
+     *
+     * @param time {@inheritDoc}
+     * @param target {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int pollAll(final double time, final Collection<? super SimEvent> target) {
+        int count = 0;
+        final var iterator = sortedSet.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (evt.getTime() != time) {
+                break;
+            }
+
+            target.add(evt);
+            iterator.remove();
+            count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        return sortedSet.remove(event);
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        return sortedSet.removeIf(predicate);
+    }
+
+    @Override
+    public void clear() {
+        sortedSet.clear();
+    }
+}
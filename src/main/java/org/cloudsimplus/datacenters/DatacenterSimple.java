@@ -8,6 +8,7 @@ package org.cloudsimplus.datacenters;
 
 import lombok.*;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicyAbstract;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigration;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
@@ -21,6 +22,7 @@ import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.DatacenterCharacteristics.Distribution;
 import org.cloudsimplus.faultinjection.HostFaultInjection;
 import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostAbstract;
 import org.cloudsimplus.hosts.HostSimple;
 import org.cloudsimplus.hosts.HostSuitability;
 import org.cloudsimplus.listeners.DatacenterVmMigrationEventInfo;
@@ -38,6 +40,7 @@ import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmAbstract;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -69,6 +72,36 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private List<? extends Host> hostList;
 
+    /**
+     * The position of each Host inside the {@link #hostList},
+     * used to index Hosts in the {@link #activeHosts} and {@link #hostsToProcess} sets.
+     */
+    private final Map<Host, Integer> hostIndexes;
+
+    /**
+     * A map of Hosts indexed by their IDs, enabling to get a Host by its ID in constant time.
+     * If multiple Hosts have the same ID, the first one in the {@link #hostList} is stored.
+     * @see #getHostById(long)
+     */
+    private final Map<Long, Host> hostsById;
+
+    /**
+     * The index of Hosts that are possibly active,
+     * which enables getting active Hosts without iterating over the entire Host list.
+     * @see #getActiveHostStream()
+     */
+    private final BitSet activeHosts;
+
+    /**
+     * The index of Hosts which processing must be updated,
+     * such as Hosts running VMs.
+     * Idle Hosts are removed from the index after their processing is updated,
+     * so that the cost of updating Hosts processing is proportional to the number of busy Hosts,
+     * instead of the Datacenter size.
+     * @see #requestHostProcessingUpdate(Host)
+     */
+    private final BitSet hostsToProcess;
+
     @Getter
     private long activeHostsNumber;
 
@@ -111,6 +144,22 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private Map<Vm, Host> lastMigrationMap;
 
+    /**
+     * The minimum number of Hosts to start updating Hosts processing in parallel.
+     * Parallel processing is disabled by default.
+     * @see #setHostCountForParallelProcessing(int)
+     */
+    @Getter
+    private int hostCountForParallelProcessing;
+
+    /**
+     * The pool used to update Hosts processing in parallel.
+     * It's the {@link ForkJoinPool#commonPool() common pool} by default.
+     * @see #setHostCountForParallelProcessing(int)
+     */
+    @Getter @Setter @NonNull
+    private ForkJoinPool hostsProcessingPool;
+
     /**
      * Creates a Datacenter with an empty {@link #getDatacenterStorage() storage}
      * and a {@link VmAllocationPolicySimple} by default.
@@ -192,6 +241,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final DatacenterStorage storage)
     {
         super(simulation);
+        this.hostIndexes = new IdentityHashMap<>();
+        this.hostsById = new HashMap<>();
+        this.activeHosts = new BitSet();
+        this.hostsToProcess = new BitSet();
         setHostList(hostList);
         setLastProcessTime(0.0);
         setSchedulingInterval(0);
@@ -204,6 +257,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.bandwidthPercentForMigration = DEF_BW_PERCENT_FOR_MIGRATION;
         this.migrationsEnabled = true;
         this.hostSearchRetryDelay = -1;
+        this.hostCountForParallelProcessing = Integer.MAX_VALUE;
+        this.hostsProcessingPool = ForkJoinPool.commonPool();
 
         this.lastMigrationMap = Collections.emptyMap();
 
@@ -212,9 +267,29 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private void setHostList(@NonNull final List<? extends Host> hostList) {
         this.hostList = hostList;
+        indexHosts();
         setupHosts();
     }
 
+    /**
+     * Rebuilds the indexes for all Hosts,
+     * which is required when the Host positions inside the {@link #hostList} change.
+     */
+    private void indexHosts() {
+        hostIndexes.clear();
+        activeHosts.clear();
+        hostsToProcess.clear();
+        for (int i = 0; i < hostList.size(); i++) {
+            indexHost(hostList.get(i), i);
+        }
+    }
+
+    private void indexHost(final Host host, final int index) {
+        hostIndexes.put(host, index);
+        activeHosts.set(index, host.isActive());
+        hostsToProcess.set(index);
+    }
+
     private void setupHosts() {
         long lastHostId = getLastHostId();
         for (final Host host : hostList) {
@@ -232,6 +307,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             host.setId(++nextId);
         }
 
+        hostsById.putIfAbsent(host.getId(), host);
         host.setSimulation(getSimulation());
         host.setDatacenter(this);
         host.setActive(((HostSimple)host).isActivateOnDatacenterStartup());
@@ -430,11 +506,47 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 return false;
             }
 
-            submitCloudletToVm(cloudlet, ack);
+            scheduleCloudletProcessingUpdate(submitCloudletToVm(cloudlet, ack));
             return true;
         }
 
-        throw new InvalidEventDataTypeException(evt, "CLOUDLET_SUBMIT Tags", Cloudlet.class.getName());
+        if (evt.getData() instanceof List<?> list){
+            return processCloudletSubmit((List<Cloudlet>) list, ack);
+        }
+
+        throw new InvalidEventDataTypeException(evt, "CLOUDLET_SUBMIT Tags", "Cloudlet or List<Cloudlet>");
+    }
+
+    /**
+     * Processes the submission of a batch of Cloudlets by a DatacenterBroker.
+     * All Cloudlets are submitted to their VMs and then a single
+     * update of Cloudlets processing is scheduled,
+     * according to the earliest estimated finish time among them.
+     *
+     * @param cloudlets the Cloudlets to submit
+     * @param ack indicates if the event's sender expects to receive an acknowledgement
+     * @return true if some Cloudlet was submitted, false otherwise
+     * @see org.cloudsimplus.brokers.DatacenterBroker#setBatchCloudletSubmission(boolean)
+     */
+    private boolean processCloudletSubmit(final List<Cloudlet> cloudlets, final boolean ack) {
+        double estimatedFinishTime = Double.POSITIVE_INFINITY;
+        boolean submitted = false;
+        for (final Cloudlet cloudlet : cloudlets) {
+            if (cloudlet.isFinished()) {
+                notifyBrokerAboutAlreadyFinishedCloudlet(cloudlet, ack);
+                continue;
+            }
+
+            final double cloudletFinishTime = submitCloudletToVm(cloudlet, ack);
+            if (isValidFinishTime(cloudletFinishTime)) {
+                estimatedFinishTime = Math.min(estimatedFinishTime, cloudletFinishTime);
+            }
+
+            submitted = true;
+        }
+
+        scheduleCloudletProcessingUpdate(estimatedFinishTime);
+        return submitted;
     }
 
     /**
@@ -443,22 +555,35 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @param cloudlet the cloudlet to the executed
      * @param ack indicates if the Broker is waiting for an ACK after the Datacenter
      * receives the cloudlet submission
+     * @return the estimated Cloudlet finish time returned by the VM's CloudletScheduler
      */
-    private void submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
+    private double submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
         final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
 
         final var scheduler = cloudlet.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
 
-        // if this cloudlet is in the exec queue
-        if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
+        ((CustomerEntityAbstract)cloudlet).setCreationTime();
+        sendCloudletSubmitAckToBroker(cloudlet, ack);
+        return estimatedFinishTime;
+    }
+
+    /**
+     * Schedules the update of Cloudlets processing after Cloudlets are submitted,
+     * if some of them is in the exec queue.
+     * The update is scheduled just if the given time is positive and finite.
+     * @param estimatedFinishTime the estimated finish time of submitted Cloudlets
+     */
+    private void scheduleCloudletProcessingUpdate(final double estimatedFinishTime) {
+        if (isValidFinishTime(estimatedFinishTime)) {
             send(this,
                 getCloudletProcessingUpdateInterval(estimatedFinishTime),
                 CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
         }
+    }
 
-        ((CustomerEntityAbstract)cloudlet).setCreationTime();
-        sendCloudletSubmitAckToBroker(cloudlet, ack);
+    private static boolean isValidFinishTime(final double estimatedFinishTime) {
+        return estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime);
     }
 
     /**
@@ -752,11 +877,25 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     protected double updateHostsProcessing() {
         double nextSimulationDelay = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double delay = host.updateProcessing(clock());
-            nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+        //Hosts are processed in the order they are in the Host list, keeping the order of sent events
+        final List<Host> hosts = hostsToProcess.stream().mapToObj(i -> (Host)hostList.get(i)).toList();
+        if (isParallelHostsProcessingEnabled()) {
+            final double time = clock();
+            /* The delays are reduced in the Hosts order after all of them are processed,
+             * so that the result doesn't depend on how threads are scheduled. */
+            final double[] delays = getSimulation().runConcurrently(hostsProcessingPool, hosts, (Host host) -> host.updateProcessing(time));
+            for (final double delay : delays) {
+                nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+            }
+        } else {
+            for (final Host host : hosts) {
+                final double delay = host.updateProcessing(clock());
+                nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+            }
         }
 
+        removeIdleHostsFromProcessing(hosts);
+
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
         nextSimulationDelay = nextSimulationDelay == 0 ? nextSimulationDelay : Math.max(nextSimulationDelay, minTimeBetweenEvents);
@@ -764,6 +903,36 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationDelay;
     }
 
+    /**
+     * Removes the Hosts that became idle from the index of Hosts to process,
+     * until some VM is placed into them again.
+     * @param hosts the Hosts just processed
+     * @see HostAbstract#isProcessingUpdateRequired()
+     */
+    private void removeIdleHostsFromProcessing(final List<Host> hosts) {
+        for (final Host host : hosts) {
+            if (host instanceof HostAbstract hostAbstract && !hostAbstract.isProcessingUpdateRequired()) {
+                hostsToProcess.clear(hostIndexes.get(host));
+            }
+        }
+    }
+
+    /**
+     * Requests the processing of a given Host to be updated
+     * in the next times the Datacenter updates Hosts processing.
+     * It's called by the Host when some condition that requires its processing to be updated
+     * changes, such as a VM being placed into it.
+     *
+     * @param host the Host to have its processing updated
+     * @see HostAbstract#isProcessingUpdateRequired()
+     */
+    public synchronized void requestHostProcessingUpdate(final Host host) {
+        final Integer index = hostIndexes.get(host);
+        if (index != null) {
+            hostsToProcess.set(index);
+        }
+    }
+
     /**
      * Updates processing of each Host, that fires the update of VMs,
      * which in turn updates cloudlets running in this Datacenter.
@@ -955,7 +1124,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public Stream<? extends Host> getActiveHostStream() {
-        return hostList.stream().filter(Host::isActive);
+        /* Streams a copy of the index, since Hosts may be activated while the stream is consumed.
+         * Failed Hosts are deactivated without updating the index, so they are filtered out. */
+        return ((BitSet)activeHosts.clone()).stream().mapToObj(hostList::get).filter(Host::isActive);
     }
 
     /**
@@ -1017,10 +1188,51 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     }
 
     /**
-     * Update the number of active Hosts inside the datacenter
+     * Update the number of active Hosts inside the datacenter.
+     * It's synchronized since Hosts may be processed concurrently.
+     * @see #setHostCountForParallelProcessing(int)
      */
-    public void updateActiveHostsNumber(final Host host){
+    public synchronized void updateActiveHostsNumber(final Host host){
         activeHostsNumber += host.isActive() ? 1 : -1;
+        final Integer index = hostIndexes.get(host);
+        if (index != null) {
+            activeHosts.set(index, host.isActive());
+        }
+    }
+
+    /**
+     * Checks if Hosts processing is updated in parallel,
+     * which happens when the number of Hosts reaches the {@link #getHostCountForParallelProcessing()}.
+     * @return true if Hosts are processed in parallel, false otherwise
+     */
+    public boolean isParallelHostsProcessingEnabled() {
+        return hostList.size() >= hostCountForParallelProcessing;
+    }
+
+    /**
+     * Sets the minimum number of Hosts to start updating Hosts processing in parallel,
+     * using the {@link #getHostsProcessingPool()}.
+     * That may speed up the simulation of large Datacenters,
+     * since Hosts are independent of each other while their processing is updated.
+     * The events sent while Hosts are processed are just added to the simulation
+     * after all Hosts are updated, following the Hosts order,
+     * so that results are the same as the sequential processing.
+     *
+     * <p><b>WARNING:</b> When enabled, listeners notified during Hosts, VMs and Cloudlets processing
+     * (such as {@link Host#addOnUpdateProcessingListener(EventListener)})
+     * may be called concurrently. Therefore, they must be thread-safe.</p>
+     *
+     * @param hostCountForParallelProcessing the minimum number of Hosts to enable parallel processing
+     *                                       (use {@link Integer#MAX_VALUE} to disable it, which is the default)
+     * @return this Datacenter
+     */
+    public DatacenterSimple setHostCountForParallelProcessing(final int hostCountForParallelProcessing) {
+        if(hostCountForParallelProcessing <= 0){
+            throw new IllegalArgumentException("The host count for parallel processing must be greater than 0.");
+        }
+
+        this.hostCountForParallelProcessing = hostCountForParallelProcessing;
+        return this;
     }
 
     @Override
@@ -1030,7 +1242,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public Host getHostById(final long id) {
-        return hostList.stream().filter(host -> host.getId() == id).findFirst().map(host -> (Host)host).orElse(Host.NULL);
+        return hostsById.getOrDefault(id, Host.NULL);
     }
 
     @Override
@@ -1046,8 +1258,11 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             throw new IllegalStateException("A VmAllocationPolicy must be set before adding a new Host to the Datacenter.");
         }
 
-        setupHost(host, getLastHostId());
+        final long lastHostId = getLastHostId();
         ((List<T>)hostList).add(host);
+        indexHost(host, hostList.size()-1);
+        invalidateHostCapacityIndex();
+        setupHost(host, lastHostId);
         return this;
     }
 
@@ -1057,10 +1272,41 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
-        hostList.remove(host);
+        if (hostList.remove(host)) {
+            //Hosts after the removed one are shifted in the list
+            indexHosts();
+            removeHostById(host);
+            invalidateHostCapacityIndex();
+        }
+
         return this;
     }
 
+    /**
+     * Notifies the {@link VmAllocationPolicyAbstract} that the Host list has changed,
+     * so that its Host capacity index is rebuilt.
+     * @see VmAllocationPolicyAbstract#enableHostCapacityIndex()
+     */
+    private void invalidateHostCapacityIndex() {
+        if (vmAllocationPolicy instanceof VmAllocationPolicyAbstract policy) {
+            policy.invalidateHostCapacityIndex();
+        }
+    }
+
+    /**
+     * Removes a Host from the {@link #hostsById} map,
+     * mapping its ID to another Host with the same ID, if there is any.
+     * @param host the removed Host
+     */
+    private void removeHostById(final Host host) {
+        if (hostsById.remove(host.getId(), host)) {
+            hostList.stream()
+                    .filter(other -> other.getId() == host.getId())
+                    .findFirst()
+                    .ifPresent(other -> hostsById.put(other.getId(), other));
+        }
+    }
+
     @Override
     public String toString() {
         return "%cDatacenter %d".formatted(getCharacteristics().getDistribution().symbol(), getId());
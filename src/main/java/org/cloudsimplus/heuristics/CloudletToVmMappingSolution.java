@@ -31,8 +31,6 @@ import org.cloudsimplus.vms.Vm;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static java.util.stream.Collectors.groupingBy;
-
 /**
  * A possible solution for mapping a set of Cloudlets to a set of Vm's.
  * It represents a solution generated using a {@link Heuristic} implementation.
@@ -60,17 +58,24 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
     private final int id;
 
     /**
-     * Indicates if the {@link #getCost()} has to be recomputed
-     * due to changes in {@link #cloudletVmMap}.
-     * When it is computed, its value is stored to be used
-     * in subsequent calls, until the map is changed again, in order to
-     * improve performance.
+     * The number of Cloudlets and their total number of PEs for each VM in the {@link #cloudletVmMap}.
+     * It's updated as Cloudlets are bound to VMs or have their VMs swapped,
+     * so that the {@link #getCost()} can be updated
+     * considering just the VMs affected by such changes,
+     * instead of grouping all Cloudlets by VM again.
      */
-    private boolean recomputeCost = true;
+    private final Map<Vm, VmCloudletsPes> vmCloudletsPesMap;
 
     /**
-     * The last computed cost value, since the
-     * last time the {@link #cloudletVmMap} was changed.
+     * Indicates if the {@link #getCost()} has to be entirely recomputed,
+     * since the {@link #cloudletVmMap} was changed in a way that
+     * the {@link #vmCloudletsPesMap} couldn't be incrementally updated.
+     */
+    private boolean recomputeCost;
+
+    /**
+     * The last computed cost value, which is incrementally updated
+     * every time the {@link #cloudletVmMap} is changed.
      * @see #getCost()
      * @see #recomputeCost
      */
@@ -103,6 +108,7 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
     private CloudletToVmMappingSolution(@NonNull final Heuristic heuristic, @NonNull final Map<Cloudlet, Vm> cloudletVmMap, final int id){
         this.heuristic = heuristic;
         this.cloudletVmMap = cloudletVmMap;
+        this.vmCloudletsPesMap = new HashMap<>();
         this.id = id;
     }
 
@@ -116,7 +122,7 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
         this(solution.heuristic, new HashMap<>(solution.cloudletVmMap), id);
         this.recomputeCost = solution.recomputeCost;
         this.lastCost = solution.lastCost;
-        this.cloudletVmMap.putAll(solution.cloudletVmMap);
+        this.vmCloudletsPesMap.putAll(solution.vmCloudletsPesMap);
     }
 
     /**
@@ -134,36 +140,82 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @param vm the Vm to assign a cloudlet to
      */
     public void bindCloudletToVm(@NonNull final Cloudlet cloudlet, @NonNull final Vm vm){
-        cloudletVmMap.put(cloudlet, vm);
-        recomputeCost = true;
+        final Vm previousVm = cloudletVmMap.put(cloudlet, vm);
+        if(previousVm != null) {
+            moveCloudlet(cloudlet, previousVm, vm);
+        } else updateVmCloudletsPes(cloudlet, vm, 1);
     }
 
     private void recomputeCostIfRequested() {
         if (this.recomputeCost) {
-            this.lastCost = computeCostOfAllVms();
             this.recomputeCost = false;
+            computeCostOfAllVms();
         }
     }
 
-    private double computeCostOfAllVms() {
-        return groupCloudletsByVm()
-                .entrySet()
-                .stream()
-                .mapToDouble(this::getVmCost)
-                .sum();
+    /**
+     * Rebuilds the {@link #vmCloudletsPesMap} from the entire {@link #cloudletVmMap}
+     * and computes the cost of all VMs from it.
+     */
+    private void computeCostOfAllVms() {
+        this.vmCloudletsPesMap.clear();
+        this.lastCost = 0;
+        cloudletVmMap.forEach((cloudlet, vm) -> updateVmCloudletsPes(cloudlet, vm, 1));
     }
 
     /**
-     * Gets a Map of Cloudlets grouped by their VMs,
-     * where each key is a VM and the value is a List of Map Entries
-     * containing the Cloudlets running in that VM.
-     * @return
+     * Updates the {@link #vmCloudletsPesMap} and the {@link #getCost() cost}
+     * when a Cloudlet is moved from one VM to another one.
+     * @param cloudlet the Cloudlet being moved
+     * @param sourceVm the VM the Cloudlet is being moved from
+     * @param targetVm the VM the Cloudlet is being moved to
      */
-    private Map<Vm, List<Map.Entry<Cloudlet, Vm>>> groupCloudletsByVm() {
-        return cloudletVmMap
-                .entrySet()
-                .stream()
-                .collect(groupingBy(Map.Entry::getValue));
+    private void moveCloudlet(final Cloudlet cloudlet, final Vm sourceVm, final Vm targetVm) {
+        if(sourceVm != targetVm) {
+            updateVmCloudletsPes(cloudlet, sourceVm, -1);
+            updateVmCloudletsPes(cloudlet, targetVm, 1);
+        }
+    }
+
+    /**
+     * Adds or removes a Cloudlet from the {@link #vmCloudletsPesMap} entry of a given VM,
+     * updating the {@link #getCost() cost} just by the difference in that VM cost.
+     * If the {@link #recomputeCost cost has to be entirely recomputed}, nothing is done,
+     * since the map will be rebuilt anyway.
+     *
+     * @param cloudlet the Cloudlet to add to or remove from the VM
+     * @param vm the VM to update its number of Cloudlets and PEs
+     * @param increment 1 to add the Cloudlet to the VM, -1 to remove it
+     */
+    private void updateVmCloudletsPes(final Cloudlet cloudlet, final Vm vm, final int increment) {
+        if(recomputeCost) {
+            return;
+        }
+
+        final var previous = vmCloudletsPesMap.getOrDefault(vm, VmCloudletsPes.NONE);
+        final var current = new VmCloudletsPes(
+                                    previous.cloudlets() + increment,
+                                    previous.pes() + increment * cloudlet.getPesNumber());
+        lastCost += getVmCost(vm, current) - getVmCost(vm, previous);
+
+        if(current.cloudlets() == 0)
+            vmCloudletsPesMap.remove(vm);
+        else vmCloudletsPesMap.put(vm, current);
+    }
+
+    /**
+     * Computes the cost of a VM for hosting a number of Cloudlets requiring a total number of PEs.
+     * A VM hosting no Cloudlets doesn't add any cost to the solution.
+     * @param vm the VM to compute the cost
+     * @param cloudletsPes the number of Cloudlets hosted by the VM and their total number of PEs
+     * @return the VM cost to host the Cloudlets
+     */
+    private double getVmCost(final Vm vm, final VmCloudletsPes cloudletsPes) {
+        return cloudletsPes.cloudlets() == 0 ? 0 : getVmCost(vm, cloudletsPes.pes());
+    }
+
+    private double getVmCost(final Vm vm, final long cloudletsPes) {
+        return Math.abs(vm.getPesNumber() - cloudletsPes);
     }
 
     /**
@@ -215,7 +267,7 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @return the VM cost to host the Cloudlets
      */
     public double getVmCost(final Vm vm, final List<Cloudlet> cloudlets) {
-        return Math.abs(vm.getPesNumber() - getTotalCloudletsPes(cloudlets));
+        return getVmCost(vm, getTotalCloudletsPes(cloudlets));
     }
 
     private List<Cloudlet> convertMapEntryListToCloudletList(final List<Map.Entry<Cloudlet, Vm>> entriesList) {
@@ -274,7 +326,9 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      *
      * <p>The method change the given Map entries, moving the
      * cloudlet of the first entry to the Vm of the second entry
-     * and vice-versa.</p>
+     * and vice-versa.
+     * The {@link #getCost() cost} is updated considering just the two VMs involved,
+     * as long as the entries belong to the {@link #cloudletVmMap}.</p>
      *
      * @param entries a List of 2 entries containing Cloudlets to swap their VMs.
      * If the entries don't have 2 elements, the method will
@@ -286,12 +340,23 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
             return false;
         }
 
+        final Cloudlet cloudlet0 = entries.get(0).getKey();
+        final Cloudlet cloudlet1 = entries.get(1).getKey();
         final Vm vm0 = entries.get(0).getValue();
         final Vm vm1 = entries.get(1).getValue();
         entries.get(0).setValue(vm1);
         entries.get(1).setValue(vm0);
 
-        return recomputeCost = true;
+        /* If the entries don't belong to the cloudletVmMap,
+         * the map wasn't changed by the swap as expected.
+         * This way, the cost cannot be incrementally updated. */
+        if(vm0 != vm1 && (cloudletVmMap.get(cloudlet0) != vm1 || cloudletVmMap.get(cloudlet1) != vm0)) {
+            return recomputeCost = true;
+        }
+
+        moveCloudlet(cloudlet0, vm0, vm1);
+        moveCloudlet(cloudlet1, vm1, vm0);
+        return true;
     }
 
     /**
@@ -376,4 +441,13 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
 
         return selected;
     }
+
+    /**
+     * The number of Cloudlets mapped to a VM and their total number of PEs.
+     * @param cloudlets number of Cloudlets mapped to the VM
+     * @param pes total number of PEs required by such Cloudlets
+     */
+    private record VmCloudletsPes(int cloudlets, long pes) {
+        private static final VmCloudletsPes NONE = new VmCloudletsPes(0, 0);
+    }
 }
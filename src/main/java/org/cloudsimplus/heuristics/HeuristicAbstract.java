@@ -29,8 +29,12 @@ import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.cloudsimplus.distributions.ContinuousDistribution;
+import org.cloudsimplus.distributions.UniformDistr;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 /**
  * An abstract class for {@link Heuristic} implementations.
@@ -42,6 +46,7 @@ import java.lang.reflect.InvocationTargetException;
  *            and executes the solution search in order
  *            to find a satisfying solution (defined by a stop criteria)
  * @since CloudSim Plus 1.0
+ * @see #setSearchChains(int)
  */
 @Accessors @Getter
 public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  implements Heuristic<S> {
@@ -68,6 +73,51 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 
 	private double solveTime;
 
+    /**
+     * The number of independent search chains run in parallel by the {@link #solve()} method.
+     * @see #setSearchChains(int)
+     */
+    private int searchChains;
+
+    /**
+     * The number of iterations after which the best solution among all search chains
+     * is shared with every chain, so that they continue searching from it.
+     * @see #setSearchChains(int)
+     */
+    private int chainsExchangeInterval;
+
+    /**
+     * The pool used to run multiple search chains in parallel.
+     * It's the {@link ForkJoinPool#commonPool() common pool} by default.
+     * @see #setSearchChains(int)
+     */
+    @Setter @NonNull
+    private ForkJoinPool chainsPool;
+
+    /**
+     * The search chain being run by the current thread
+     * when {@link #getSearchChains() multiple chains} are used.
+     * This way, the random number generator and solutions
+     * accessed during the neighborhood search are the ones from that chain.
+     */
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<SearchChain> currentChain = new ThreadLocal<>();
+
+    /**
+     * The state of a search chain, when {@link #getSearchChains() multiple chains} are used.
+     */
+    private final class SearchChain {
+        private final ContinuousDistribution random;
+        private S bestSolutionSoFar;
+        private S neighborSolution;
+
+        private SearchChain(final ContinuousDistribution random, final S initialSolution) {
+            this.random = random;
+            this.bestSolutionSoFar = initialSolution;
+            this.neighborSolution = initialSolution;
+        }
+    }
+
 	/**
 	 * Creates a heuristic.
 	 *
@@ -78,6 +128,9 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
         this.random = random;
         this.solutionClass = solutionClass;
 		this.searchesByIteration = 1;
+        this.searchChains = 1;
+        this.chainsExchangeInterval = 10;
+        this.chainsPool = ForkJoinPool.commonPool();
 		setBestSolutionSoFar(newSolutionInstance());
 		setNeighborSolution(bestSolutionSoFar);
 	}
@@ -107,7 +160,8 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 
 	@Override
 	public int getRandomValue(final int maxValue){
-		final double uniform = getRandom().sample();
+        final var chain = currentChain.get();
+		final double uniform = chain == null ? getRandom().sample() : chain.random.sample();
 
         /* Always get an index between [0 and size[,
         regardless if the random number generator returns
@@ -119,20 +173,90 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 	public S solve() {
 		final long startTime = System.currentTimeMillis();
 		setBestSolutionSoFar(getInitialSolution());
-		while (!isToStopSearch()) {
-            searchSolutionInNeighborhood();
-            updateSystemState();
-		}
+        if(searchChains > 1) {
+            solveWithMultipleChains();
+        } else {
+            while (!isToStopSearch()) {
+                searchSolutionInNeighborhood();
+                updateSystemState();
+            }
+        }
 		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
 
 		return bestSolutionSoFar;
 	}
 
+    /**
+     * Runs the {@link #getSearchChains() search chains} in parallel, all of them starting from the initial solution.
+     * The chains perform one iteration at a time and then the best solution so far is
+     * selected among them, so that the system state is updated just once by iteration.
+     * Each {@link #getChainsExchangeInterval() exchange interval}, all chains move to such a best solution.
+     */
+    private void solveWithMultipleChains() {
+        // The cost is computed before the solution is shared by multiple threads
+        bestSolutionSoFar.getCost();
+        final var chains = IntStream.range(0, searchChains).mapToObj(this::newSearchChain).toList();
+
+        for (int iteration = 1; !isToStopSearch(); iteration++) {
+            chainsPool.submit(() -> chains.parallelStream().forEach(this::searchSolutionInNeighborhood)).join();
+            setBestSolutionSoFar(getBestChainSolution(chains));
+            if(iteration % chainsExchangeInterval == 0) {
+                chains.forEach(chain -> chain.bestSolutionSoFar = bestSolutionSoFar);
+            }
+
+            updateSystemState();
+        }
+    }
+
+    /**
+     * Creates a search chain starting from the best solution so far.
+     * The first chain uses the {@link #getRandom() heuristic random number generator},
+     * while each other chain uses its own generator seeded from it,
+     * so that results are reproducible for a given seed, regardless of how threads are scheduled.
+     * @param index the index of the chain to create
+     * @return the new search chain
+     */
+    private SearchChain newSearchChain(final int index) {
+        final var chainRandom = index == 0 ? random : new UniformDistr(random.getSeed() + index);
+        return new SearchChain(chainRandom, bestSolutionSoFar);
+    }
+
+    /**
+     * Gets the best solution among the ones found by the given search chains.
+     * If multiple solutions are equally good, the one from the first chain is selected.
+     * @param chains the search chains to get the best solution from
+     * @return the best solution among all chains
+     */
+    private S getBestChainSolution(final List<SearchChain> chains) {
+        S best = chains.get(0).bestSolutionSoFar;
+        for (final var chain : chains) {
+            if (chain.bestSolutionSoFar.getCost() < best.getCost()) {
+                best = chain.bestSolutionSoFar;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Performs the neighborhood search for a given chain,
+     * using the chain's random number generator and solutions.
+     * @param chain the search chain to perform the neighborhood search
+     */
+    private void searchSolutionInNeighborhood(final SearchChain chain) {
+        currentChain.set(chain);
+        try {
+            searchSolutionInNeighborhood();
+        } finally {
+            currentChain.remove();
+        }
+    }
+
     private void searchSolutionInNeighborhood() {
         for (int i = 0; i < searchesByIteration; i++) {
-            setNeighborSolution(createNeighbor(bestSolutionSoFar));
+            setNeighborSolution(createNeighbor(getBestSolutionSoFar()));
             if (getAcceptanceProbability() > getRandomValue(1)) {
-                setBestSolutionSoFar(neighborSolution);
+                setBestSolutionSoFar(getNeighborSolution());
             }
         }
     }
@@ -142,7 +266,34 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
      * @param solution the solution to set as the current one.
      */
     protected final void setBestSolutionSoFar(final S solution) {
-        this.bestSolutionSoFar = solution;
+        final var chain = currentChain.get();
+        if(chain == null)
+            this.bestSolutionSoFar = solution;
+        else chain.bestSolutionSoFar = solution;
+    }
+
+    /**
+     * {@inheritDoc}
+     * When called during the neighborhood search of one of {@link #getSearchChains() multiple chains},
+     * it returns the best solution found by that chain.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public S getBestSolutionSoFar() {
+        final var chain = currentChain.get();
+        return chain == null ? bestSolutionSoFar : chain.bestSolutionSoFar;
+    }
+
+    /**
+     * {@inheritDoc}
+     * When called during the neighborhood search of one of {@link #getSearchChains() multiple chains},
+     * it returns the neighbor solution of that chain.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public S getNeighborSolution() {
+        final var chain = currentChain.get();
+        return chain == null ? neighborSolution : chain.neighborSolution;
     }
 
 	/**
@@ -150,7 +301,51 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 	 * @param solution the solution to set as the neighbor one.
 	 */
     protected final void setNeighborSolution(final S solution) {
-        this.neighborSolution = solution;
+        final var chain = currentChain.get();
+        if(chain == null)
+            this.neighborSolution = solution;
+        else chain.neighborSolution = solution;
+    }
+
+    /**
+     * Sets the number of independent search chains to run in parallel (using the {@link #getChainsPool()}),
+     * in order to reduce the time to find a solution as the number of CPU cores increases.
+     * Each chain uses its own random number generator and performs the
+     * {@link #getSearchesByIteration() neighborhood searches} of every iteration,
+     * starting from the best solution found by that chain.
+     * After each iteration, the best solution among all chains is selected
+     * and it is shared with all chains at every {@link #getChainsExchangeInterval() exchange interval}.
+     *
+     * <p>Solutions are still reproducible for a given seed of the {@link #getRandom() random number generator},
+     * but they are different from the ones found using a single chain.
+     * The {@link #createNeighbor(HeuristicSolution)} and the cost computation of solutions
+     * must be thread-safe to use multiple chains.</p>
+     *
+     * @param searchChains the number of search chains (1 disables parallel search, which is the default)
+     * @return this heuristic
+     */
+    public HeuristicAbstract<S> setSearchChains(final int searchChains) {
+        if(searchChains <= 0){
+            throw new IllegalArgumentException("The number of search chains must be greater than 0.");
+        }
+
+        this.searchChains = searchChains;
+        return this;
+    }
+
+    /**
+     * Sets the number of iterations after which the best solution among all
+     * {@link #getSearchChains() search chains} is shared with every chain.
+     * @param chainsExchangeInterval the number of iterations between best solution exchanges
+     * @return this heuristic
+     */
+    public HeuristicAbstract<S> setChainsExchangeInterval(final int chainsExchangeInterval) {
+        if(chainsExchangeInterval <= 0){
+            throw new IllegalArgumentException("The chains exchange interval must be greater than 0.");
+        }
+
+        this.chainsExchangeInterval = chainsExchangeInterval;
+        return this;
     }
 
 }
@@ -24,6 +24,7 @@ import org.cloudsimplus.resources.Pe.Status;
 import org.cloudsimplus.resources.Ram;
 import org.cloudsimplus.resources.ResourceManageable;
 import org.cloudsimplus.schedulers.vm.VmScheduler;
+import org.cloudsimplus.util.StateHistory;
 import org.cloudsimplus.vms.HostResourceStats;
 import org.cloudsimplus.vms.Vm;
 import org.slf4j.Logger;
@@ -701,6 +702,18 @@ public interface Host extends PhysicalMachine, Comparable<Host>, PowerAware<Powe
      */
     List<HostStateHistoryEntry> getStateHistory();
 
+    /**
+     * Calls a given consumer for each entry in the {@link #getStateHistory() state history},
+     * passing the entry values (time, allocated MIPS, requested MIPS and if the Host was active).
+     * Implementations storing such values in primitive arrays don't need to create
+     * an entry object for each call.
+     *
+     * @param consumer the consumer to be called for each entry
+     */
+    default void forEachStateHistoryEntry(final StateHistory.EntryConsumer consumer) {
+        getStateHistory().forEach(entry -> consumer.accept(entry.time(), entry.allocatedMips(), entry.requestedMips(), entry.active()));
+    }
+
     /**
      * Gets the List of VMs that have finished executing.
      * @return
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicyAbstract;
 import org.cloudsimplus.core.*;
 import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.datacenters.DatacenterSimple;
@@ -20,6 +21,7 @@ import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.schedulers.vm.VmScheduler;
 import org.cloudsimplus.schedulers.vm.VmSchedulerSpaceShared;
 import org.cloudsimplus.util.BytesConversion;
+import org.cloudsimplus.util.StateHistory;
 import org.cloudsimplus.util.TimeUtil;
 import org.cloudsimplus.vms.*;
 
@@ -59,8 +61,11 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     protected final Bandwidth bw;
     /** @see #getStorage() */
     protected final HarddriveStorage disk;
-    /** @see #getStateHistory() */
-    protected final List<HostStateHistoryEntry> stateHistory;
+    /**
+     * @see #getStateHistory()
+     * @see #setStateHistoryColumnar(boolean)
+     */
+    protected List<HostStateHistoryEntry> stateHistory;
     /** @see #getVmsMigratingIn() */
     protected final Set<Vm> vmsMigratingIn;
     /** @see #getVmsMigratingOut() */
@@ -127,6 +132,9 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
     private List<Pe> peList;
     @Getter @Setter
     private boolean stateHistoryEnabled;
+    /** @see #setStateHistoryCompressed(boolean) */
+    @Getter
+    private boolean stateHistoryCompressed;
     @Getter
     private int freePesNumber;
     @Getter
@@ -270,6 +278,35 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         return delay > 0 ? Math.min(delay, nextSimulationDelay) : nextSimulationDelay;
     }
 
+    /**
+     * Checks if the processing of this Host must be updated,
+     * or it can be skipped because the Host is idle and the update
+     * would not change its state nor notify anyone.
+     * This enables the {@link DatacenterSimple} to update just busy Hosts.
+     *
+     * @return true if the processing update is required, false if it can be skipped
+     * @see #requestProcessingUpdate()
+     */
+    public boolean isProcessingUpdateRequired() {
+        return !vmList.isEmpty() ||
+               !onUpdateProcessingListeners.isEmpty() ||
+               stateHistoryEnabled ||
+               cpuUtilizationStats != HostResourceStats.NULL ||
+               active && idleShutdownDeadline >= 0;
+    }
+
+    /**
+     * Requests the {@link DatacenterSimple} to update the processing of this Host,
+     * when some condition that makes such an update required has changed
+     * (such as a VM being placed into the Host).
+     * @see #isProcessingUpdateRequired()
+     */
+    protected void requestProcessingUpdate() {
+        if (datacenter instanceof DatacenterSimple dc) {
+            dc.requestHostProcessingUpdate(this);
+        }
+    }
+
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
         onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l, this, nextSimulationTime)));
     }
@@ -306,6 +343,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         final HostSuitability suitability = allocateResourcesForVm(vm, false);
         if (suitability.fully()) {
             vmList.add(vm);
+            requestProcessingUpdate();
         }
         ((VmAbstract)vm).setCreated(suitability.fully());
 
@@ -367,6 +405,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         for (final Vm vm : vmsMigratingIn) {
             if (!vmList.contains(vm)) {
                 vmList.add(vm);
+                requestProcessingUpdate();
             }
 
             allocateResourcesForVm(vm);
@@ -491,6 +530,8 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
         this.active = activate;
         ((DatacenterSimple) datacenter).updateActiveHostsNumber(this);
+        updateCapacityIndex();
+        requestProcessingUpdate();
         activationChangeInProgress = false;
         notifyStartupOrShutdown(activate, wasActive);
     }
@@ -634,6 +675,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         }
 
         this.onUpdateProcessingListeners.add(listener);
+        requestProcessingUpdate();
         return this;
     }
 
@@ -795,6 +837,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         busyPesNumber = 0;
         freePesNumber = peList.size();
         workingPesNumber = freePesNumber;
+        updateCapacityIndex();
     }
 
     @Override
@@ -809,6 +852,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     protected void addVmToList(@NonNull final Vm vm) {
         vmList.add(vm);
+        requestProcessingUpdate();
     }
 
     protected void addVmToCreatedList(@NonNull final Vm vm) {
@@ -829,6 +873,8 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
             this.active = false;
         }
 
+        updateCapacityIndex();
+
         return true;
     }
 
@@ -844,6 +890,19 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         for (final Pe pe : peList) {
             updatePeStatus(pe, newStatus);
         }
+
+        updateCapacityIndex();
+    }
+
+    /**
+     * Notifies the {@link VmAllocationPolicyAbstract} of the Host's Datacenter
+     * that the number of free PEs or the active state of the Host may have changed.
+     * @see VmAllocationPolicyAbstract#enableHostCapacityIndex()
+     */
+    private void updateCapacityIndex() {
+        if (datacenter != null && datacenter.getVmAllocationPolicy() instanceof VmAllocationPolicyAbstract policy) {
+            policy.updateHostCapacityIndex(this);
+        }
     }
 
     private void updatePeStatus(final Pe pe, final Pe.Status newStatus) {
@@ -1064,6 +1123,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         }
 
         this.cpuUtilizationStats = new HostResourceStats(this, Host::getCpuPercentUtilization);
+        requestProcessingUpdate();
         if (vmList.isEmpty()) {
             final String host = this.getId() > -1 ? this.toString() : "Host";
             LOGGER.info("Automatically enabling computation of utilization statistics for VMs on {} could not be performed because it doesn't have VMs yet. You need to enable it for each VM created.", host);
@@ -1158,6 +1218,11 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         final double allocatedMips,
         final double requestedMips,
         final boolean isActive) {
+        if (stateHistory instanceof StateHistory<HostStateHistoryEntry> columns) {
+            columns.add(time, allocatedMips, requestedMips, isActive);
+            return;
+        }
+
         final var newState = new HostStateHistoryEntry(time, allocatedMips, requestedMips, isActive);
         if (!stateHistory.isEmpty()) {
             final var previousState = stateHistory.get(stateHistory.size() - 1);
@@ -1165,6 +1230,12 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
                 stateHistory.set(stateHistory.size() - 1, newState);
                 return;
             }
+
+            if (stateHistoryCompressed && previousState.allocatedMips() == allocatedMips &&
+                previousState.requestedMips() == requestedMips && previousState.active() == isActive)
+            {
+                return;
+            }
         }
 
         stateHistory.add(newState);
@@ -1175,6 +1246,73 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         return Collections.unmodifiableList(stateHistory);
     }
 
+    @Override
+    public void forEachStateHistoryEntry(final StateHistory.EntryConsumer consumer) {
+        if (stateHistory instanceof StateHistory<HostStateHistoryEntry> columns) {
+            columns.forEach(consumer);
+            return;
+        }
+
+        Host.super.forEachStateHistoryEntry(consumer);
+    }
+
+    /**
+     * Checks if the {@link #getStateHistory() state history} is stored in primitive columns,
+     * instead of a list of entry objects.
+     * @return true if the state history is columnar, false otherwise
+     * @see #setStateHistoryColumnar(boolean)
+     */
+    public boolean isStateHistoryColumnar() {
+        return stateHistory instanceof StateHistory;
+    }
+
+    /**
+     * Defines if the {@link #getStateHistory() state history} is stored in primitive columns
+     * (a {@link StateHistory}), instead of a list of entry objects (the default).
+     * That drastically reduces memory usage for long-running simulations,
+     * but entries are created every time they are read from the {@link #getStateHistory()}
+     * (use {@link #forEachStateHistoryEntry(StateHistory.EntryConsumer)} to avoid that).
+     * Previously stored entries are kept.
+     *
+     * @param columnar true to store the history in primitive columns, false to store entry objects
+     * @return this Host
+     */
+    public Host setStateHistoryColumnar(final boolean columnar) {
+        if (columnar == isStateHistoryColumnar()) {
+            return this;
+        }
+
+        if (columnar) {
+            final var columns = new StateHistory<>(HostStateHistoryEntry::new).setCompressed(stateHistoryCompressed);
+            stateHistory.forEach(entry -> columns.add(entry.time(), entry.allocatedMips(), entry.requestedMips(), entry.active()));
+            stateHistory = columns;
+        } else {
+            stateHistory = new LinkedList<>(stateHistory);
+        }
+
+        return this;
+    }
+
+    /**
+     * Enables or disables run-length compression of the {@link #getStateHistory() state history},
+     * so that samples having the same values as the previous one are not stored.
+     * This way, each entry represents the Host state from its time until the time of the next entry,
+     * reducing memory usage when the Host state doesn't change frequently.
+     * It doesn't affect previously stored entries
+     * and the history of VMs (which is set by {@link VmAbstract#setStateHistoryCompressed(boolean)}).
+     *
+     * @param compressed true to enable compression, false to disable it (the default)
+     * @return this Host
+     */
+    public Host setStateHistoryCompressed(final boolean compressed) {
+        this.stateHistoryCompressed = compressed;
+        if (stateHistory instanceof StateHistory<HostStateHistoryEntry> columns) {
+            columns.setCompressed(compressed);
+        }
+
+        return this;
+    }
+
     @Override
     public List<Vm> getMigratableVms() {
         return vmList.stream()
@@ -1279,11 +1417,13 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     public final Host setIdleShutdownDeadline(double idleShutdownDeadline) {
         this.idleShutdownDeadline = idleShutdownDeadline;
+        requestProcessingUpdate();
         return this;
     }
 
     public final Host setStateHistoryEnabled(boolean stateHistoryEnabled) {
         this.stateHistoryEnabled = stateHistoryEnabled;
+        requestProcessingUpdate();
         return this;
     }
 
@@ -113,6 +113,11 @@ public class NetworkHost extends HostSimple {
         return  nextFinishingCloudletTime;
     }
 
+    @Override
+    public boolean isProcessingUpdateRequired() {
+        return super.isProcessingUpdateRequired() || !hostPktsReceived.isEmpty();
+    }
+
     /**
      * Receives packets and forwards them to targeting VMs and respective Cloudlets.
      */
@@ -266,5 +271,6 @@ public class NetworkHost extends HostSimple {
      */
     public void addReceivedNetworkPacket(final HostPacket hostPacket){
         hostPktsReceived.add(hostPacket);
+        requestProcessingUpdate();
     }
 }
@@ -91,6 +91,158 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     @Getter(AccessLevel.NONE)
     private final List<EventListener<CloudletResourceAllocationFailEventInfo>> resourceAllocationFailListeners;
 
+    /**
+     * Maps the ID of each Cloudlet to its {@link CloudletExecution} and the list it currently belongs to
+     * (such as the {@link #cloudletExecList} or {@link #cloudletWaitingList}),
+     * so that a Cloudlet can be found in any list in constant time.
+     * It's kept in sync by such lists, which are {@link CloudletList}s.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, CloudletLocation> cloudletLocations;
+
+    /**
+     * {@return true or false} to indicate if the processing of running Cloudlets is event-driven,
+     * instead of being updated every time {@link #updateProcessing(double, MipsShare)} is called.
+     * @see #setEventDrivenProcessingEnabled(boolean)
+     */
+    private boolean eventDrivenProcessingEnabled;
+
+    /**
+     * Cloudlets in the {@link #getCloudletExecList() execution list}, ordered by the
+     * absolute time their processing is expected to be updated again
+     * (usually when they are expected to finish).
+     * It's just used when the {@link #isEventDrivenProcessingEnabled() event-driven processing} is enabled.
+     */
+    @Getter(AccessLevel.NONE)
+    private final PriorityQueue<ProjectedUpdate> projectedUpdates;
+
+    /**
+     * Total number of PEs required by the Cloudlets in the {@link #projectedUpdates}.
+     */
+    @Getter(AccessLevel.NONE)
+    private long projectedCloudletsPes;
+
+    /**
+     * Indicates if some Cloudlet list was changed since the last time
+     * the {@link #projectedUpdates} were computed,
+     * so that the processing of all Cloudlets must be updated.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean cloudletListsChanged;
+
+    /**
+     * Indicates if the last call of {@link #updateProcessing(double, MipsShare)}
+     * didn't update the processing of all running Cloudlets,
+     * since just the ones in the {@link #projectedUpdates} whose time has come were updated.
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean cloudletsProcessingOutdated;
+
+    /**
+     * The number of PEs from the {@link #getCurrentMipsShare() MIPS share} which could be used by the VM
+     * the last time the {@link #projectedUpdates} were computed.
+     * @see #projectedPes(MipsShare)
+     */
+    @Getter(AccessLevel.NONE)
+    private long projectedMipsSharePes;
+
+    /** @see #projectedMipsSharePes */
+    @Getter(AccessLevel.NONE)
+    private double projectedMipsSharePeMips;
+
+    /**
+     * The list a given Cloudlet currently belongs to.
+     * @param cle the Cloudlet
+     * @param list the list where the Cloudlet is
+     */
+    private record CloudletLocation(CloudletExecution cle, List<CloudletExecution> list) {}
+
+    /**
+     * A Cloudlet list that updates the {@link #cloudletLocations} index
+     * every time a Cloudlet is added to or removed from it,
+     * so that the index is kept in sync even when the list is changed from outside the scheduler.
+     *
+     * <p>Since the order of Cloudlets must be kept, removing a Cloudlet still
+     * takes linear time, to find its position and shift the next Cloudlets.</p>
+     */
+    private final class CloudletList extends AbstractList<CloudletExecution> implements RandomAccess, java.io.Serializable {
+        @Serial
+        private static final long serialVersionUID = 5012245364711393174L;
+
+        private final List<CloudletExecution> list = new ArrayList<>();
+
+        @Override
+        public CloudletExecution get(final int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public void add(final int index, final CloudletExecution cle) {
+            list.add(index, cle);
+            cloudletLocations.put(cle.getId(), new CloudletLocation(cle, this));
+        }
+
+        @Override
+        public CloudletExecution set(final int index, final CloudletExecution cle) {
+            final var previous = list.set(index, cle);
+            if (previous != cle) {
+                unindex(previous);
+                cloudletLocations.put(cle.getId(), new CloudletLocation(cle, this));
+            }
+
+            return previous;
+        }
+
+        @Override
+        public CloudletExecution remove(final int index) {
+            final var cle = list.remove(index);
+            unindex(cle);
+            return cle;
+        }
+
+        @Override
+        public boolean remove(final Object obj) {
+            final int index = list.indexOf(obj);
+            if (index < 0) {
+                return false;
+            }
+
+            remove(index);
+            return true;
+        }
+
+        @Override
+        public void sort(final Comparator<? super CloudletExecution> comparator) {
+            list.sort(comparator);
+        }
+
+        /**
+         * Removes a Cloudlet from the index, if it's not in another list.
+         * @param cle the Cloudlet removed from this list
+         */
+        private void unindex(final CloudletExecution cle) {
+            final var location = cloudletLocations.get(cle.getId());
+            if (location != null && location.list() == this) {
+                cloudletLocations.remove(cle.getId());
+            }
+        }
+    }
+
+    /**
+     * The time a Cloudlet in execution must have its processing updated again.
+     * @param time the absolute time to update the Cloudlet processing
+     * @param cle the Cloudlet to update
+     */
+    private record ProjectedUpdate(double time, CloudletExecution cle) {
+        private static final Comparator<ProjectedUpdate> COMPARATOR =
+            Comparator.comparingDouble(ProjectedUpdate::time).thenComparingLong(update -> update.cle().getId());
+    }
+
     /**
      * Creates a CloudletScheduler.
      */
@@ -98,15 +250,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         setPreviousTime(0.0);
         vm = Vm.NULL;
         cloudletSubmittedList = new ArrayList<>();
-        cloudletExecList = new ArrayList<>();
-        cloudletPausedList = new ArrayList<>();
-        cloudletFinishedList = new ArrayList<>();
-        cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletExecList = new CloudletList();
+        cloudletPausedList = new CloudletList();
+        cloudletFinishedList = new CloudletList();
+        cloudletFailedList = new CloudletList();
+        cloudletWaitingList = new CloudletList();
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new MipsShare();
         taskScheduler = CloudletTaskScheduler.NULL;
         resourceAllocationFailListeners = new ArrayList<>();
+        projectedUpdates = new PriorityQueue<>(ProjectedUpdate.COMPARATOR);
+        cloudletLocations = new HashMap<>();
     }
 
     @Override
@@ -184,6 +338,34 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return Collections.unmodifiableList(cloudletExecList);
     }
 
+    /**
+     * Adds a Cloudlet to the list of paused Cloudlets.
+     * @param cle the Cloudlet to add
+     */
+    protected void addCloudletToPausedList(final CloudletExecution cle) {
+        cloudletPausedList.add(cle);
+    }
+
+    /**
+     * Removes a Cloudlet from the list of paused Cloudlets.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was removed, false if it was not paused
+     */
+    protected boolean removeCloudletFromPausedList(final CloudletExecution cle) {
+        return cloudletPausedList.remove(cle);
+    }
+
+    /**
+     * Search for a Cloudlet into the list of paused Cloudlets.
+     *
+     * @param cloudlet the Cloudlet to search for
+     * @return an {@link Optional} value that is able to indicate if the
+     * Cloudlet was found or not
+     */
+    protected Optional<CloudletExecution> findCloudletInPausedList(final Cloudlet cloudlet) {
+        return findCloudletInList(cloudlet, cloudletPausedList);
+    }
+
     @Override
     public <T extends Cloudlet> List<T> getCloudletSubmittedList() {
         if(cloudletSubmittedList.isEmpty() && !cloudletSubmittedListEnabled) {
@@ -199,6 +381,43 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return this;
     }
 
+    /**
+     * Enables or disables the event-driven processing of Cloudlets.
+     * When enabled, running Cloudlets are kept in a priority queue ordered by the time
+     * their processing is expected to be updated again (usually their projected finish time).
+     * This way, every time {@link #updateProcessing(double, MipsShare)} is called,
+     * just the Cloudlets whose time has come are processed,
+     * while the others are just updated when they are due.
+     * That avoids processing every running Cloudlet at each update,
+     * which is costly for VMs running thousands of (usually short) Cloudlets.
+     *
+     * <p>All Cloudlets are processed as usual when Cloudlets are submitted, paused, resumed or canceled;
+     * the VM MIPS share changes; PEs are oversubscribed
+     * or some RAM/BW is being used by Cloudlets (since then, the completion of a Cloudlet changes the share of
+     * resources of the others).</p>
+     *
+     * <p><b>WARNING:</b> This mode is intended for Cloudlets whose
+     * {@link UtilizationModel}s don't change along the time (such as the default ones).
+     * Since the processing of a Cloudlet is only updated when it's due,
+     * its progress, on-update-processing listeners and the RAM/BW usage of the VM
+     * are just updated at such times.
+     * Results may also slightly differ from the regular mode, since the executed length
+     * is rounded down at each update. The mode is disabled by default.</p>
+     *
+     * <p>Schedulers which must update running Cloudlets at every call
+     * (such as the {@link CloudletSchedulerCompletelyFair}) keep the mode disabled.
+     * Check {@link #isEventDrivenProcessingEnabled()} to know if the mode was actually enabled.</p>
+     *
+     * @param enabled true to enable the event-driven processing, false to disable
+     * @return this scheduler
+     */
+    public CloudletSchedulerAbstract setEventDrivenProcessingEnabled(final boolean enabled) {
+        updateOutdatedCloudletsProcessing();
+        this.eventDrivenProcessingEnabled = enabled;
+        this.cloudletListsChanged = true;
+        return this;
+    }
+
     protected void addCloudletToWaitingList(final CloudletExecution cle) {
         if(requireNonNull(cle) == CloudletExecution.NULL){
             return;
@@ -208,6 +427,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             cle.setStatus(Cloudlet.Status.QUEUED);
         }
         cloudletWaitingList.add(cle);
+        cloudletListsChanged = true;
     }
 
     @Override
@@ -277,10 +497,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param cle the Cloudlet to be added
      */
     protected void addCloudletToExecList(final CloudletExecution cle) {
+        updateOutdatedCloudletsProcessing();
         cle.setStatus(Cloudlet.Status.INEXEC);
         cle.setLastProcessingTime(getVm().getSimulation().clock());
         cloudletExecList.add(cle);
         addUsedPes(cle.getPesNumber());
+        cloudletListsChanged = true;
     }
 
     @Override
@@ -296,21 +518,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecution> findCloudletInAllLists(final double cloudletId) {
-        final var cloudletExecInfoListStream = Stream.of(
-            cloudletExecList, cloudletPausedList, cloudletWaitingList,
-            cloudletFinishedList, cloudletFailedList
-        );
-
-        //Gets all elements in each list and makes them a single full list,
-        //returning the first Cloudlet with the given id
-        return cloudletExecInfoListStream
-            .flatMap(List::stream)
-            .filter(cle -> cle.getId() == cloudletId)
-            .findFirst();
+        return Optional.ofNullable(cloudletLocations.get((long) cloudletId)).map(CloudletLocation::cle);
     }
 
     /**
      * Search for a Cloudlet into a given list.
+     * If the list is one of the lists managed by this scheduler,
+     * the Cloudlet is found in constant time.
      *
      * @param cloudlet the Cloudlet to search for
      * @param list       the list to search the Cloudlet into
@@ -318,11 +532,26 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecution> findCloudletInList(final Cloudlet cloudlet, final List<CloudletExecution> list) {
+        if(isCloudletList(list)) {
+            final var location = cloudletLocations.get(cloudlet.getId());
+            return location == null || location.list() != list ? Optional.empty() : Optional.of(location.cle());
+        }
+
         return list.stream()
             .filter(cle -> cle.getId() == cloudlet.getId())
             .findFirst();
     }
 
+    /**
+     * Checks if a given list is one of the Cloudlet lists indexed by the {@link #cloudletLocations}.
+     * @param list the list to check
+     * @return true if it's an indexed list, false otherwise
+     */
+    private boolean isCloudletList(final List<CloudletExecution> list) {
+        return list == cloudletExecList || list == cloudletWaitingList || list == cloudletPausedList ||
+               list == cloudletFinishedList || list == cloudletFailedList;
+    }
+
     /**
      * Processes a finished cloudlet.
      *
@@ -347,6 +576,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          that it can be scheduled naturally to start executing.
          */
         cloudlet.setStatus(Cloudlet.Status.READY);
+        cloudletListsChanged = true;
 
         /*
          Requests a cloudlet processing update to ensure the cloudlet will be moved to the
@@ -446,7 +676,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         else cle.setStatus(newStatus);
 
         if (newStatus == Cloudlet.Status.PAUSED)
-            cloudletPausedList.add(cle);
+            addCloudletToPausedList(cle);
         else if (newStatus == Cloudlet.Status.READY)
             addCloudletToWaitingList(cle);
     }
@@ -466,19 +696,25 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final Cloudlet cloudlet,
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
-        final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
-            cloudletList.remove(cle);
+        updateOutdatedCloudletsProcessing();
+        final Function<CloudletExecution, Cloudlet> updateStatus = cle -> {
+            cloudletListsChanged = true;
             cloudletStatusUpdaterConsumer.accept(cle);
             return cle.getCloudlet();
         };
 
         return findCloudletInList(cloudlet, cloudletList)
-            .map(removeCloudletAndUpdateStatus)
+            .filter(cle -> cloudletList.remove(cle))
+            .map(updateStatus)
             .isPresent();
     }
 
     @Override
     public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
+        if(!isProjectedMipsShare(mipsShare)) {
+            updateOutdatedCloudletsProcessing();
+        }
+
         setCurrentMipsShare(mipsShare);
 
         if (isEmpty()) {
@@ -486,11 +722,25 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return Double.MAX_VALUE;
         }
 
+        if(isProjectedUpdatesValid()) {
+            return updateDueCloudletsProcessing(currentTime);
+        }
+
+        cloudletsProcessingOutdated = false;
         deallocateVmResources();
 
         double nextSimulationDelay = updateCloudletsProcessing(currentTime);
+        cloudletListsChanged = false;
         nextSimulationDelay = Math.min(nextSimulationDelay, moveNextCloudletsFromWaitingToExecList(currentTime));
-        addCloudletsToFinishedList();
+        final boolean cloudletsStarted = cloudletListsChanged;
+        final int finishedCloudlets = addCloudletsToFinishedList();
+        /* If Cloudlets were moved from the waiting list, they aren't in the projectedUpdates yet.
+         * If PEs were released by finished Cloudlets, waiting ones may start next time.
+         * In both cases, the processing of all Cloudlets must be updated next time. */
+        cloudletListsChanged = cloudletsStarted || (finishedCloudlets > 0 && !cloudletWaitingList.isEmpty());
+        if(eventDrivenProcessingEnabled) {
+            nextSimulationDelay = Math.min(nextSimulationDelay, nextProjectedUpdateDelay(currentTime));
+        }
 
         setPreviousTime(currentTime);
         vm.getSimulation().setLastCloudletProcessingUpdate(currentTime);
@@ -498,6 +748,139 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return nextSimulationDelay;
     }
 
+    /**
+     * Checks if the {@link #projectedUpdates} computed in a previous call of
+     * {@link #updateProcessing(double, MipsShare)} are still valid,
+     * so that just the Cloudlets whose update time has come must be processed.
+     * That happens when the event-driven processing is enabled and neither the Cloudlet lists nor
+     * the MIPS share have changed since then.
+     * @return true if the projected updates are still valid, false otherwise
+     */
+    private boolean isProjectedUpdatesValid() {
+        return eventDrivenProcessingEnabled && !cloudletListsChanged && !isThereTaskScheduler() && isProjectedMipsShare(currentMipsShare);
+    }
+
+    /**
+     * Checks if a given MIPS share is equal to the one used to compute the {@link #projectedUpdates}.
+     * @param mipsShare the MIPS share to check
+     * @return true if the MIPS share is the same, false otherwise
+     */
+    private boolean isProjectedMipsShare(final MipsShare mipsShare) {
+        return projectedPes(mipsShare) == projectedMipsSharePes && mipsShare.mips() == projectedMipsSharePeMips;
+    }
+
+    /**
+     * Gets the number of PEs from a given MIPS share which can be used by the VM.
+     * @param mipsShare the MIPS share to get the number of PEs
+     * @return the number of PEs that can be used by the VM
+     */
+    private long projectedPes(final MipsShare mipsShare) {
+        return Math.min(mipsShare.pes(), vm.getPesNumber());
+    }
+
+    /**
+     * Updates the processing of all running Cloudlets up to the current time,
+     * if some of them were not updated in the last calls of {@link #updateProcessing(double, MipsShare)}
+     * (since their projected update time had not come yet).
+     * It must be called before changing the Cloudlet lists or the MIPS share,
+     * so that the processing performed so far is computed using the current resource share.
+     * Finished Cloudlets are just removed from the execution list
+     * in the next processing update, as it happens when the event-driven processing is disabled.
+     */
+    private void updateOutdatedCloudletsProcessing() {
+        if(!cloudletsProcessingOutdated) {
+            return;
+        }
+
+        cloudletsProcessingOutdated = false;
+        deallocateVmResources();
+        updateCloudletsProcessing(vm.getSimulation().clock());
+        cloudletListsChanged = true;
+    }
+
+    /**
+     * Updates the processing of just the Cloudlets whose {@link #projectedUpdates projected update time} has come,
+     * when the {@link #isEventDrivenProcessingEnabled() event-driven processing} is enabled.
+     * If the completion of such Cloudlets may change the share of resources of the remaining ones,
+     * the processing of all Cloudlets is updated as usual.
+     *
+     * @param currentTime current simulation time
+     * @return the next time to update cloudlets processing
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     */
+    private double updateDueCloudletsProcessing(final double currentTime) {
+        if(projectedUpdates.isEmpty() || projectedUpdates.peek().time() > currentTime) {
+            cloudletsProcessingOutdated = true;
+            setPreviousTime(currentTime);
+            vm.getSimulation().setLastCloudletProcessingUpdate(currentTime);
+            return nextProjectedUpdateDelay(currentTime);
+        }
+
+        /* The MIPS each running Cloudlet gets just remains the same when the PEs aren't oversubscribed.
+         * Since VM RAM and BW allocation is not tracked by Cloudlet, if any of such resources is being used,
+         * the usage of all Cloudlets has to be re-evaluated. */
+        final var vmSimple = (VmSimple)vm;
+        if(projectedCloudletsPes > currentMipsShare.pes() ||
+           vmSimple.getRam().getAllocatedResource() > 0 || vmSimple.getBw().getAllocatedResource() > 0)
+        {
+            cloudletListsChanged = true;
+            return updateProcessing(currentTime, currentMipsShare);
+        }
+
+        cloudletsProcessingOutdated = false;
+        final var dueCloudlets = new ArrayList<CloudletExecution>();
+        while (!projectedUpdates.isEmpty() && projectedUpdates.peek().time() <= currentTime) {
+            dueCloudlets.add(projectedUpdates.poll().cle());
+        }
+
+        double nextSimulationDelay = Double.MAX_VALUE;
+        final var finishedCloudlets = new ArrayList<CloudletExecution>();
+        for (final CloudletExecution cle : dueCloudlets) {
+            final double delay = updateCloudletProcessing(cle, currentTime);
+            nextSimulationDelay = Math.min(nextSimulationDelay, delay);
+            if(cle.getCloudlet().isFinished()) {
+                finishedCloudlets.add(cle);
+                projectedCloudletsPes -= cle.getPesNumber();
+            } else addProjectedUpdate(cle, currentTime, delay);
+        }
+
+        nextSimulationDelay = Math.min(nextSimulationDelay, moveNextCloudletsFromWaitingToExecList(currentTime));
+        final boolean cloudletsStarted = cloudletListsChanged;
+        finishedCloudlets.forEach(this::addCloudletToFinishedList);
+        cloudletListsChanged = cloudletsStarted || (!finishedCloudlets.isEmpty() && !cloudletWaitingList.isEmpty());
+        vmSimple.setFreePesNumber(vm.getPesNumber() - projectedCloudletsPes);
+        cloudletsProcessingOutdated = !projectedUpdates.isEmpty();
+
+        setPreviousTime(currentTime);
+        vm.getSimulation().setLastCloudletProcessingUpdate(currentTime);
+        return Math.min(nextSimulationDelay, nextProjectedUpdateDelay(currentTime));
+    }
+
+    /**
+     * Adds a Cloudlet to the {@link #projectedUpdates}.
+     * @param cle the Cloudlet that just had its processing updated
+     * @param currentTime current simulation time
+     * @param delay the delay to update the Cloudlet processing again
+     */
+    private void addProjectedUpdate(final CloudletExecution cle, final double currentTime, final double delay) {
+        final double transferEndTime = cle.getArrivalTime() + cle.getFileTransferTime();
+        /* While the Cloudlet files are being transferred, its processing time doesn't count.
+         * This way, it has to be updated as soon as the transfer finishes. */
+        final double time = transferEndTime > currentTime ? Math.min(transferEndTime, currentTime + delay) : currentTime + delay;
+        projectedUpdates.add(new ProjectedUpdate(time, cle));
+        projectedCloudletsPes += cle.getPesNumber();
+    }
+
+    /**
+     * {@return the delay for the next Cloudlet in the {@link #projectedUpdates} to be processed,
+     * or {@link Double#MAX_VALUE} if there is no Cloudlet in execution}
+     * @param currentTime current simulation time
+     */
+    private double nextProjectedUpdateDelay(final double currentTime) {
+        return projectedUpdates.isEmpty() ? Double.MAX_VALUE : projectedUpdates.peek().time() - currentTime;
+    }
+
     /**
      * Deallocates total used capacity from VM RAM and Bandwidth
      * so that the allocation can be updated when running Cloudlets are processed.
@@ -520,12 +903,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     private double updateCloudletsProcessing(final double currentTime) {
         double nextProcessing = Double.MAX_VALUE;
         long usedPes = 0;
+        clearProjectedUpdates();
         /* Uses an indexed for to avoid ConcurrentModificationException,
          * e.g., in cases when Cloudlet is cancelled during simulation execution. */
         for (int i = 0; i < cloudletExecList.size(); i++) {
             final CloudletExecution cle = cloudletExecList.get(i);
-            nextProcessing = Math.min(nextProcessing, updateCloudletProcessing(cle, currentTime));
+            final double delay = updateCloudletProcessing(cle, currentTime);
+            nextProcessing = Math.min(nextProcessing, delay);
             usedPes += cle.getCloudlet().getPesNumber();
+            if(eventDrivenProcessingEnabled && !cle.getCloudlet().isFinished()) {
+                addProjectedUpdate(cle, currentTime, delay);
+            }
         }
 
         ((VmSimple) vm).setFreePesNumber(vm.getPesNumber() - usedPes);
@@ -533,6 +921,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return nextProcessing;
     }
 
+    private void clearProjectedUpdates() {
+        projectedUpdates.clear();
+        projectedCloudletsPes = 0;
+        projectedMipsSharePes = projectedPes(currentMipsShare);
+        projectedMipsSharePeMips = currentMipsShare.mips();
+    }
+
     /**
      * Updates the processing of a specific cloudlet of the Vm using this
      * scheduler.
@@ -864,7 +1259,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the removed Cloudlet or {@link CloudletExecution#NULL} if not found
      */
     protected CloudletExecution removeCloudletFromExecList(final CloudletExecution cle) {
+        updateOutdatedCloudletsProcessing();
         removeUsedPes(cle.getPesNumber());
+        cloudletListsChanged = true;
         return cloudletExecList.remove(cle) ? cle : CloudletExecution.NULL;
     }
 
@@ -1214,6 +1611,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void deallocatePesFromVm(final long pesToRemove) {
+        updateOutdatedCloudletsProcessing();
         final long removedPes = currentMipsShare.remove(pesToRemove);
         removeUsedPes(removedPes);
     }
@@ -1262,7 +1660,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void clear() {
+        updateOutdatedCloudletsProcessing();
+        Stream.concat(cloudletWaitingList.stream(), cloudletExecList.stream())
+              .forEach(cle -> cloudletLocations.remove(cle.getId()));
         this.cloudletWaitingList.clear();
         this.cloudletExecList.clear();
+        this.cloudletListsChanged = true;
     }
 }
@@ -362,6 +362,22 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
                 .min().orElse(Double.MAX_VALUE);
     }
 
+    /**
+     * The event-driven processing is not supported by this scheduler,
+     * since running Cloudlets must be updated at every time-slice expiration to be preempted.
+     * This way, the mode is kept disabled and a request to enable it is just logged and ignored.
+     * @param enabled {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CloudletSchedulerAbstract setEventDrivenProcessingEnabled(final boolean enabled) {
+        if(enabled) {
+            LOGGER.warn("{} doesn't support event-driven processing. The regular processing will be kept.", getClass().getSimpleName());
+        }
+
+        return super.setEventDrivenProcessingEnabled(false);
+    }
+
     @Override
     protected double updateCloudletProcessing(final CloudletExecution cle, final double currentTime) {
         /*
@@ -37,7 +37,7 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
 
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
-        return findCloudletInList(cloudlet, getCloudletPausedList())
+        return findCloudletInPausedList(cloudlet)
             .map(this::movePausedCloudletToExecListOrWaitingList)
             .orElse(0.0);
     }
@@ -49,7 +49,7 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
      * @return the time the cloudlet is expected to finish or zero if it was moved to the waiting list
      */
     private double movePausedCloudletToExecListOrWaitingList(final CloudletExecution cle) {
-        getCloudletPausedList().remove(cle);
+        removeCloudletFromPausedList(cle);
 
         // it can go to the exec list
         if (isThereEnoughFreePesForCloudlet(cle)) {
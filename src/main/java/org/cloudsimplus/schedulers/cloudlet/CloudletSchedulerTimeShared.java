@@ -101,14 +101,14 @@ public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
      * @return the Cloudlet expected finish time
      */
     private double movePausedCloudletToExecListAndGetExpectedFinishTime(final CloudletExecution cloudlet) {
-        getCloudletPausedList().remove(cloudlet);
+        removeCloudletFromPausedList(cloudlet);
         addCloudletToExecList(cloudlet);
         return cloudletEstimatedFinishTime(cloudlet, getVm().getSimulation().clock());
     }
 
     @Override
     public double cloudletResume(final Cloudlet cloudlet) {
-        return findCloudletInList(cloudlet, getCloudletPausedList())
+        return findCloudletInPausedList(cloudlet)
                 .map(this::movePausedCloudletToExecListAndGetExpectedFinishTime)
                 .orElse(0.0);
     }
@@ -11,6 +11,7 @@ package org.cloudsimplus.selectionpolicies;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.vms.Vm;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,4 +33,24 @@ public interface VmSelectionPolicy {
      *         or empty Optional if there is not Vm to migrate
      */
     Optional<Vm> getVmToMigrate(Host host);
+
+    /**
+     * Gets a VM to migrate from a given host, selecting it just from a given list of candidate VMs.
+     * It enables selecting multiple VMs from the same Host
+     * (such as while assessing a new VM placement),
+     * without the need to remove the previously selected VMs from such a Host.
+     *
+     * <p>The default implementation just ensures the VM returned by {@link #getVmToMigrate(Host)}
+     * is one of the candidates. Subclasses should override it to perform the selection
+     * from the candidate VMs only.</p>
+     *
+     * @param host the host to get a Vm to migrate from
+     * @param migratableVms the VMs from the Host that can be selected for migration
+     * @return a {@link Optional} containing the selected vm to migrate;
+     *         or empty Optional if there is not Vm to migrate
+     * @since CloudSim Plus 8.6.0
+     */
+    default Optional<Vm> getVmToMigrate(final Host host, final List<Vm> migratableVms) {
+        return getVmToMigrate(host).filter(migratableVms::contains);
+    }
 }
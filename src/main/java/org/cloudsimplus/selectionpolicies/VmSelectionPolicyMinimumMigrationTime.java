@@ -28,7 +28,11 @@ import static java.util.Comparator.comparingLong;
 public class VmSelectionPolicyMinimumMigrationTime implements VmSelectionPolicy {
 	@Override
 	public Optional<Vm> getVmToMigrate(final Host host) {
-		final List<Vm> migratableVms = host.getMigratableVms();
+		return getVmToMigrate(host, host.getMigratableVms());
+	}
+
+	@Override
+	public Optional<Vm> getVmToMigrate(final Host host, final List<Vm> migratableVms) {
 		if (migratableVms.isEmpty()) {
 			return Optional.empty();
 		}
@@ -14,6 +14,7 @@ import org.cloudsimplus.distributions.UniformDistr;
 import org.cloudsimplus.hosts.Host;
 import org.cloudsimplus.vms.Vm;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -48,7 +49,11 @@ public class VmSelectionPolicyRandomSelection implements VmSelectionPolicy {
 
 	@Override
 	public Optional<Vm> getVmToMigrate(final Host host) {
-		final var migratableVmList = host.getMigratableVms();
+		return getVmToMigrate(host, host.getMigratableVms());
+	}
+
+	@Override
+	public Optional<Vm> getVmToMigrate(final Host host, final List<Vm> migratableVmList) {
 		if (migratableVmList.isEmpty()) {
 			return Optional.empty();
 		}
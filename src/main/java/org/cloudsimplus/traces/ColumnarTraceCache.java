@@ -0,0 +1,827 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import lombok.NonNull;
+import org.cloudsimplus.util.ResourceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A binary columnar cache for the parsed lines of a trace file,
+ * so that repeated reads of the same file don't need to decompress and parse it again.
+ * The cache file is named after a fingerprint of the trace file
+ * (and the settings used to parse it), so that a cache is never used
+ * for a trace file that has changed.
+ *
+ * <p>Columns whose values are all integer or decimal numbers are stored as typed values
+ * (integers using the smallest width that fits all values), which can be got
+ * without parsing them again. Other columns are stored as text.
+ * Numbers are only stored as typed values when converting them back to String
+ * gives exactly the text in the trace file, so that every line read from the cache
+ * is equal to the one parsed from the trace.</p>
+ *
+ * <p>The cache file has the following layout (all numbers in big-endian):
+ * <pre>
+ * long   magic number
+ * int    number of rows (lines)
+ * int    number of columns (max number of fields in a line)
+ * byte   width (in bytes) of the number of fields of each row
+ * byte[] number of fields of each row
+ * for each column:
+ *    byte   column type ({@link #LONG_COLUMN}, {@link #DOUBLE_COLUMN} or {@link #STRING_COLUMN})
+ *    byte   flags ({@link #EMPTY_VALUES}, {@link #INTEGRAL_VALUES})
+ *    for typed columns:
+ *       byte[] bitmap of empty fields (if the {@link #EMPTY_VALUES} flag is set)
+ *       byte[] bitmap of decimal values written as integers (if the {@link #INTEGRAL_VALUES} flag is set)
+ *       byte   width (in bytes) of each integer value (just for {@link #LONG_COLUMN})
+ *       byte[] values of each row (empty fields store 0)
+ *    for text columns:
+ *       int[]  end offset of the field of each row inside the column bytes
+ *       int    number of bytes of the column
+ *       byte[] UTF-8 bytes of all fields of the column
+ * </pre>
+ * </p>
+ *
+ * <p>When loaded, each region of the file is memory-mapped,
+ * so that the cache isn't entirely loaded into the heap.
+ * Since each column is separately mapped, it cannot exceed 2GB.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+final class ColumnarTraceCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnarTraceCache.class.getSimpleName());
+
+    /** "CSPTRC02" as a long, identifying a cache file and its format version. */
+    private static final long MAGIC = 0x4353505452433032L;
+
+    /** The extension of cache files. */
+    private static final String EXTENSION = ".trace-cache";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** A column whose values are all integer numbers. */
+    private static final byte LONG_COLUMN = 1;
+
+    /** A column whose values are all decimal (or integer) numbers. */
+    private static final byte DOUBLE_COLUMN = 2;
+
+    /** A column stored as text. */
+    private static final byte STRING_COLUMN = 3;
+
+    /** Flag indicating that some fields of a typed column are empty. */
+    private static final byte EMPTY_VALUES = 1;
+
+    /** Flag indicating that some values of a {@link #DOUBLE_COLUMN} are written as integers in the trace file. */
+    private static final byte INTEGRAL_VALUES = 2;
+
+    /** The max absolute integer that can be exactly stored as a double. */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private ColumnarTraceCache(){/**/}
+
+    /**
+     * Gets the path of the cache file for the trace file of a given reader.
+     * If the trace file is in the filesystem, the cache key is a fingerprint of the file,
+     * including its path, size, last modification time and the content at its beginning and end.
+     * This way, reading a trace from the cache doesn't require reading the entire file.
+     * Otherwise (such as for a file inside a jar), there is no reliable modification time,
+     * so the entire file content is hashed.
+     *
+     * @param cacheDir the directory where cache files are stored
+     * @param reader the reader of the trace file
+     * @param file the path of the trace file in the filesystem; or null if it isn't in the filesystem
+     * @return the path of the cache file (which may not exist yet)
+     */
+    static Path getCacheFile(@NonNull final Path cacheDir, @NonNull final FileReader reader, final Path file) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            if (file == null) {
+                updateDigest(digest, ResourceLoader.newInputStream(reader.getFilePath(), reader.getClass()));
+            } else {
+                updateDigest(digest, file);
+            }
+
+            //The parsing settings change the content of the cache, thus they are part of the key
+            digest.update(reader.getFieldDelimiterRegex().getBytes(StandardCharsets.UTF_8));
+            for (final String comment : reader.getCommentString()) {
+                digest.update((byte) 0);
+                digest.update(comment.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return cacheDir.resolve(HexFormat.of().formatHex(digest.digest()) + EXTENSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Updates a digest with the entire content of a stream.
+     * @param digest the digest to update
+     * @param is the stream to read, which is closed by this method
+     */
+    private static void updateDigest(final MessageDigest digest, final InputStream is) throws IOException {
+        try (is) {
+            final var buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+    }
+
+    /**
+     * Updates a digest with the fingerprint of a file:
+     * its absolute path, size, last modification time and the content at its beginning and end.
+     * @param digest the digest to update
+     * @param file the file to compute the fingerprint
+     */
+    private static void updateDigest(final MessageDigest digest, final Path file) throws IOException {
+        digest.update(file.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+        try (var channel = FileChannel.open(file)) {
+            final long size = channel.size();
+            final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.putLong(size).putLong(Files.getLastModifiedTime(file).toMillis()).flip();
+            digest.update(buffer);
+
+            final long tailStart = Math.max(BUFFER_SIZE, size - BUFFER_SIZE);
+            updateDigest(digest, channel, buffer, 0);
+            if (tailStart < size) {
+                updateDigest(digest, channel, buffer, tailStart);
+            }
+        }
+    }
+
+    /**
+     * Updates a digest with the content of a file region starting at a given position,
+     * with the size of a given buffer (or until the end of the file).
+     */
+    private static void updateDigest(final MessageDigest digest, final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer, position + buffer.position());
+        } while (read > 0 && buffer.hasRemaining());
+
+        buffer.flip();
+        digest.update(buffer);
+    }
+
+    /**
+     * Loads a cache file.
+     * @param cacheFile the path of the cache file to load
+     * @return an Optional containing the {@link Reader} for the cache file;
+     *         or an empty Optional if the file doesn't exist or is not a valid cache file.
+     */
+    static Optional<Reader> load(@NonNull final Path cacheFile) {
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new Reader(cacheFile));
+        } catch (IOException e) {
+            LOGGER.warn("Ignoring trace cache file {}: {}", cacheFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * {@return the number of bytes required to store all integers between given min and max values}
+     * @param min the min value
+     * @param max the max value
+     */
+    private static int width(final long min, final long max) {
+        if (min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE) {
+            return Byte.BYTES;
+        }
+
+        if (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+            return Short.BYTES;
+        }
+
+        return min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE ? Integer.BYTES : Long.BYTES;
+    }
+
+    /**
+     * {@return the number of bytes of a bitmap with one bit for each row}
+     * @param rows the number of rows
+     */
+    private static long bitmapSize(final int rows) {
+        return (rows + 7L) / 8;
+    }
+
+    /**
+     * Writes the parsed lines of a trace file to a cache file.
+     * Since the number of columns and their types aren't known in advance,
+     * each column is written as text to temporary files and all of them
+     * are just merged into the cache file when {@link #commit()} is called.
+     *
+     * <p>Errors writing the cache don't interrupt the reading of the trace file.
+     * They are just logged and the cache file is not created.</p>
+     */
+    static final class Writer implements Closeable {
+        private final Path cacheFile;
+        private final List<Column> columns;
+        private Path tmpDir;
+        private DataOutputStream fieldCounts;
+        private int rows;
+        private boolean failed;
+
+        /**
+         * A column being written to temporary files.
+         */
+        private final class Column {
+            private final Path offsetsFile;
+            private final Path bytesFile;
+            private final Path emptyFile;
+            private final Path integralFile;
+            private final DataOutputStream offsets;
+            private final OutputStream bytes;
+            private final BitmapOutputStream empty;
+            private final BitmapOutputStream integral;
+            private int size;
+
+            /** Indicates if all non-empty values are integers which can be stored as a long. */
+            private boolean longValues = true;
+
+            /** Indicates if all non-empty values are integers or decimals which can be stored as a double. */
+            private boolean doubleValues = true;
+
+            private boolean hasEmptyValues;
+            private boolean hasIntegralValues;
+            private long min = Long.MAX_VALUE;
+            private long max = Long.MIN_VALUE;
+
+            Column(final int index) throws IOException {
+                offsetsFile = tmpDir.resolve(index + ".offsets");
+                bytesFile = tmpDir.resolve(index + ".bytes");
+                emptyFile = tmpDir.resolve(index + ".empty");
+                integralFile = tmpDir.resolve(index + ".integral");
+                offsets = newOutputStream(offsetsFile);
+                bytes = new BufferedOutputStream(Files.newOutputStream(bytesFile), BUFFER_SIZE);
+                empty = new BitmapOutputStream(newOutputStream(emptyFile));
+                integral = new BitmapOutputStream(newOutputStream(integralFile));
+
+                //Rows read before this column appeared have no field for it
+                for (int i = 0; i < rows; i++) {
+                    offsets.writeInt(0);
+                    empty.write(true);
+                    integral.write(false);
+                }
+
+                hasEmptyValues = rows > 0;
+            }
+
+            void add(final String field) throws IOException {
+                empty.write(field.isEmpty());
+                integral.write(!field.isEmpty() && updateType(field));
+                if (field.isEmpty()) {
+                    hasEmptyValues = true;
+                } else {
+                    final byte[] fieldBytes = field.getBytes(StandardCharsets.UTF_8);
+                    if ((long) size + fieldBytes.length > Integer.MAX_VALUE) {
+                        throw new IOException("Trace cache column exceeds 2GB");
+                    }
+
+                    bytes.write(fieldBytes);
+                    size += fieldBytes.length;
+                }
+
+                offsets.writeInt(size);
+            }
+
+            /**
+             * Updates the type of the column according to a new value.
+             * @param field the non-empty field value
+             * @return true if the value is an integer, false otherwise
+             */
+            private boolean updateType(final String field) {
+                if (!longValues && !doubleValues) {
+                    return false;
+                }
+
+                if (isCanonicalLong(field)) {
+                    final long value = Long.parseLong(field);
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                    doubleValues &= value >= -MAX_EXACT_DOUBLE_INTEGER && value <= MAX_EXACT_DOUBLE_INTEGER;
+                    hasIntegralValues = true;
+                    return true;
+                }
+
+                longValues = false;
+                doubleValues &= isCanonicalDouble(field);
+                return false;
+            }
+
+            byte type() {
+                if (longValues) {
+                    return LONG_COLUMN;
+                }
+
+                return doubleValues ? DOUBLE_COLUMN : STRING_COLUMN;
+            }
+
+            void close() throws IOException {
+                offsets.close();
+                bytes.close();
+                empty.close();
+                integral.close();
+            }
+
+            /**
+             * Writes the column into the cache file.
+             * @param out the stream to write the cache file
+             */
+            void write(final DataOutputStream out) throws IOException {
+                final byte type = type();
+                out.writeByte(type);
+                if (type == STRING_COLUMN) {
+                    out.writeByte(0);
+                    Files.copy(offsetsFile, out);
+                    out.writeInt(size);
+                    Files.copy(bytesFile, out);
+                    return;
+                }
+
+                final boolean integralFlag = type == DOUBLE_COLUMN && hasIntegralValues;
+                out.writeByte((hasEmptyValues ? EMPTY_VALUES : 0) | (integralFlag ? INTEGRAL_VALUES : 0));
+                if (hasEmptyValues) {
+                    Files.copy(emptyFile, out);
+                }
+
+                if (integralFlag) {
+                    Files.copy(integralFile, out);
+                }
+
+                final int width = type == LONG_COLUMN ? width(Math.min(min, 0), Math.max(max, 0)) : Double.BYTES;
+                if (type == LONG_COLUMN) {
+                    out.writeByte(width);
+                }
+
+                if ((long) rows * width > Integer.MAX_VALUE) {
+                    throw new IOException("Trace cache column exceeds 2GB");
+                }
+
+                try (var offsetsIn = newInputStream(offsetsFile); var bytesIn = newInputStream(bytesFile)) {
+                    int start = 0;
+                    for (int row = 0; row < rows; row++) {
+                        final int end = offsetsIn.readInt();
+                        final String field = new String(bytesIn.readNBytes(end - start), StandardCharsets.UTF_8);
+                        start = end;
+                        if (type == DOUBLE_COLUMN) {
+                            out.writeDouble(field.isEmpty() ? 0 : Double.parseDouble(field));
+                        } else writeLong(out, width, field.isEmpty() ? 0 : Long.parseLong(field));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Creates a writer for a given cache file.
+         * @param cacheFile the path of the cache file to write
+         */
+        Writer(@NonNull final Path cacheFile) {
+            this.cacheFile = cacheFile;
+            this.columns = new ArrayList<>();
+            try {
+                final Path dir = cacheFile.toAbsolutePath().getParent();
+                Files.createDirectories(dir);
+                this.tmpDir = Files.createTempDirectory(dir, "tmp");
+                this.fieldCounts = newOutputStream(tmpDir.resolve("fieldCounts"));
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        private void fail(final Exception e) {
+            LOGGER.warn("Trace cache file {} won't be created: {}", cacheFile, e.getMessage());
+            failed = true;
+        }
+
+        private static DataOutputStream newOutputStream(final Path file) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+        }
+
+        private static DataInputStream newInputStream(final Path file) throws IOException {
+            return new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+        }
+
+        /**
+         * Checks if a value is an integer that can be stored as a long,
+         * whose conversion back to String gives the same value.
+         */
+        private static boolean isCanonicalLong(final String value) {
+            if (!FieldTokenizer.isInteger(value)) {
+                return false;
+            }
+
+            try {
+                return Long.toString(Long.parseLong(value)).equals(value);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Checks if a value is a number that can be stored as a double,
+         * whose conversion back to String gives the same value.
+         */
+        private static boolean isCanonicalDouble(final String value) {
+            try {
+                return Double.toString(Double.parseDouble(value)).equals(value);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static void writeLong(final DataOutputStream out, final int width, final long value) throws IOException {
+            switch (width) {
+                case Byte.BYTES -> out.writeByte((int) value);
+                case Short.BYTES -> out.writeShort((int) value);
+                case Integer.BYTES -> out.writeInt((int) value);
+                default -> out.writeLong(value);
+            }
+        }
+
+        /**
+         * Adds a parsed line to the cache.
+         * @param fields the field values of the line
+         */
+        void add(@NonNull final String[] fields) {
+            if (failed) {
+                return;
+            }
+
+            try {
+                while (columns.size() < fields.length) {
+                    columns.add(new Column(columns.size()));
+                }
+
+                fieldCounts.writeInt(fields.length);
+                for (int i = 0; i < columns.size(); i++) {
+                    columns.get(i).add(i < fields.length ? fields[i] : "");
+                }
+
+                rows++;
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Merges all columns into the cache file.
+         * The cache file is created atomically, so that an incomplete file is never found.
+         */
+        void commit() {
+            if (failed) {
+                return;
+            }
+
+            try {
+                closeTmpFiles();
+                final Path tmpCacheFile = tmpDir.resolve("cache");
+                try (var out = newOutputStream(tmpCacheFile)) {
+                    out.writeLong(MAGIC);
+                    out.writeInt(rows);
+                    out.writeInt(columns.size());
+                    writeFieldCounts(out);
+                    for (final var column : columns) {
+                        column.write(out);
+                    }
+                }
+
+                Files.move(tmpCacheFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void writeFieldCounts(final DataOutputStream out) throws IOException {
+            final int width = width(0, columns.size());
+            out.writeByte(width);
+            try (var in = newInputStream(tmpDir.resolve("fieldCounts"))) {
+                for (int row = 0; row < rows; row++) {
+                    writeLong(out, width, in.readInt());
+                }
+            }
+        }
+
+        private void closeTmpFiles() throws IOException {
+            if (fieldCounts != null) {
+                fieldCounts.close();
+            }
+
+            for (final var column : columns) {
+                column.close();
+            }
+        }
+
+        /**
+         * Removes all temporary files.
+         */
+        @Override
+        public void close() {
+            if (tmpDir == null) {
+                return;
+            }
+
+            try {
+                closeTmpFiles();
+                try (var files = Files.list(tmpDir)) {
+                    for (final Path file : files.toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+
+                Files.deleteIfExists(tmpDir);
+            } catch (IOException e) {
+                LOGGER.warn("Error removing temporary trace cache files from {}: {}", tmpDir, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A stream that writes a sequence of bits, packing 8 bits into each byte.
+     */
+    private static final class BitmapOutputStream implements Closeable {
+        private final OutputStream out;
+        private int currentByte;
+        private int bits;
+
+        BitmapOutputStream(final OutputStream out) {
+            this.out = out;
+        }
+
+        void write(final boolean bit) throws IOException {
+            if (bit) {
+                currentByte |= 1 << bits;
+            }
+
+            if (++bits == Byte.SIZE) {
+                out.write(currentByte);
+                currentByte = 0;
+                bits = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (bits > 0) {
+                out.write(currentByte);
+                bits = 0;
+            }
+
+            out.close();
+        }
+    }
+
+    /**
+     * Reads the parsed lines from a memory-mapped cache file.
+     */
+    static final class Reader {
+        private final int rows;
+        private final int fieldCountWidth;
+        private final MappedByteBuffer fieldCounts;
+        private final byte[] types;
+        private final int[] widths;
+        private final MappedByteBuffer[] empty;
+        private final MappedByteBuffer[] integral;
+        private final MappedByteBuffer[] values;
+        private final MappedByteBuffer[] offsets;
+        private byte[] buffer = new byte[256];
+
+        /**
+         * Creates a reader for a given cache file, mapping it into memory.
+         * @param cacheFile the path of the cache file to read
+         * @throws IOException if the file cannot be read or it's not a valid cache file
+         */
+        Reader(@NonNull final Path cacheFile) throws IOException {
+            try (var channel = FileChannel.open(cacheFile)) {
+                final var header = ByteBuffer.allocate(Long.BYTES + 2 * Integer.BYTES + 1);
+                if (channel.read(header, 0) != header.capacity() || header.getLong(0) != MAGIC) {
+                    throw new IOException("Invalid trace cache file " + cacheFile);
+                }
+
+                rows = header.getInt(Long.BYTES);
+                final int columns = header.getInt(Long.BYTES + Integer.BYTES);
+                fieldCountWidth = header.get(header.capacity() - 1);
+                long position = header.capacity();
+                fieldCounts = map(channel, position, (long) rows * fieldCountWidth);
+                position += fieldCounts.capacity();
+
+                types = new byte[columns];
+                widths = new int[columns];
+                empty = new MappedByteBuffer[columns];
+                integral = new MappedByteBuffer[columns];
+                values = new MappedByteBuffer[columns];
+                offsets = new MappedByteBuffer[columns];
+                final var columnHeader = ByteBuffer.allocate(Integer.BYTES);
+                for (int col = 0; col < columns; col++) {
+                    read(channel, columnHeader.limit(2), position, cacheFile);
+                    types[col] = columnHeader.get(0);
+                    final byte flags = columnHeader.get(1);
+                    position += 2;
+                    if (types[col] == STRING_COLUMN) {
+                        offsets[col] = map(channel, position, (long) rows * Integer.BYTES);
+                        position += offsets[col].capacity();
+                        read(channel, columnHeader.limit(Integer.BYTES), position, cacheFile);
+                        position += Integer.BYTES;
+                        values[col] = map(channel, position, columnHeader.getInt(0));
+                        position += values[col].capacity();
+                        continue;
+                    }
+
+                    if ((flags & EMPTY_VALUES) != 0) {
+                        empty[col] = map(channel, position, bitmapSize(rows));
+                        position += empty[col].capacity();
+                    }
+
+                    if ((flags & INTEGRAL_VALUES) != 0) {
+                        integral[col] = map(channel, position, bitmapSize(rows));
+                        position += integral[col].capacity();
+                    }
+
+                    if (types[col] == LONG_COLUMN) {
+                        read(channel, columnHeader.limit(1), position, cacheFile);
+                        widths[col] = columnHeader.get(0);
+                        position++;
+                    } else if (types[col] == DOUBLE_COLUMN) {
+                        widths[col] = Double.BYTES;
+                    } else throw new IOException("Invalid column type in trace cache file " + cacheFile);
+
+                    values[col] = map(channel, position, (long) rows * widths[col]);
+                    position += values[col].capacity();
+                }
+
+                if (position != channel.size()) {
+                    throw new IOException("Invalid trace cache file size " + cacheFile);
+                }
+            }
+        }
+
+        private static void read(final FileChannel channel, final ByteBuffer buffer, final long position, final Path cacheFile) throws IOException {
+            buffer.position(0);
+            if (channel.read(buffer, position) != buffer.limit()) {
+                throw new IOException("Truncated trace cache file " + cacheFile);
+            }
+        }
+
+        private static MappedByteBuffer map(final FileChannel channel, final long position, final long size) throws IOException {
+            if (size > Integer.MAX_VALUE || position + size > channel.size()) {
+                throw new IOException("Invalid trace cache file region");
+            }
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+
+        /**
+         * {@return the number of rows (lines) in the cache}
+         */
+        int rows() {
+            return rows;
+        }
+
+        /**
+         * Gets the field values of a row (line).
+         * Typed values are converted to String.
+         * @param row the index of the row
+         * @return an array containing the field values
+         */
+        String[] row(final int row) {
+            final var fields = new String[(int) readLong(fieldCounts, fieldCountWidth, row)];
+            for (int col = 0; col < fields.length; col++) {
+                fields[col] = field(row, col);
+            }
+
+            return fields;
+        }
+
+        private String field(final int row, final int col) {
+            if (types[col] == STRING_COLUMN) {
+                final int start = row == 0 ? 0 : offsets[col].getInt((row - 1) * Integer.BYTES);
+                final int end = offsets[col].getInt(row * Integer.BYTES);
+                return readString(values[col], start, end - start);
+            }
+
+            if (isBitSet(empty[col], row)) {
+                return "";
+            }
+
+            final boolean integer = types[col] == LONG_COLUMN || isBitSet(integral[col], row);
+            return integer ? Long.toString(getLong(row, col)) : Double.toString(getDouble(row, col));
+        }
+
+        /**
+         * Checks if a field of a row is a non-empty number stored as a typed value.
+         * @param row the index of the row
+         * @param col the index of the column
+         * @return true if the field is a typed number, false otherwise
+         * @see #getDouble(int, int)
+         */
+        boolean isNumber(final int row, final int col) {
+            return col < types.length && types[col] != STRING_COLUMN &&
+                   col < readLong(fieldCounts, fieldCountWidth, row) && !isBitSet(empty[col], row);
+        }
+
+        /**
+         * Checks if a field of a row is a non-empty integer stored as a typed value.
+         * @param row the index of the row
+         * @param col the index of the column
+         * @return true if the field is a typed integer, false otherwise
+         * @see #getLong(int, int)
+         */
+        boolean isLong(final int row, final int col) {
+            return isNumber(row, col) && (types[col] == LONG_COLUMN || isBitSet(integral[col], row));
+        }
+
+        /**
+         * Gets the value of a field which {@link #isLong(int, int) is a typed integer}.
+         * @param row the index of the row
+         * @param col the index of the column
+         * @return the field value
+         */
+        long getLong(final int row, final int col) {
+            return types[col] == LONG_COLUMN ? readLong(values[col], widths[col], row) : (long) getDouble(row, col);
+        }
+
+        /**
+         * Gets the value of a field which {@link #isNumber(int, int) is a typed number}.
+         * @param row the index of the row
+         * @param col the index of the column
+         * @return the field value
+         */
+        double getDouble(final int row, final int col) {
+            return types[col] == LONG_COLUMN ? readLong(values[col], widths[col], row) : values[col].getDouble(row * Double.BYTES);
+        }
+
+        private static long readLong(final MappedByteBuffer buffer, final int width, final int index) {
+            return switch (width) {
+                case Byte.BYTES -> buffer.get(index);
+                case Short.BYTES -> buffer.getShort(index * Short.BYTES);
+                case Integer.BYTES -> buffer.getInt(index * Integer.BYTES);
+                default -> buffer.getLong(index * Long.BYTES);
+            };
+        }
+
+        private static boolean isBitSet(final MappedByteBuffer bitmap, final int index) {
+            return bitmap != null && (bitmap.get(index / Byte.SIZE) & (1 << (index % Byte.SIZE))) != 0;
+        }
+
+        private String readString(final MappedByteBuffer columnBytes, final int start, final int length) {
+            if (length == 0) {
+                return "";
+            }
+
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+
+            columnBytes.get(start, buffer, 0, length);
+            return new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import lombok.NonNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Splits trace lines into fields and parses numeric field values
+ * without using regular expressions for the most common delimiters:
+ * a single literal character (such as comma, semicolon or tab)
+ * or any sequence of spaces ({@link FileReader#DEF_FIELD_DELIMITER_REGEX}).
+ * Other delimiters fall back to a precompiled regex.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+final class FieldTokenizer {
+    /**
+     * Indicates fields are delimited by any sequence of spaces.
+     * @see #delimiter
+     */
+    private static final char WHITESPACE = Character.MIN_VALUE;
+
+    private static final String REGEX_META_CHARS = ".$|()[{^?*+\\";
+
+    /**
+     * Powers of 10 which are exactly represented as double.
+     */
+    private static final double[] POWERS_OF_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Max value of a long mantissa which is exactly represented as double (2^53).
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * The char delimiting fields; {@link #WHITESPACE} for any sequence of spaces;
+     * or null if a {@link #pattern} is used instead.
+     */
+    private final Character delimiter;
+
+    /**
+     * The pattern used to split lines when the delimiter is not a single char.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Creates a tokenizer for a given field delimiter regex.
+     * @param fieldDelimiterRegex a regex defining how fields are delimited in a line
+     */
+    FieldTokenizer(@NonNull final String fieldDelimiterRegex) {
+        this.delimiter = delimiterChar(fieldDelimiterRegex);
+        this.pattern = delimiter == null ? Pattern.compile(fieldDelimiterRegex) : null;
+    }
+
+    /**
+     * Gets the single char represented by a delimiter regex.
+     * @param regex the delimiter regex
+     * @return the delimiter char; {@link #WHITESPACE} if the regex is {@link FileReader#DEF_FIELD_DELIMITER_REGEX};
+     *         or null if the regex doesn't represent a single char.
+     */
+    private static Character delimiterChar(final String regex) {
+        if (FileReader.DEF_FIELD_DELIMITER_REGEX.equals(regex)) {
+            return WHITESPACE;
+        }
+
+        if (regex.length() == 1 && REGEX_META_CHARS.indexOf(regex.charAt(0)) == -1) {
+            return regex.charAt(0);
+        }
+
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            final char escaped = regex.charAt(1);
+            if (escaped == 't') {
+                return '\t';
+            }
+
+            if (REGEX_META_CHARS.indexOf(escaped) >= 0) {
+                return escaped;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Splits a line into fields, ignoring leading and trailing spaces,
+     * exactly as {@code line.trim().split(fieldDelimiterRegex, -1)} does.
+     * @param line the line to split
+     * @return an array containing the field values
+     */
+    String[] split(@NonNull final String line) {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') start++;
+        while (end > start && line.charAt(end - 1) <= ' ') end--;
+
+        if (delimiter == null) {
+            return pattern.split(line.substring(start, end), -1);
+        }
+
+        final var fields = new String[countFields(line, start, end)];
+        int fieldStart = start;
+        int field = 0;
+        int i = start;
+        while (i < end) {
+            if (isDelimiter(line.charAt(i))) {
+                fields[field++] = line.substring(fieldStart, i);
+                i = skipDelimiter(line, i, end);
+                fieldStart = i;
+            } else i++;
+        }
+
+        fields[field] = line.substring(fieldStart, end);
+        return fields;
+    }
+
+    private int countFields(final String line, final int start, final int end) {
+        int count = 1;
+        int i = start;
+        while (i < end) {
+            if (isDelimiter(line.charAt(i))) {
+                count++;
+                i = skipDelimiter(line, i, end);
+            } else i++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Gets the index just after the delimiter starting at a given index.
+     * Consecutive spaces are considered a single delimiter.
+     */
+    private int skipDelimiter(final String line, int i, final int end) {
+        if (delimiter != WHITESPACE) {
+            return i + 1;
+        }
+
+        while (i < end && isWhitespace(line.charAt(i))) i++;
+        return i;
+    }
+
+    private boolean isDelimiter(final char c) {
+        return delimiter == WHITESPACE ? isWhitespace(c) : c == delimiter;
+    }
+
+    /**
+     * Checks if a char is a space, according to the {@code \s} regex character class.
+     */
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Checks if a value is an integer number, matching the regex {@code ^-?\d+$}.
+     * @param value the value to check
+     * @return true if the value is an integer number, false otherwise
+     */
+    static boolean isInteger(final CharSequence value) {
+        final int start = signLength(value);
+        final int digits = countDigits(value, start);
+        return digits > 0 && start + digits == value.length();
+    }
+
+    /**
+     * Checks if a value is a decimal number, matching the regex {@code ^-?\d+(\.?\d+)?$}.
+     * @param value the value to check
+     * @return true if the value is a decimal number, false otherwise
+     */
+    static boolean isDecimal(final CharSequence value) {
+        final int start = signLength(value);
+        final int intDigits = countDigits(value, start);
+        if (intDigits == 0) {
+            return false;
+        }
+
+        int i = start + intDigits;
+        if (i < value.length() && value.charAt(i) == '.') {
+            i++;
+            final int fractionDigits = countDigits(value, i);
+            return fractionDigits > 0 && i + fractionDigits == value.length();
+        }
+
+        return i == value.length();
+    }
+
+    /**
+     * Parses a double value without allocating objects when the value is a
+     * {@link #isDecimal(CharSequence) decimal number} whose digits can be exactly represented as a double.
+     * Otherwise, delegates the parsing to {@link Double#parseDouble(String)}.
+     * In both cases, the result is the same returned by {@link Double#parseDouble(String)}.
+     *
+     * @param value the value to parse
+     * @return the parsed double value
+     * @throws NumberFormatException if the value is not a number
+     */
+    static double parseDouble(final String value) {
+        final int start = signLength(value);
+        long mantissa = 0;
+        int fractionDigits = -1;
+        int i = start;
+        for (; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '.' && fractionDigits == -1 && i > start) {
+                fractionDigits = 0;
+                continue;
+            }
+
+            if (c < '0' || c > '9' || mantissa >= MAX_EXACT_MANTISSA / 10) {
+                return Double.parseDouble(value);
+            }
+
+            mantissa = mantissa * 10 + (c - '0');
+            if (fractionDigits >= 0) fractionDigits++;
+        }
+
+        if (i == start || fractionDigits == 0 || fractionDigits >= POWERS_OF_10.length) {
+            return Double.parseDouble(value);
+        }
+
+        /* Since both the mantissa and the power of 10 are exactly represented as double,
+         * the division is correctly rounded, giving the same result as Double.parseDouble. */
+        final double result = fractionDigits > 0 ? mantissa / POWERS_OF_10[fractionDigits] : mantissa;
+        return start == 0 ? result : -result;
+    }
+
+    private static int signLength(final CharSequence value) {
+        return !value.isEmpty() && value.charAt(0) == '-' ? 1 : 0;
+    }
+
+    private static int countDigits(final CharSequence value, final int start) {
+        int i = start;
+        while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') i++;
+        return i - start;
+    }
+}
@@ -25,13 +25,26 @@ package org.cloudsimplus.traces;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.cloudsimplus.util.ResourceLoader;
 import org.cloudsimplus.util.Util;
 
 import java.io.*;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipInputStream;
@@ -46,6 +59,18 @@ import java.util.zip.ZipInputStream;
 public class FileReader {
     public static final String DEF_FIELD_DELIMITER_REGEX = "\\s+";
 
+    /**
+     * The minimum size (in bytes) of each chunk a file is split into,
+     * when it's {@link #readFileInParallel(Function) read in parallel}.
+     */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * The maximum size (in bytes) of each chunk a file is split into,
+     * when it's {@link #readFileInParallel(Function) read in parallel}.
+     */
+    private static final long MAX_CHUNK_SIZE = 1 << 26;
+
     @Getter
     private final String filePath;
 
@@ -53,10 +78,17 @@ public class FileReader {
      * A regex defining how fields are delimited in the trace file.
      * Usually, this can be just a String with a single character such as
      * a space, comma, semi-colon or tab (\t).
+     * Such delimiters, and the default {@link #DEF_FIELD_DELIMITER_REGEX},
+     * are processed without actually using a regex, which is much faster.
      */
-    @Getter @Setter @NonNull
+    @Getter
     private String fieldDelimiterRegex;
 
+    /**
+     * Splits the lines according to the {@link #fieldDelimiterRegex}.
+     */
+    private FieldTokenizer tokenizer;
+
     @Getter
     private int lastLineNumber;
 
@@ -69,6 +101,26 @@ public class FileReader {
 
     private String[] commentString = {";", "#"};
 
+    /**
+     * The directory where binary caches of parsed trace files are stored;
+     * or null if the cache is disabled (default).
+     * @see #setCacheDir(Path)
+     */
+    @Getter
+    private Path cacheDir;
+
+    /**
+     * The trace cache being read; or null if lines are not being read from a cache.
+     * @see #readCache(ColumnarTraceCache.Reader, Function)
+     */
+    private ColumnarTraceCache.Reader cache;
+
+    /** The index of the {@link #cacheLine} inside the {@link #cache}. */
+    private int cacheRow;
+
+    /** The line being processed which was read from the {@link #cache}. */
+    private String[] cacheLine;
+
     /**
      * Creates a file reader that consider spaces as field delimiter.
      * @param filePath path of the file to read
@@ -103,7 +155,7 @@ public class FileReader {
      * @see #getSingleLineReader(String)
      */
     public FileReader(final String fieldDelimiterRegex, @NonNull final String filePath, final int maxLinesToRead) {
-        this.fieldDelimiterRegex = fieldDelimiterRegex;
+        setFieldDelimiterRegex(fieldDelimiterRegex);
         this.filePath = filePath;
         this.maxLinesToRead = maxLinesToRead;
     }
@@ -118,6 +170,17 @@ public class FileReader {
         return new FileReader(filePath, 1);
     }
 
+    /**
+     * Sets a regex defining how fields are delimited in the trace file.
+     * @param fieldDelimiterRegex the regex to set
+     * @see #getFieldDelimiterRegex()
+     */
+    public final FileReader setFieldDelimiterRegex(@NonNull final String fieldDelimiterRegex) {
+        this.fieldDelimiterRegex = fieldDelimiterRegex;
+        this.tokenizer = new FieldTokenizer(fieldDelimiterRegex);
+        return this;
+    }
+
     /**
      * Sets Strings that identify the start of a comment line.
      * @param commentString the comment Strings to set
@@ -154,6 +217,27 @@ public class FileReader {
         return this;
     }
 
+    /**
+     * Sets a directory to store binary caches of parsed trace files,
+     * so that subsequent reads of the same file neither need to decompress nor parse it again.
+     * Each cache is a columnar file named after a fingerprint of the trace file
+     * (and the settings used to parse it), which is memory-mapped when read.
+     * This way, a trace file that has changed is parsed again.
+     * Numeric fields are stored as typed values, so they don't need to be parsed
+     * when read from the cache by methods such as {@link #parseLongField(String[], int)}.
+     *
+     * <p>The cache is only created when the entire file is read,
+     * since the {@link #getMaxLinesToRead() maximum number of lines to read} is not set.
+     * An existing cache is used even if such a number is set.</p>
+     *
+     * @param cacheDir the directory to store the trace caches (created if it doesn't exist);
+     *                 or null to disable the cache.
+     */
+    public FileReader setCacheDir(final Path cacheDir) {
+        this.cacheDir = cacheDir;
+        return this;
+    }
+
     private boolean isComment(final String line) {
         return Arrays.stream(commentString).anyMatch(line::startsWith);
     }
@@ -171,6 +255,8 @@ public class FileReader {
     /**
      * Reads a trace file indicated by the {@link #getFilePath()}.
      * It performs additional processing after parsing the line.
+     * If a {@link #setCacheDir(Path) cache directory} is set,
+     * the parsed lines are read from (or written to) a cache of the file.
      *
      * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
      *                              and performs an operation over it, returning true if the operation was executed
@@ -178,6 +264,129 @@ public class FileReader {
      * @throws UncheckedIOException if the there was any error reading the file
      */
     protected String[] readFile(final Function<String[], Boolean> processParsedLineFunc) {
+        if (cacheDir == null) {
+            return readTraceFile(processParsedLineFunc);
+        }
+
+        final Path cacheFile = ColumnarTraceCache.getCacheFile(cacheDir, this, getFileSystemPath());
+        final var cache = ColumnarTraceCache.load(cacheFile);
+        if (cache.isPresent()) {
+            return readCache(cache.get(), processParsedLineFunc);
+        }
+
+        if (maxLinesToRead < Integer.MAX_VALUE) {
+            return readTraceFile(processParsedLineFunc);
+        }
+
+        try (var writer = new ColumnarTraceCache.Writer(cacheFile)) {
+            final String[] parsedLine = readTraceFile(line -> {
+                writer.add(line);
+                return processParsedLineFunc.apply(line);
+            });
+            writer.commit();
+            return parsedLine;
+        }
+    }
+
+    /**
+     * Reads the parsed lines from a trace cache.
+     *
+     * @param cache the reader for the cache file
+     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
+     *                              and performs an operation over it, returning true if the operation was executed
+     * @return the last parsed line
+     */
+    private String[] readCache(final ColumnarTraceCache.Reader cache, final Function<String[], Boolean> processParsedLineFunc) {
+        this.lastLineNumber = 0;
+        this.cache = cache;
+        String[] parsedLine = new String[0];
+        try {
+            for (int row = 0; row < cache.rows() && lastLineNumber < maxLinesToRead; row++) {
+                parsedLine = cache.row(row);
+                cacheRow = row;
+                cacheLine = parsedLine;
+                processParsedLine(parsedLine, processParsedLineFunc);
+            }
+        } finally {
+            this.cache = null;
+            this.cacheLine = null;
+        }
+
+        return parsedLine;
+    }
+
+    /**
+     * Checks if a field of a parsed line is an integer stored as a typed value in the trace cache,
+     * which can be got without parsing it.
+     * @param parsedLine the parsed line being processed
+     * @param index the index of the field
+     * @return true if the field is a typed integer from the cache, false otherwise
+     */
+    private boolean isCachedLong(final String[] parsedLine, final int index) {
+        return parsedLine == cacheLine && cacheLine != null && cache.isLong(cacheRow, index);
+    }
+
+    /**
+     * Gets a field from a parsed line as a long.
+     * If the line was read from the {@link #setCacheDir(Path) trace cache},
+     * the typed value stored in the cache is returned, without parsing the field.
+     *
+     * @param parsedLine the parsed line being processed
+     * @param index the index of the field
+     * @return the field value
+     * @throws NumberFormatException if the field is not a long
+     */
+    protected long parseLongField(final String[] parsedLine, final int index) {
+        return isCachedLong(parsedLine, index) ? cache.getLong(cacheRow, index) : Long.parseLong(parsedLine[index]);
+    }
+
+    /**
+     * Gets a field from a parsed line as an int.
+     * If the line was read from the {@link #setCacheDir(Path) trace cache},
+     * the typed value stored in the cache is returned, without parsing the field.
+     *
+     * @param parsedLine the parsed line being processed
+     * @param index the index of the field
+     * @return the field value
+     * @throws NumberFormatException if the field is not an int
+     */
+    protected int parseIntField(final String[] parsedLine, final int index) {
+        if (!isCachedLong(parsedLine, index)) {
+            return Integer.parseInt(parsedLine[index]);
+        }
+
+        final long value = cache.getLong(cacheRow, index);
+        if ((int) value != value) {
+            throw new NumberFormatException("Value out of int range: " + value);
+        }
+
+        return (int) value;
+    }
+
+    /**
+     * Gets a field from a parsed line as a double.
+     * If the line was read from the {@link #setCacheDir(Path) trace cache},
+     * the typed value stored in the cache is returned, without parsing the field.
+     *
+     * @param parsedLine the parsed line being processed
+     * @param index the index of the field
+     * @return the field value
+     * @throws NumberFormatException if the field is not a number
+     */
+    protected double parseDoubleField(final String[] parsedLine, final int index) {
+        final boolean cached = parsedLine == cacheLine && cacheLine != null && cache.isNumber(cacheRow, index);
+        return cached ? cache.getDouble(cacheRow, index) : FieldTokenizer.parseDouble(parsedLine[index]);
+    }
+
+    /**
+     * Reads and parses the trace file indicated by the {@link #getFilePath()}.
+     *
+     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
+     *                              and performs an operation over it, returning true if the operation was executed
+     * @return the last parsed line
+     * @throws UncheckedIOException if the there was any error reading the file
+     */
+    private String[] readTraceFile(final Function<String[], Boolean> processParsedLineFunc) {
         try {
             final var ext = Util.getFileExtension(getFilePath());
             final var is = ResourceLoader.newInputStream(getFilePath(), getClass());
@@ -191,6 +400,250 @@ public class FileReader {
         }
     }
 
+    /**
+     * Opens the file indicated by the {@link #getFilePath()} to be read incrementally,
+     * one line at a time, by calling {@link #readNextParsedLine(BufferedReader)}.
+     * Differently from {@link #readFile(Function)}, the entire file is not read at once
+     * and the caller is responsible for closing the returned reader.
+     *
+     * @return a {@link BufferedReader} to read the file (zip and gz files are decompressed on the fly)
+     * @throws UncheckedIOException if the there was any error opening the file
+     */
+    protected BufferedReader openFile() {
+        this.lastLineNumber = 0;
+        try {
+            final var ext = Util.getFileExtension(getFilePath());
+            final var is = ResourceLoader.newInputStream(getFilePath(), getClass());
+            final InputStream decompressedStream = switch (ext) {
+                case ".gz" -> new GZIPInputStream(is);
+                case ".zip" -> {
+                    final var zipInputStream = new ZipInputStream(is);
+                    //Get the first file inside the zip (other ones are ignored)
+                    zipInputStream.getNextEntry();
+                    yield zipInputStream;
+                }
+                default -> is;
+            };
+
+            return new BufferedReader(new InputStreamReader(decompressedStream));
+        } catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next non-comment line from a file opened by {@link #openFile()}.
+     *
+     * @param reader the reader returned by {@link #openFile()}
+     * @return an array containing the field values from the read line; or null if there isn't any more lines to read or if
+     * the number of lines to read was reached
+     * @see #processParsedLine(String[], Function)
+     */
+    protected String[] readNextParsedLine(@NonNull final BufferedReader reader) {
+        String line;
+        while ((line = readNextLine(reader)) != null) {
+            final String[] parsedLine = parseLine(line);
+            if (parsedLine.length > 0) {
+                return parsedLine;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Performs the processing of a parsed line,
+     * counting it as read if the processing succeeds.
+     *
+     * @param parsedLine an array containing the field values from a parsed line
+     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
+     *                              and performs an operation over it, returning true if the operation was executed
+     * @return true if the line was processed, false otherwise
+     * @see #getLastLineNumber()
+     */
+    protected final boolean processParsedLine(
+        final String[] parsedLine,
+        @NonNull final Function<String[], Boolean> processParsedLineFunc)
+    {
+        if (parsedLine.length > 0 && processParsedLineFunc.apply(parsedLine)) {
+            this.lastLineNumber++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads an uncompressed file indicated by the {@link #getFilePath()}, splitting it into line-aligned chunks
+     * which are read and parsed in parallel.
+     * The parsed lines are then processed sequentially, in the same order they appear in the file,
+     * so that the processing function doesn't need to be thread-safe
+     * and gets the same results of {@link #readFile(Function)}.
+     *
+     * <p>If the file is compressed, not in the filesystem (such as inside a jar),
+     * a {@link #setCacheDir(Path) cache directory} is set
+     * or the {@link #getMaxLinesToRead() maximum number of lines to read} is set,
+     * the file is read by {@link #readFile(Function)} instead.</p>
+     *
+     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
+     *                              and performs an operation over it, returning true if the operation was executed
+     * @return the last parsed line
+     * @throws UncheckedIOException if the there was any error reading the file
+     */
+    protected String[] readFileInParallel(final Function<String[], Boolean> processParsedLineFunc) {
+        final var ext = Util.getFileExtension(getFilePath());
+        final Path file = getFileSystemPath();
+        if (file == null || ext.equals(".gz") || ext.equals(".zip") || cacheDir != null || maxLinesToRead < Integer.MAX_VALUE) {
+            return readFile(processParsedLineFunc);
+        }
+
+        this.lastLineNumber = 0;
+        String[] parsedLine = new String[0];
+        final var chunks = new ArrayList<CompletableFuture<List<String[]>>>();
+        try (var channel = FileChannel.open(file)) {
+            /* Chunks are parsed in parallel, but processed in order as soon as each one is parsed.
+             * This way, the processing of a chunk overlaps the parsing of next ones.
+             * Just a limited number of chunks is parsed ahead of the one being processed
+             * (a new chunk is submitted only when one is processed),
+             * so that the parsed lines waiting to be processed don't fill the memory. */
+            final long[] chunkStarts = computeChunkStarts(channel);
+            final int chunksNumber = chunkStarts.length - 1;
+            final int maxChunksInFlight = Math.max(ForkJoinPool.getCommonPoolParallelism(), 1) * 2;
+            for (int i = 0; i < chunksNumber; i++) {
+                chunks.add(i < maxChunksInFlight ? parseChunkAsync(channel, chunkStarts, i) : null);
+            }
+
+            for (int i = 0; i < chunksNumber; i++) {
+                for (final String[] line : chunks.get(i).join()) {
+                    parsedLine = line;
+                    processParsedLine(parsedLine, processParsedLineFunc);
+                }
+
+                chunks.set(i, null);
+                final int next = i + maxChunksInFlight;
+                if (next < chunksNumber) {
+                    chunks.set(next, parseChunkAsync(channel, chunkStarts, next));
+                }
+            }
+        } catch (IOException e) {
+            cancel(chunks);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            cancel(chunks);
+            throw e instanceof CompletionException && e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+
+        return parsedLine;
+    }
+
+    /**
+     * Submits a chunk of a file to be parsed in parallel.
+     * @param channel the channel to read the file
+     * @param chunkStarts the start position of each chunk, where the last item is the file size
+     * @param chunk the index of the chunk to parse
+     * @return a {@link CompletableFuture} that gives the lines parsed from the chunk
+     */
+    private CompletableFuture<List<String[]>> parseChunkAsync(final FileChannel channel, final long[] chunkStarts, final int chunk) {
+        final long start = chunkStarts[chunk];
+        final long end = chunkStarts[chunk + 1];
+        return CompletableFuture.supplyAsync(() -> parseChunk(channel, start, end));
+    }
+
+    /**
+     * Cancels the parsing of chunks that are still submitted when the reading fails.
+     * @param chunks the list of chunks being parsed (processed chunks are null)
+     */
+    private static void cancel(final List<CompletableFuture<List<String[]>>> chunks) {
+        chunks.stream().filter(Objects::nonNull).forEach(chunk -> chunk.cancel(false));
+    }
+
+    /**
+     * {@return the path of the file in the filesystem} (which may be inside the resource directory);
+     * or null if the file is not in the filesystem (such as inside a jar).
+     */
+    private Path getFileSystemPath() {
+        final URL url = ResourceLoader.getResourceUrl(getClass(), getFilePath());
+        try {
+            final Path path = url != null && "file".equals(url.getProtocol()) ? Path.of(url.toURI()) : Path.of(getFilePath());
+            return Files.isRegularFile(path) ? path : null;
+        } catch (URISyntaxException | InvalidPathException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the positions where each chunk of a file starts,
+     * ensuring each chunk starts at the beginning of a line.
+     * @param channel the channel to read the file
+     * @return an array with the start position of each chunk, where the last item is the file size
+     */
+    private static long[] computeChunkStarts(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final long minChunks = (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        final long chunks = Math.max(1, Math.max(minChunks, Math.min(size / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 4L)));
+        final long chunkSize = Math.max(size / chunks, 1);
+        final var starts = new ArrayList<Long>();
+        starts.add(0L);
+        final var buffer = ByteBuffer.allocate(1024);
+        long position = chunkSize;
+        while (position < size) {
+            position = nextLineStart(channel, position, buffer);
+            if (position < size) {
+                starts.add(position);
+            }
+
+            position += chunkSize;
+        }
+
+        starts.add(size);
+        return starts.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Gets the position just after the next line break,
+     * starting from a given position.
+     */
+    private static long nextLineStart(final FileChannel channel, long position, final ByteBuffer buffer) throws IOException {
+        while (true) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                return channel.size();
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position += read;
+        }
+    }
+
+    /**
+     * Reads and parses the lines in a chunk of a file.
+     * @param channel the channel to read the file
+     * @param start the position where the chunk starts
+     * @param end the position where the chunk ends (exclusive)
+     * @return the List of parsed lines in the chunk
+     */
+    private List<String[]> parseChunk(final FileChannel channel, final long start, final long end) {
+        try {
+            final var buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new EOFException("Unexpected end of file " + getFilePath());
+                }
+            }
+
+            final var content = new String(buffer.array(), Charset.defaultCharset());
+            return content.lines().map(this::parseLine).filter(parsedLine -> parsedLine.length > 0).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Reads a trace file inside a zip.
      *
@@ -235,9 +688,7 @@ public class FileReader {
             String line;
             while ((line = readNextLine(reader)) != null) {
                 parsedLine = parseLine(line);
-                if (parsedLine.length > 0 && processParsedLineFunc.apply(parsedLine)) {
-                    this.lastLineNumber++;
-                }
+                processParsedLine(parsedLine, processParsedLineFunc);
             }
         }
 
@@ -267,6 +718,6 @@ public class FileReader {
         }
 
         //Splits the string, ensuring that empty fields won't be discarded
-        return line.trim().split(fieldDelimiterRegex, -1);
+        return tokenizer.split(line);
     }
 }
@@ -134,6 +134,17 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
     @Setter
     private Predicate<Cloudlet> predicate;
 
+    /**
+     * Indicates if the trace file is split into line-aligned chunks
+     * which are read and parsed in parallel (default is false).
+     * Cloudlets are still created in the order they appear in the trace file,
+     * with the same IDs they have when the file is read sequentially.
+     * It only applies to uncompressed files in the filesystem.
+     * @see #readFileInParallel(java.util.function.Function)
+     */
+    @Getter @Setter
+    private boolean parallelParsing;
+
     /**
      * Create a SwfWorkloadFileReader object.
      *
@@ -186,7 +197,9 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
      */
     public List<Cloudlet> generateWorkload() {
         if (cloudlets.isEmpty()) {
-            readFile(this::createCloudletFromTraceLine);
+            if (parallelParsing)
+                readFileInParallel(this::createCloudletFromTraceLine);
+            else readFile(this::createCloudletFromTraceLine);
         }
 
         return cloudlets;
@@ -206,22 +219,22 @@ public final class SwfWorkloadFileReader extends TraceReaderAbstract {
             return false;
         }
 
-        final int id = JOB_NUM_INDEX <= IRRELEVANT ? cloudlets.size() + 1 : Integer.parseInt(parsedLineArray[JOB_NUM_INDEX].trim());
+        final int id = JOB_NUM_INDEX <= IRRELEVANT ? cloudlets.size() + 1 : parseIntField(parsedLineArray, JOB_NUM_INDEX);
 
         /* according to the SWF manual, runtime of 0 is possible due
          to rounding down. E.g. runtime is 0.4 seconds -> runtime = 0*/
-        final int runTime = Math.max(Integer.parseInt(parsedLineArray[RUN_TIME_INDEX].trim()), 1);
+        final int runTime = Math.max(parseIntField(parsedLineArray, RUN_TIME_INDEX), 1);
 
         /* if the required num of allocated processors field is ignored
         or zero, then use the actual field*/
         final int maxNumProc = Math.max(
-                                    Integer.parseInt(parsedLineArray[REQ_NUM_PROC_INDEX].trim()),
-                                    Integer.parseInt(parsedLineArray[NUM_PROC_INDEX].trim())
+                                    parseIntField(parsedLineArray, REQ_NUM_PROC_INDEX),
+                                    parseIntField(parsedLineArray, NUM_PROC_INDEX)
                                );
         final int numProc = Math.max(maxNumProc, 1);
 
         final Cloudlet cloudlet = createCloudlet(id, runTime, numProc);
-        final long submitTime = Long.parseLong(parsedLineArray[SUBMIT_TIME_INDEX].trim());
+        final long submitTime = parseLongField(parsedLineArray, SUBMIT_TIME_INDEX);
         cloudlet.setSubmissionDelay(submitTime);
 
         if(predicate.test(cloudlet)){
@@ -50,11 +50,6 @@ import lombok.experimental.Accessors;
 @Accessors
 public abstract class TraceReaderAbstract extends FileReader implements TraceReader {
 
-    /**
-     * Regular expression to check if a String corresponds to an integer number.
-     */
-    private static final String INT_REGEX = "^-?\\d+$";
-
     /** @see #getLastParsedLineArray() */
     private String[] lastParsedLineArray;
 
@@ -91,7 +86,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      * @return
      */
     public <T extends Enum> double getFieldDoubleValue(final T field){
-        return Double.parseDouble(getFieldValue(field));
+        return parseDoubleField(lastParsedLineArray, field.ordinal());
     }
 
     /**
@@ -103,7 +98,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      */
     public <T extends Enum> double getFieldDoubleValue(final T field, final double defaultValue){
         final String value = getFieldValue(field);
-        return  value.matches("^-?\\d+(\\.?\\d+)?$") ? Double.parseDouble(value) : defaultValue;
+        return FieldTokenizer.isDecimal(value) ? parseDoubleField(lastParsedLineArray, field.ordinal()) : defaultValue;
     }
 
     /**
@@ -113,7 +108,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      * @return
      */
     public <T extends Enum> int getFieldIntValue(final T field){
-        return Integer.parseInt(getFieldValue(field));
+        return parseIntField(lastParsedLineArray, field.ordinal());
     }
 
     /**
@@ -125,7 +120,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      */
     public <T extends Enum> int getFieldIntValue(final T field, final int defaultValue){
         final String value = getFieldValue(field);
-        return  value.matches(INT_REGEX) ? Integer.parseInt(value) : defaultValue;
+        return FieldTokenizer.isInteger(value) ? parseIntField(lastParsedLineArray, field.ordinal()) : defaultValue;
     }
 
     /**
@@ -135,7 +130,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      * @return
      */
     public <T extends Enum> long getFieldLongValue(final T field){
-        return Long.parseLong(getFieldValue(field));
+        return parseLongField(lastParsedLineArray, field.ordinal());
     }
 
     /**
@@ -147,7 +142,7 @@ public abstract class TraceReaderAbstract extends FileReader implements TraceRea
      */
     public <T extends Enum> long getFieldLongValue(final T field, final long defaultValue){
         final String value = getFieldValue(field);
-        return  value.matches(INT_REGEX) ? Long.parseLong(value) : defaultValue;
+        return FieldTokenizer.isInteger(value) ? parseLongField(lastParsedLineArray, field.ordinal()) : defaultValue;
     }
 
     /**
@@ -29,13 +29,18 @@ import lombok.NonNull;
 import lombok.Setter;
 import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.core.CloudSimEntity;
 import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.core.Simulation;
 import org.cloudsimplus.core.events.CloudSimEvent;
+import org.cloudsimplus.core.events.SimEvent;
+import org.cloudsimplus.traces.ParsingException;
 import org.cloudsimplus.traces.TraceReaderAbstract;
 import org.cloudsimplus.util.ResourceLoader;
 import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
@@ -65,6 +70,11 @@ import static java.util.Objects.requireNonNull;
  *
  * <p>Check important details at {@link TraceReaderAbstract}.</p>
  *
+ * <p>By default, the entire trace file is read when {@link #process()} is called
+ * and all events are scheduled up front. Since that may require lots of memory
+ * for large traces, a streaming mode can be enabled by
+ * {@link #setStreamingLookAhead(double)}.</p>
+ *
  * @see #process()
  *
  * @author Manoel Campos da Silva Filho
@@ -113,6 +123,45 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
 
     private final CloudSimPlus simulation;
 
+    /**
+     * The time interval (in seconds) ahead of the simulation clock
+     * for which trace lines are read when streaming mode is enabled;
+     * or 0 if the streaming mode is disabled (default).
+     * @see #setStreamingLookAhead(double)
+     */
+    private double streamingLookAhead;
+
+    /**
+     * The reader for the trace file, which is kept open between look-ahead windows
+     * when the {@link #isStreaming() streaming mode} is enabled.
+     */
+    @Getter(AccessLevel.NONE)
+    private BufferedReader streamReader;
+
+    /**
+     * The first parsed line after the current look-ahead window,
+     * which will be processed only when the next window is read;
+     * or null if the end of the trace was reached.
+     */
+    @Getter(AccessLevel.NONE)
+    private String[] pendingLine;
+
+    /**
+     * The entity that reads the next look-ahead window
+     * when the {@link #isStreaming() streaming mode} is enabled;
+     * or null if it wasn't created yet.
+     */
+    @Getter(AccessLevel.NONE)
+    private WindowReadingEntity windowReadingEntity;
+
+    /**
+     * Number of Cloudlets that have finished according to the trace file
+     * and were released by the streaming mode to reduce memory footprint.
+     * @see #allowCloudletCreation()
+     */
+    @Getter(AccessLevel.NONE)
+    private int releasedCloudlets;
+
     /**
      * Gets a {@link GoogleTaskEventsTraceReader} instance to read a "task events" trace file
      * inside the <b>application's resource directory</b>.
@@ -198,6 +247,10 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
      * (the timestamp is used to delay the Cloudlet submission).
      * </p>
      *
+     * <p>If the {@link #isStreaming() streaming mode} is enabled, only the Cloudlets
+     * submitted inside the first look-ahead window are returned.
+     * The remaining ones are created and submitted along the simulation execution.</p>
+     *
      * @return the Set of all submitted {@link Cloudlet}s for any timestamp inside the trace file.
      * @see BrokerManager#getBrokers()
      */
@@ -225,6 +278,155 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
 
     private void sendCloudletEvents() {
         cloudletEvents.values().forEach(this::sendCloudletEvents);
+        if(isStreaming()) {
+            cloudletEvents.clear();
+            scheduleNextWindowReading();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the {@link #isStreaming() streaming mode} is enabled,
+     * only the lines inside the first look-ahead window are read.
+     * @param processParsedLineFunc {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected String[] readFile(final Function<String[], Boolean> processParsedLineFunc) {
+        if(!isStreaming()) {
+            return super.readFile(processParsedLineFunc);
+        }
+
+        streamReader = openFile();
+        //The simulation may finish before the end of the file is reached
+        simulation.addOnSimulationFinishListener(info -> closeStreamReader());
+        pendingLine = readNextParsedLine(streamReader);
+        readNextWindow(processParsedLineFunc);
+        return getLastParsedLineArray() == null ? new String[0] : getLastParsedLineArray();
+    }
+
+    /**
+     * Reads the trace lines which timestamp is inside the look-ahead window,
+     * starting from the current simulation time.
+     * The first line after the window is kept as the {@link #pendingLine}.
+     * @param processParsedLineFunc a {@link Function} that receives each parsed line as an array
+     *                              and performs an operation over it
+     */
+    private void readNextWindow(final Function<String[], Boolean> processParsedLineFunc) {
+        final double windowEnd = simulation.clock() + streamingLookAhead;
+        while (pendingLine != null) {
+            setLastParsedLineArray(pendingLine);
+            final double timestamp = TaskEventField.TIMESTAMP.getValue(this);
+            if(timestamp > windowEnd) {
+                return;
+            }
+
+            processParsedLine(pendingLine, processParsedLineFunc);
+            pendingLine = readNextParsedLine(streamReader);
+        }
+
+        closeStreamReader();
+    }
+
+    /**
+     * Schedules an event to read the next look-ahead window from the trace file,
+     * when the time of the {@link #pendingLine} enters that window.
+     * The event is sent to a {@link WindowReadingEntity} instead of a broker,
+     * since brokers may shut down when they become idle during a gap in the trace,
+     * causing the event to be ignored and the rest of the trace to be never read.
+     */
+    private void scheduleNextWindowReading() {
+        if(pendingLine == null) {
+            return;
+        }
+
+        setLastParsedLineArray(pendingLine);
+        final double timestamp = TaskEventField.TIMESTAMP.getValue(this);
+        final double delay = Math.max(timestamp - streamingLookAhead - simulation.clock(), 0);
+        final Runnable nextWindowReadingRunnable = () -> {
+            try {
+                readNextWindow(this::processParsedLine);
+            } catch (RuntimeException e) {
+                closeStreamReader();
+                throw new ParsingException("Error when processing the trace file. Current trace line: " + getLastLineNumber(), e);
+            }
+
+            sendCloudletEvents();
+        };
+
+        if(windowReadingEntity == null) {
+            windowReadingEntity = new WindowReadingEntity(simulation);
+        }
+
+        windowReadingEntity.schedule(delay, CloudSimTag.CLOUDLET_UPDATE_ATTRIBUTES, nextWindowReadingRunnable);
+    }
+
+    private void closeStreamReader() {
+        if(streamReader == null) {
+            return;
+        }
+
+        try {
+            streamReader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            streamReader = null;
+            pendingLine = null;
+        }
+    }
+
+    /**
+     * Enables or disables the streaming mode, where the trace file is read incrementally
+     * along the simulation execution instead of all at once when {@link #process()} is called.
+     * In such a mode, only the Cloudlets and events which timestamp is inside a look-ahead window
+     * from the current simulation time are created and scheduled.
+     * This way, the memory footprint is bounded by the number of events inside such a window
+     * and not by the length of the trace.
+     * Cloudlets that finish, fail or are killed according to the trace
+     * are released by the reader (but not by their brokers).
+     *
+     * <p>The streaming mode requires the trace lines to be sorted by timestamp,
+     * as the original Google Cluster trace files are.
+     * Brokers for usernames appearing only after the first window
+     * are created along the simulation execution.
+     * If you need to configure them before the simulation starts, set a
+     * {@link BrokerManager#setDefaultBroker(DatacenterBroker) default broker}.</p>
+     *
+     * @param streamingLookAhead the time interval (in seconds) ahead of the simulation clock
+     *                           for which trace lines are read;
+     *                           or 0 to disable the streaming mode (default).
+     *                           It must be set before calling {@link #process()}.
+     * @return this reader
+     */
+    public GoogleTaskEventsTraceReader setStreamingLookAhead(final double streamingLookAhead) {
+        if(streamingLookAhead < 0) {
+            throw new IllegalArgumentException("Streaming look-ahead cannot be negative.");
+        }
+
+        this.streamingLookAhead = streamingLookAhead;
+        return this;
+    }
+
+    /**
+     * Checks if the streaming mode is enabled.
+     * @return true if the streaming mode is enabled, false otherwise
+     * @see #setStreamingLookAhead(double)
+     */
+    public boolean isStreaming() {
+        return streamingLookAhead > 0;
+    }
+
+    /**
+     * Gets the delay to schedule an event happening at a given trace timestamp.
+     * If the {@link #isStreaming() streaming mode} is enabled,
+     * the delay is relative to the current simulation time,
+     * since events are scheduled along the simulation execution.
+     * @param timestamp the timestamp read from the trace (in seconds)
+     * @return the delay to schedule the event (in seconds)
+     */
+    /* default */ double getEventDelay(final double timestamp) {
+        return isStreaming() ? Math.max(timestamp - simulation.clock(), 0) : timestamp;
     }
 
     protected void sendCloudletEvents(final List<CloudSimEvent> events) {
@@ -246,11 +448,23 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
     /* default */ boolean requestCloudletStatusChange(final int tag) {
         final var taskEvent = TaskEvent.of(this);
         final var broker = brokerManager.getBroker(taskEvent.getUserName());
-        final double delay = taskEvent.getTimestamp();
+        final double delay = getEventDelay(taskEvent.getTimestamp());
 
-        return findObject(taskEvent.getUniqueTaskId())
+        final boolean requested = findObject(taskEvent.getUniqueTaskId())
                 .map(cloudlet -> addCloudletStatusChangeEvents(new CloudSimEvent(delay, broker, tag, cloudlet), taskEvent))
                 .isPresent();
+
+        /* The events hold the Cloudlet, so it can be released after the last expected event is read.
+         * If the task is resubmitted later, a new Cloudlet is created by the SUBMIT event. */
+        if(requested && isStreaming() && isTerminalStatusChange(tag) && removeAvailableObject(taskEvent.getUniqueTaskId())) {
+            releasedCloudlets++;
+        }
+
+        return requested;
+    }
+
+    private static boolean isTerminalStatusChange(final int tag) {
+        return tag == CloudSimTag.CLOUDLET_FINISH || tag == CloudSimTag.CLOUDLET_FAIL || tag == CloudSimTag.CLOUDLET_CANCEL;
     }
 
     /**
@@ -343,7 +557,7 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
          * This way, it will be executed only when the event is processed.*/
         final var attrsChangeSimEvt =
             new CloudSimEvent(
-                taskEvent.getTimestamp(),
+                getEventDelay(taskEvent.getTimestamp()),
                 statusChangeSimEvt.getDestination(),
                 CloudSimTag.CLOUDLET_UPDATE_ATTRIBUTES, attributesUpdateRunnable);
 
@@ -409,6 +623,27 @@ public class GoogleTaskEventsTraceReader extends GoogleTraceReaderAbstract<Cloud
      * @return true to indicate the Cloudlet is allowed to be created, false otherwise.
      */
     protected boolean allowCloudletCreation() {
-        return availableObjectsCount() < getMaxCloudletsToCreate();
+        return availableObjectsCount() + releasedCloudlets < getMaxCloudletsToCreate();
+    }
+
+    /**
+     * An entity that reads the next look-ahead windows of the trace file,
+     * living for the entire simulation.
+     * It executes the {@link Runnable} sent as data of each received event.
+     */
+    private static final class WindowReadingEntity extends CloudSimEntity {
+        private WindowReadingEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {/**/}
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if(evt.getData() instanceof Runnable runnable) {
+                runnable.run();
+            }
+        }
     }
 }
@@ -140,6 +140,17 @@ abstract class GoogleTraceReaderAbstract<T extends Identifiable> extends TraceRe
         return availableObjectsMap.put(object.getId(), Objects.requireNonNull(object)) == null;
     }
 
+    /**
+     * Removes an object T from the list of available objects,
+     * so that it's not found anymore by {@link #findObject(long)}.
+     * @param id id of the object to remove
+     * @return true if the object was removed, false otherwise
+     * @see #availableObjectsMap
+     */
+    /* default */ final boolean removeAvailableObject(final long id){
+        return availableObjectsMap.remove(id) != null;
+    }
+
     /**
      * Gets the number of objects available (created) so far.
      * @return
@@ -0,0 +1,179 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.util;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A read-only List of state history entries for an entity such as a Host or VM,
+ * where each entry has a time, the allocated and requested MIPS, and a boolean flag.
+ * Instead of storing one object for each entry, the values of all entries are stored in
+ * growable primitive arrays (columns). Entries are just created
+ * when {@link #get(int) accessed}, so that memory usage is drastically reduced
+ * for long-running simulations with state history enabled.
+ * Values can be read without creating entries using the {@link #forEach(EntryConsumer)} method.
+ *
+ * <p>If {@link #setCompressed(boolean) compression} is enabled, a sample having the same values
+ * as the previous one is not stored (run-length compression). This way, each entry represents
+ * the state from its time until the time of the next entry.</p>
+ *
+ * @param <T> the type of the entries in the history
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+public final class StateHistory<T> extends AbstractList<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * A function to create an entry from the values of the state history.
+     * @param <T> the type of the entries in the history
+     */
+    @FunctionalInterface
+    public interface EntryFactory<T> {
+        T create(double time, double allocatedMips, double requestedMips, boolean flag);
+    }
+
+    /**
+     * A function to consume the values of a state history entry without creating an entry object.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(double time, double allocatedMips, double requestedMips, boolean flag);
+    }
+
+    private final EntryFactory<T> entryFactory;
+
+    private double[] times;
+    private double[] allocatedMips;
+    private double[] requestedMips;
+    private final BitSet flags;
+    private int size;
+
+    /**
+     * Indicates if a sample having the same values as the previous one is not stored.
+     * Changing it doesn't affect previously stored entries.
+     */
+    @Getter @Setter
+    private boolean compressed;
+
+    /**
+     * Creates an empty state history.
+     * @param entryFactory a function to create an entry from the values of the state history
+     */
+    public StateHistory(@NonNull final EntryFactory<T> entryFactory) {
+        this.entryFactory = entryFactory;
+        this.times = new double[INITIAL_CAPACITY];
+        this.allocatedMips = new double[INITIAL_CAPACITY];
+        this.requestedMips = new double[INITIAL_CAPACITY];
+        this.flags = new BitSet();
+    }
+
+    /**
+     * Adds a sample to the history.
+     * If the last entry has the same time, it's replaced by the new sample.
+     * If {@link #isCompressed() compression} is enabled and the last entry has the same values,
+     * the sample is not stored.
+     *
+     * @param time the time the state was collected (in seconds)
+     * @param allocatedMips the allocated MIPS
+     * @param requestedMips the requested MIPS
+     * @param flag the boolean state (such as if a Host is active or a VM is in migration)
+     */
+    public void add(final double time, final double allocatedMips, final double requestedMips, final boolean flag) {
+        final int last = size - 1;
+        if (last >= 0 && times[last] == time) {
+            set(last, time, allocatedMips, requestedMips, flag);
+            return;
+        }
+
+        if (compressed && last >= 0 && this.allocatedMips[last] == allocatedMips &&
+            this.requestedMips[last] == requestedMips && flags.get(last) == flag)
+        {
+            return;
+        }
+
+        if (size == times.length) {
+            grow();
+        }
+
+        set(size++, time, allocatedMips, requestedMips, flag);
+    }
+
+    private void set(final int index, final double time, final double allocatedMips, final double requestedMips, final boolean flag) {
+        this.times[index] = time;
+        this.allocatedMips[index] = allocatedMips;
+        this.requestedMips[index] = requestedMips;
+        this.flags.set(index, flag);
+    }
+
+    private void grow() {
+        final int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        allocatedMips = Arrays.copyOf(allocatedMips, capacity);
+        requestedMips = Arrays.copyOf(requestedMips, capacity);
+    }
+
+    /**
+     * Calls a given consumer for the values of each entry in the history,
+     * without creating entry objects.
+     * @param consumer the consumer to be called for each entry
+     */
+    public void forEach(@NonNull final EntryConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(times[i], allocatedMips[i], requestedMips[i], flags.get(i));
+        }
+    }
+
+    /**
+     * {@return the time of the entry at a given index}
+     * @param index the index of the entry
+     */
+    public double getTime(final int index) {
+        return times[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * {@inheritDoc}
+     * A new entry object is created every time this method is called.
+     * @param index {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public T get(final int index) {
+        Objects.checkIndex(index, size);
+        return entryFactory.create(times[index], allocatedMips[index], requestedMips[index], flags.get(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -34,7 +34,10 @@ import java.util.function.Function;
  * @since CloudSim Plus 6.1.0
  */
 public class HostResourceStats extends ResourceStats<Host> {
-    public static final HostResourceStats NULL = new HostResourceStats(Host.NULL, host -> 0.0) { @Override public boolean add(double time) { return false; }};
+    public static final HostResourceStats NULL = new HostResourceStats(Host.NULL, host -> 0.0) {
+        @Override public boolean add(double time) { return false; }
+        @Override public ResourceStats<Host> enableQuantileSketch(int buckets) { return this; }
+    };
 
     /**
      * Creates a HostResourceStats to collect resource utilization statistics for a Host.
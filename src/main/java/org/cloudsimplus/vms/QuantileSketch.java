@@ -0,0 +1,171 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.vms;
+
+import lombok.NonNull;
+
+/**
+ * A bounded-memory sketch to estimate quantiles (such as the 95th or 99th percentile)
+ * of resource utilization percentages (in scale from 0 to 1), without storing every sample.
+ * Samples are counted into a fixed number of equal-width buckets,
+ * so that memory usage is constant, regardless of the number of samples,
+ * and the error of estimated quantiles is at most the width of a bucket.
+ *
+ * <p>Sketches with the same number of buckets can be {@link #merge(QuantileSketch) merged},
+ * for instance, to compute quantiles of the utilization of all Hosts in a Datacenter.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see ResourceStats#enableQuantileSketch()
+ */
+public final class QuantileSketch {
+    /**
+     * The default number of buckets, which gives a precision of 0.1% for estimated quantiles.
+     */
+    public static final int DEF_BUCKETS = 1000;
+
+    private final long[] counts;
+    private long count;
+    private double min;
+    private double max;
+
+    /**
+     * Creates a sketch with the {@link #DEF_BUCKETS default number of buckets}.
+     */
+    public QuantileSketch() {
+        this(DEF_BUCKETS);
+    }
+
+    /**
+     * Creates a sketch with a given number of buckets.
+     * @param buckets the number of buckets to split the [0, 1] interval,
+     *                which defines the precision of estimated quantiles
+     */
+    public QuantileSketch(final int buckets) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("The number of buckets must be greater than 0.");
+        }
+
+        this.counts = new long[buckets];
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Adds a sample to the sketch.
+     * Values outside the [0, 1] interval are counted in the first or last bucket.
+     * @param value the utilization percentage (in scale from 0 to 1) to add
+     */
+    public void add(final double value) {
+        counts[bucket(value)]++;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    private int bucket(final double value) {
+        return (int) Math.min(counts.length - 1, Math.max(0, value * counts.length));
+    }
+
+    /**
+     * Merges the samples from another sketch into this one.
+     * @param other the sketch to merge into this one
+     * @return this sketch
+     * @throws IllegalArgumentException if the sketches have a different number of buckets
+     */
+    public QuantileSketch merge(@NonNull final QuantileSketch other) {
+        if (other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Just sketches with the same number of buckets can be merged.");
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Estimates the value below which a given fraction of samples falls.
+     * The value is linearly interpolated inside the bucket where such a fraction is reached,
+     * and it's always between the minimum and maximum samples.
+     *
+     * @param quantile the fraction of samples (in scale from 0 to 1), such as 0.95 for the 95th percentile
+     * @return the estimated quantile or {@link Double#NaN} if there is no sample
+     */
+    public double getQuantile(final double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("The quantile must be between 0 and 1.");
+        }
+
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        final double rank = quantile * count;
+        long cumulativeCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && cumulativeCount + counts[i] >= rank) {
+                final double fraction = (rank - cumulativeCount) / counts[i];
+                final double value = (i + fraction) / counts.length;
+                return Math.min(max, Math.max(min, value));
+            }
+
+            cumulativeCount += counts[i];
+        }
+
+        return max;
+    }
+
+    /**
+     * {@return the number of samples added to the sketch}
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * {@return the minimum sample added to the sketch or {@link Double#NaN} if there is no sample}
+     */
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    /**
+     * {@return the maximum sample added to the sketch or {@link Double#NaN} if there is no sample}
+     */
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * {@return the number of buckets, which defines the precision of estimated quantiles}
+     */
+    public int getBuckets() {
+        return counts.length;
+    }
+}
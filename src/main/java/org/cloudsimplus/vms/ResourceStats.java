@@ -45,6 +45,12 @@ public class ResourceStats<T extends Machine> {
     private double previousTime;
     private double previousUtilization;
 
+    /**
+     * An optional sketch to estimate quantiles of resource utilization.
+     * @see #enableQuantileSketch()
+     */
+    private QuantileSketch quantileSketch;
+
     /**
      * Creates a ResourceStats to collect resource utilization statistics.
      * @param machine the machine where the statistics will be collected (which can be a Vm or Host)
@@ -83,6 +89,9 @@ public class ResourceStats<T extends Machine> {
             }
 
             this.stats.addValue(utilization);
+            if(quantileSketch != null)
+                quantileSketch.add(utilization);
+
             this.previousUtilization = utilization;
             return true;
         } finally {
@@ -138,6 +147,65 @@ public class ResourceStats<T extends Machine> {
         return stats.getN();
     }
 
+    /**
+     * Enables the collection of resource utilization samples into a {@link QuantileSketch}
+     * with the {@link QuantileSketch#DEF_BUCKETS default number of buckets},
+     * to estimate utilization quantiles (such as the 95th percentile) at constant memory.
+     * Just samples collected after the sketch is enabled are considered.
+     * @return this ResourceStats
+     * @see #getQuantile(double)
+     */
+    public ResourceStats<T> enableQuantileSketch() {
+        return enableQuantileSketch(QuantileSketch.DEF_BUCKETS);
+    }
+
+    /**
+     * Enables the collection of resource utilization samples into a {@link QuantileSketch}
+     * to estimate utilization quantiles (such as the 95th percentile) at constant memory.
+     * Just samples collected after the sketch is enabled are considered.
+     * If it's already enabled, nothing is changed.
+     * @param buckets the number of buckets of the sketch, which defines the precision of estimated quantiles
+     * @return this ResourceStats
+     * @see #getQuantile(double)
+     */
+    public ResourceStats<T> enableQuantileSketch(final int buckets) {
+        if(quantileSketch == null)
+            quantileSketch = new QuantileSketch(buckets);
+
+        return this;
+    }
+
+    /**
+     * Checks if resource utilization samples are collected into a {@link QuantileSketch}.
+     * @return
+     * @see #enableQuantileSketch()
+     */
+    public boolean isQuantileSketchEnabled() {
+        return quantileSketch != null;
+    }
+
+    /**
+     * Gets the sketch used to estimate resource utilization quantiles,
+     * which can be {@link QuantileSketch#merge(QuantileSketch) merged}
+     * with sketches from other machines.
+     * @return the sketch or an empty one if it was not {@link #enableQuantileSketch() enabled}
+     */
+    public QuantileSketch getQuantileSketch() {
+        return quantileSketch == null ? new QuantileSketch() : quantileSketch;
+    }
+
+    /**
+     * Estimates a resource utilization quantile (such as 0.95 for the 95th percentile).
+     * @param quantile the fraction of samples (in scale from 0 to 1)
+     * @return the estimated resource utilization percentage (from 0 to 1)
+     *         or {@link Double#NaN} if the {@link #enableQuantileSketch() quantile sketch} is not enabled
+     *         or no sample was collected
+     * @see QuantileSketch#getQuantile(double)
+     */
+    public double getQuantile(final double quantile){
+        return getQuantileSketch().getQuantile(quantile);
+    }
+
     /**
      * Indicates if no resource utilization sample was collected.
      * @return
@@ -21,6 +21,7 @@ import org.cloudsimplus.listeners.VmHostEventInfo;
 import org.cloudsimplus.resources.*;
 import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.schedulers.cloudlet.CloudletScheduler;
+import org.cloudsimplus.util.StateHistory;
 import org.cloudsimplus.utilizationmodels.BootModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -313,6 +314,19 @@ public interface Vm extends Machine<Resource>, UniquelyIdentifiable, Comparable<
      */
     List<VmStateHistoryEntry> getStateHistory();
 
+    /**
+     * Calls a given consumer for each entry in the {@link #getStateHistory() state history},
+     * passing the entry values (time, allocated MIPS, requested MIPS and if the VM was in migration).
+     * Implementations storing such values in primitive arrays don't need to create
+     * an entry object for each call.
+     *
+     * @param consumer the consumer to be called for each entry
+     */
+    default void forEachStateHistoryEntry(final StateHistory.EntryConsumer consumer) {
+        getStateHistory().forEach(entry ->
+            consumer.accept(entry.getTime(), entry.getAllocatedMips(), entry.getRequestedMips(), entry.isInMigration()));
+    }
+
     /**
      * Gets the percentage of CPU capacity (MIPS %) used by all Cloudlets
      * running on this VM at the given time.
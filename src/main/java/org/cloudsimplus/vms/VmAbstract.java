@@ -23,6 +23,7 @@ import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.schedulers.cloudlet.CloudletScheduler;
 import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
 import org.cloudsimplus.util.MathUtil;
+import org.cloudsimplus.util.StateHistory;
 import org.cloudsimplus.utilizationmodels.BootModel;
 
 import java.util.*;
@@ -47,8 +48,9 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
     protected final Processor processor;
     /**
      * @see #getStateHistory()
+     * @see #setStateHistoryColumnar(boolean)
      */
-    protected final List<VmStateHistoryEntry> stateHistory;
+    protected List<VmStateHistoryEntry> stateHistory;
     protected final List<EventListener<VmHostEventInfo>> onMigrationStartListeners;
     protected final List<EventListener<VmHostEventInfo>> onMigrationFinishListeners;
     protected final List<EventListener<VmHostEventInfo>> onHostAllocationListeners;
@@ -89,6 +91,8 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
     private VerticalVmScaling bwVerticalScaling;
     private VerticalVmScaling peVerticalScaling;
     private VmResourceStats cpuUtilizationStats;
+    /** @see #setStateHistoryCompressed(boolean) */
+    private boolean stateHistoryCompressed;
 
     /**
      * A copy constructor that creates a VM based on the configuration of another one.
@@ -626,18 +630,96 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
         return Collections.unmodifiableList(stateHistory);
     }
 
+    @Override
+    public void forEachStateHistoryEntry(final StateHistory.EntryConsumer consumer) {
+        if (stateHistory instanceof StateHistory<VmStateHistoryEntry> columns) {
+            columns.forEach(consumer);
+            return;
+        }
+
+        Vm.super.forEachStateHistoryEntry(consumer);
+    }
+
     @Override
     public void addStateHistoryEntry(final VmStateHistoryEntry entry) {
+        if (stateHistory instanceof StateHistory<VmStateHistoryEntry> columns) {
+            columns.add(entry.getTime(), entry.getAllocatedMips(), entry.getRequestedMips(), entry.isInMigration());
+            return;
+        }
+
         if (!stateHistory.isEmpty()) {
             final VmStateHistoryEntry previousState = stateHistory.get(stateHistory.size() - 1);
             if (previousState.getTime() == entry.getTime()) {
                 stateHistory.set(stateHistory.size() - 1, entry);
                 return;
             }
+
+            if (stateHistoryCompressed && previousState.getAllocatedMips() == entry.getAllocatedMips() &&
+                previousState.getRequestedMips() == entry.getRequestedMips() &&
+                previousState.isInMigration() == entry.isInMigration())
+            {
+                return;
+            }
         }
         stateHistory.add(entry);
     }
 
+    /**
+     * Checks if the {@link #getStateHistory() state history} is stored in primitive columns,
+     * instead of a list of entry objects.
+     * @return true if the state history is columnar, false otherwise
+     * @see #setStateHistoryColumnar(boolean)
+     */
+    public boolean isStateHistoryColumnar() {
+        return stateHistory instanceof StateHistory;
+    }
+
+    /**
+     * Defines if the {@link #getStateHistory() state history} is stored in primitive columns
+     * (a {@link StateHistory}), instead of a list of entry objects (the default).
+     * Entries added by {@link #addStateHistoryEntry(VmStateHistoryEntry)} are then decomposed into their values,
+     * so the stored objects are not kept: new ones are created every time they are read from
+     * the {@link #getStateHistory()}.
+     * Previously stored entries are kept.
+     *
+     * @param columnar true to store the history in primitive columns, false to store entry objects
+     * @return this VM
+     */
+    public Vm setStateHistoryColumnar(final boolean columnar) {
+        if (columnar == isStateHistoryColumnar()) {
+            return this;
+        }
+
+        if (columnar) {
+            final var columns = new StateHistory<>(VmStateHistoryEntry::new).setCompressed(stateHistoryCompressed);
+            stateHistory.forEach(entry ->
+                columns.add(entry.getTime(), entry.getAllocatedMips(), entry.getRequestedMips(), entry.isInMigration()));
+            stateHistory = columns;
+        } else {
+            stateHistory = new LinkedList<>(stateHistory);
+        }
+
+        return this;
+    }
+
+    /**
+     * Enables or disables run-length compression of the {@link #getStateHistory() state history},
+     * so that samples having the same values as the previous one are not stored.
+     * This way, each entry represents the VM state from its time until the time of the next entry.
+     * It doesn't affect previously stored entries.
+     *
+     * @param compressed true to enable compression, false to disable it (the default)
+     * @return this VM
+     */
+    public Vm setStateHistoryCompressed(final boolean compressed) {
+        this.stateHistoryCompressed = compressed;
+        if (stateHistory instanceof StateHistory<VmStateHistoryEntry> columns) {
+            columns.setCompressed(compressed);
+        }
+
+        return this;
+    }
+
     @Override
     public List<ResourceManageable> getResources() {
         if (getSimulation().isRunning() && resources.isEmpty()) {
@@ -0,0 +1,96 @@
+package org.cloudsimplus.allocationpolicies;
+
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimpleTest;
+import org.cloudsimplus.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class HostCapacityIndexTest {
+    private static final int HOST_MIPS = 1000;
+
+    /**
+     * Creates a policy for Hosts using a {@link VmSchedulerSpaceShared}.
+     * @param policy the policy to set the Datacenter to
+     * @param pesByHost the number of PEs of each Host
+     * @return the given policy
+     */
+    private static <T extends VmAllocationPolicyAbstract> T createPolicy(final T policy, final int... pesByHost) {
+        final List<Host> hosts = new ArrayList<>(pesByHost.length);
+        for (int i = 0; i < pesByHost.length; i++) {
+            hosts.add(createHost(i, pesByHost[i]));
+        }
+
+        policy.setDatacenter(new DatacenterSimple(Simulation.NULL, hosts));
+        return policy;
+    }
+
+    private static Host createHost(final int id, final int pes) {
+        final var host = HostSimpleTest.createHostSimple(id, pes, HOST_MIPS, 10000, 100000, 100000);
+        return host.setVmScheduler(new VmSchedulerSpaceShared());
+    }
+
+    @Test
+    void findHostForVmSelectsTheSameHostAsWhenTheIndexIsDisabled() {
+        final var simple = createPolicy(new VmAllocationPolicySimple(), 2, 6, 4, 6, 1);
+        final var bestFit = createPolicy(new VmAllocationPolicyBestFit(), 2, 6, 4, 6, 1);
+        final Vm vm = VmTestUtil.createVm(0, HOST_MIPS, 2);
+
+        final Host simpleHost = simple.findHostForVm(vm).orElseThrow();
+        final Host bestFitHost = bestFit.findHostForVm(vm).orElseThrow();
+        simple.enableHostCapacityIndex();
+        bestFit.enableHostCapacityIndex();
+
+        assertEquals(simpleHost, simple.findHostForVm(vm).orElseThrow());
+        assertEquals(bestFitHost, bestFit.findHostForVm(vm).orElseThrow());
+        assertEquals(1, simpleHost.getId());
+        assertEquals(0, bestFitHost.getId());
+    }
+
+    @Test
+    void findHostForVmAfterVmIsCreatedConsidersTheNewNumberOfFreePes() {
+        final var policy = createPolicy(new VmAllocationPolicyBestFit(), 4, 6);
+        policy.enableHostCapacityIndex();
+        final Vm vm0 = VmTestUtil.createVm(0, HOST_MIPS, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, HOST_MIPS, 3);
+
+        assertTrue(policy.allocateHostForVm(vm0).fully());
+        assertEquals(0, vm0.getHost().getId());
+
+        //The first Host now has just 2 free PEs
+        assertEquals(1, policy.findHostForVm(vm1).orElseThrow().getId());
+    }
+
+    @Test
+    void findHostForVmWhenNoHostHasEnoughFreePesReturnsEmpty() {
+        final var policy = createPolicy(new VmAllocationPolicySimple(), 2, 4);
+        policy.enableHostCapacityIndex();
+        assertTrue(policy.findHostForVm(VmTestUtil.createVm(0, HOST_MIPS, 6)).isEmpty());
+    }
+
+    @Test
+    void findHostForVmAfterReplacingAHostConsidersTheNewHostList() {
+        final var policy = new VmAllocationPolicySimple();
+        final var hosts = new ArrayList<Host>(List.of(createHost(0, 2), createHost(1, 4)));
+        final var datacenter = new DatacenterSimple(Simulation.NULL, hosts, policy);
+        policy.enableHostCapacityIndex();
+        final Vm vm = VmTestUtil.createVm(0, HOST_MIPS, 2);
+        assertEquals(1, policy.findHostForVm(vm).orElseThrow().getId());
+
+        //The number of Hosts doesn't change, but the index must be rebuilt
+        datacenter.removeHost(hosts.get(1));
+        datacenter.addHost(createHost(2, 6));
+        assertEquals(2, policy.findHostForVm(vm).orElseThrow().getId());
+    }
+}
@@ -0,0 +1,62 @@
+package org.cloudsimplus.allocationpolicies;
+
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimpleTest;
+import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class VmAllocationPolicyBestFitTest {
+    private static final int HOST_MIPS = 1000;
+
+    private static VmAllocationPolicyBestFit createPolicy() {
+        final List<Host> hosts = List.of(createHost(0), createHost(1));
+        final var policy = new VmAllocationPolicyBestFit();
+        policy.setDatacenter(new DatacenterSimple(Simulation.NULL, hosts));
+        return policy;
+    }
+
+    private static Host createHost(final int id) {
+        return HostSimpleTest.createHostSimple(id, 3, HOST_MIPS, 10000, 100000, 100000)
+                             .setVmScheduler(new VmSchedulerSpaceShared());
+    }
+
+    /**
+     * Creates VMs with 1, 1, 2 and 2 PEs, that fit into two Hosts with 3 PEs
+     * just if the larger VMs are placed first.
+     */
+    private static List<Vm> createVms() {
+        return List.of(
+            VmTestUtil.createVm(0, HOST_MIPS, 1), VmTestUtil.createVm(1, HOST_MIPS, 1),
+            VmTestUtil.createVm(2, HOST_MIPS, 2), VmTestUtil.createVm(3, HOST_MIPS, 2));
+    }
+
+    @Test
+    void allocateHostForVmListInSubmissionOrder() {
+        final var suitabilities = createPolicy().allocateHostForVm(createVms());
+        assertEquals(3, suitabilities.stream().filter(HostSuitability::fully).count());
+    }
+
+    @Test
+    void allocateHostForVmListInDecreasingSizeOrderPlacesAllVms() {
+        final var policy = createPolicy();
+        policy.setBatchVmComparator(VmAllocationPolicyAbstract.DECREASING_VM_SIZE);
+        final var vmList = createVms();
+
+        final var suitabilities = policy.allocateHostForVm(vmList);
+        assertTrue(suitabilities.stream().allMatch(HostSuitability::fully));
+        assertEquals(List.of(2L, 3L, 0L, 1L), suitabilities.stream().map(suitability -> suitability.getVm().getId()).toList());
+        vmList.forEach(vm -> assertEquals(0, vm.getHost().getFreePesNumber()));
+    }
+}
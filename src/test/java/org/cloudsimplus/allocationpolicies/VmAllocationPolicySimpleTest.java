@@ -82,4 +82,27 @@ public class VmAllocationPolicySimpleTest {
         final Vm vm = VmTestUtil.createVm(0, 1000, 10);
         assertFalse(policy.allocateHostForVm(vm).fully());
     }
+
+    @Test
+    public void findHostForVmWhenParallelSearchIsEnabledAndHostsAreTiedSelectsTheSameHostAsSequentialSearch() {
+        final var tiedPolicy = createVmAllocationPolicy(2, 6, 6, 6, 4, 6);
+        final Vm vm = VmTestUtil.createVm(0, 1000, 2);
+        final Host firstTiedHost = tiedPolicy.getHostList().get(1);
+
+        tiedPolicy.setHostCountForParallelSearch(Integer.MAX_VALUE);
+        assertFalse(tiedPolicy.isParallelHostSearchEnabled());
+        assertEquals(firstTiedHost, tiedPolicy.findHostForVm(vm).orElseThrow());
+
+        tiedPolicy.setHostCountForParallelSearch(1);
+        assertTrue(tiedPolicy.isParallelHostSearchEnabled());
+        assertEquals(firstTiedHost, tiedPolicy.findHostForVm(vm).orElseThrow());
+    }
+
+    @Test
+    public void findFirstHostIndexWhenParallelSearchIsEnabledWrapsAroundTheHostList() {
+        policy.setHostCountForParallelSearch(1);
+        assertEquals(3, policy.findFirstHostIndex(3, host -> host.getPesNumber() > 4));
+        assertEquals(0, policy.findFirstHostIndex(3, host -> host.getPesNumber() == 4));
+        assertEquals(-1, policy.findFirstHostIndex(2, host -> host.getPesNumber() > 6));
+    }
 }
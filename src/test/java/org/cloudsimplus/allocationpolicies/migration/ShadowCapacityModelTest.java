@@ -0,0 +1,92 @@
+package org.cloudsimplus.allocationpolicies.migration;
+
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimpleTest;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class ShadowCapacityModelTest {
+    private static final int HOST_PES = 4;
+    private static final int HOST_MIPS = 1000;
+
+    private ShadowCapacityModel model;
+    private Host host;
+
+    @BeforeEach
+    void setUp() {
+        model = new ShadowCapacityModel();
+        host = HostSimpleTest.createHostSimple(0, HOST_PES, HOST_MIPS, 10000, 100000, 100000);
+        new DatacenterSimple(Simulation.NULL, List.of(host));
+    }
+
+    @Test
+    void allocateBooksCapacityWithoutChangingTheHost() {
+        final Vm vm0 = VmTestUtil.createVm(0, HOST_MIPS, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, HOST_MIPS, 2);
+        final Vm vm2 = VmTestUtil.createVm(2, HOST_MIPS, 2);
+
+        model.begin();
+        model.allocate(host, vm0);
+        assertTrue(model.isSuitableForVm(host, vm1));
+        model.allocate(host, vm1);
+        assertFalse(model.isSuitableForVm(host, vm2));
+        assertFalse(model.isSuitableForVm(host, vm1), "A VM cannot be placed twice into the same Host");
+
+        assertTrue(host.getVmList().isEmpty());
+        assertTrue(host.isSuitableForVm(vm2));
+        model.end();
+        assertTrue(model.isSuitableForVm(host, vm2));
+    }
+
+    @Test
+    void deallocatePlacedVmReleasesCapacity() {
+        final Vm vm0 = VmTestUtil.createVm(0, HOST_MIPS, 4);
+        final Vm vm1 = VmTestUtil.createVm(1, HOST_MIPS, 2);
+
+        model.begin();
+        model.allocate(host, vm0);
+        assertFalse(model.isSuitableForVm(host, vm1));
+        model.deallocate(host, vm0);
+        assertTrue(model.isSuitableForVm(host, vm1));
+        assertEquals(0, model.getCpuMipsRequested(host));
+        model.end();
+    }
+
+    @Test
+    void deallocateCreatedVmReducesLoadAndExcludesItFromMigratableVms() {
+        final Vm vm0 = VmTestUtil.createVm(0, HOST_MIPS, 2);
+        final Vm vm1 = VmTestUtil.createVm(1, HOST_MIPS, 1);
+        assertTrue(host.createVm(vm0).fully());
+
+        model.begin();
+        final double requestedMips = model.getCpuMipsRequested(host);
+        assertEquals(List.of(vm0), model.getMigratableVms(host));
+
+        model.deallocate(host, vm0);
+        assertTrue(model.getMigratableVms(host).isEmpty());
+        assertEquals(requestedMips - vm0.getTotalCpuMipsRequested(), model.getCpuMipsRequested(host));
+        assertFalse(model.isSuitableForVm(host, vm1), "A Host with VMs migrating out cannot receive other VMs");
+        assertEquals(List.of(vm0), host.getVmList());
+
+        model.end();
+        assertEquals(List.of(vm0), model.getMigratableVms(host));
+        assertEquals(requestedMips, model.getCpuMipsRequested(host));
+    }
+
+    @Test
+    void changingCapacityWhenNotPlanning() {
+        final Vm vm = VmTestUtil.createVm(0, HOST_MIPS, 1);
+        assertThrows(IllegalStateException.class, () -> model.allocate(host, vm));
+    }
+}
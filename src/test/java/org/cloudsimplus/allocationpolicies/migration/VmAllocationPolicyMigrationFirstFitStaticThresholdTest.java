@@ -0,0 +1,58 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.allocationpolicies.migration;
+
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimpleTest;
+import org.cloudsimplus.selectionpolicies.VmSelectionPolicyMinimumUtilization;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class VmAllocationPolicyMigrationFirstFitStaticThresholdTest {
+    private static final int HOST_MIPS = 1000;
+
+    @Test
+    void hostOverloadedByTheVmIsNotSelected() {
+        final Host smallHost = HostSimpleTest.createHostSimple(0, 2, HOST_MIPS, 10000, 100000, 100000);
+        final Host largeHost = HostSimpleTest.createHostSimple(1, 4, HOST_MIPS, 10000, 100000, 100000);
+        final var policy = new VmAllocationPolicyMigrationFirstFitStaticThreshold(new VmSelectionPolicyMinimumUtilization());
+        new DatacenterSimple(Simulation.NULL, List.of(smallHost, largeHost), policy);
+
+        //The VM fits into the small Host, but it would use the entire Host capacity, above the threshold
+        final Vm vm = VmTestUtil.createVm(0, HOST_MIPS, 2);
+        assertTrue(smallHost.isSuitableForVm(vm));
+        assertEquals(Optional.of(largeHost), policy.findHostForVm(vm));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core;
+
+import org.cloudsimplus.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class CloudSimTest {
+    private static final int FIRST_TAG = 1_000_001;
+    private static final int SECOND_TAG = 1_000_002;
+
+    @Test
+    void testCancelSameTimeEventWhileProcessingAnotherOne() {
+        final var simulation = new CloudSimPlus();
+        final var entity = new EventRecorderEntity(simulation);
+        final var canceled = new ArrayList<SimEvent>();
+        simulation.addOnEventProcessingListener(evt -> {
+            if (evt.getTag() != FIRST_TAG) {
+                return;
+            }
+
+            assertTrue(simulation.isThereAnyFutureEvt(e -> e.getTag() == SECOND_TAG));
+            assertEquals(1, simulation.getNumberOfFutureEvents(e -> e.getTag() == SECOND_TAG));
+            canceled.add(simulation.cancel(entity, e -> e.getTag() == SECOND_TAG));
+            assertFalse(simulation.isThereAnyFutureEvt(e -> e.getTag() == SECOND_TAG));
+        });
+
+        simulation.start();
+
+        assertEquals(1, canceled.size());
+        assertEquals(SECOND_TAG, canceled.get(0).getTag());
+        assertEquals(List.of(FIRST_TAG), entity.receivedTags);
+    }
+
+    /**
+     * An entity that sends two events to itself at the same time and records which of them were received.
+     */
+    private static final class EventRecorderEntity extends CloudSimEntity {
+        private final List<Integer> receivedTags = new ArrayList<>();
+
+        private EventRecorderEntity(final Simulation simulation) {
+            super(simulation);
+        }
+
+        @Override
+        protected void startInternal() {
+            schedule(1, FIRST_TAG);
+            schedule(1, SECOND_TAG);
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() == FIRST_TAG || evt.getTag() == SECOND_TAG) {
+                receivedTags.add(evt.getTag());
+            }
+        }
+    }
+}
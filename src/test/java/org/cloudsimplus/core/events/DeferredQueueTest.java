@@ -0,0 +1,94 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class DeferredQueueTest {
+    private final CloudSimPlus simulation = new CloudSimPlus();
+    private final SimEntity entity1 = simulation.getCis();
+    private final SimEntity entity2 = new DatacenterBrokerSimple(simulation);
+
+    @Test
+    void testEventsAreOrderedByTimeForEachDestination() {
+        final var queue = new DeferredQueue();
+        final var evt1 = newEvent(entity1, 2, 1);
+        final var evt2 = newEvent(entity1, 1, 2);
+        final var evt3 = newEvent(entity1, 2, 3);
+        final var evt4 = newEvent(entity2, 0, 4);
+        List.of(evt1, evt2, evt3, evt4).forEach(queue::addEvent);
+
+        assertEquals(4, queue.size());
+        assertEquals(List.of(evt2, evt1, evt3), queue.stream(entity1).toList());
+        assertEquals(List.of(evt4), queue.stream(entity2).toList());
+        assertSame(evt4, queue.first());
+    }
+
+    @Test
+    void testRemoveFirst() {
+        final var queue = new DeferredQueue();
+        final var evt1 = newEvent(entity1, 1, 1);
+        final var evt2 = newEvent(entity1, 2, 2);
+        final var evt3 = newEvent(entity2, 1, 2);
+        List.of(evt1, evt2, evt3).forEach(queue::addEvent);
+
+        assertSame(evt2, queue.removeFirst(entity1, new PredicateType(2)));
+        assertSame(SimEvent.NULL, queue.removeFirst(entity1, new PredicateType(2)));
+        assertEquals(2, queue.size());
+        assertEquals(List.of(evt1), queue.stream(entity1).toList());
+    }
+
+    @Test
+    void testEmptyDestinationsAreRemoved() {
+        final var queue = new DeferredQueue();
+        final var evt1 = newEvent(entity1, 1, 1);
+        final var evt2 = newEvent(entity1, 2, 2);
+        final var evt3 = newEvent(entity2, 1, 3);
+        List.of(evt1, evt2, evt3).forEach(queue::addEvent);
+        assertEquals(2, queue.destinations());
+
+        assertTrue(queue.remove(evt3));
+        assertEquals(1, queue.destinations());
+
+        assertSame(evt1, queue.removeFirst(entity1, new PredicateType(1)));
+        assertEquals(1, queue.destinations());
+        assertTrue(queue.removeIf(evt -> evt.getTag() == 2));
+        assertEquals(0, queue.destinations());
+        assertTrue(queue.isEmpty());
+    }
+
+    private SimEvent newEvent(final SimEntity dest, final double time, final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, time, dest, dest, tag, null);
+    }
+}
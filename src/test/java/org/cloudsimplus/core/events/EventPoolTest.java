@@ -0,0 +1,89 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class EventPoolTest {
+    private final CloudSimPlus simulation = new CloudSimPlus();
+    private final SimEntity entity = simulation.getCis();
+
+    @Test
+    void testReleasedEventIsReused() {
+        final var pool = new EventPool(simulation).setEnabled(true);
+        final var evt1 = pool.acquire(1, entity, entity, 1, "data");
+        assertTrue(pool.release(evt1));
+        assertNull(evt1.getData());
+
+        final var evt2 = pool.acquire(2, entity, entity, 2, null);
+        assertSame(evt1, evt2);
+        assertEquals(2, evt2.getTime());
+        assertEquals(2, evt2.getTag());
+        assertEquals(1, pool.getCreatedEvents());
+        assertEquals(1, pool.getReusedEvents());
+        assertEquals(0.5, pool.getReuseRatio());
+    }
+
+    @Test
+    void testPinnedAndRegularEventsAreNotReleased() {
+        final var pool = new EventPool(simulation).setEnabled(true);
+        final var pinned = pool.acquire(1, entity, entity, 1, null);
+        pool.pin(pinned);
+        assertFalse(pool.release(pinned));
+        assertFalse(pool.release(new CloudSimEvent(1, entity, entity, 1, null)));
+    }
+
+    @Test
+    void testEventSentTwiceIsPinned() {
+        final var pool = new EventPool(simulation).setEnabled(true);
+        final var evt = pool.acquire(1, entity, entity, 1, null);
+        pool.checkSend(evt);
+        pool.checkSend(evt);
+        assertFalse(pool.release(evt));
+        assertEquals(1, pool.getPinnedEvents());
+    }
+
+    @Test
+    void testSendReleasedEvent() {
+        final var pool = new EventPool(simulation).setEnabled(true);
+        final var evt = pool.acquire(1, entity, entity, 1, null);
+        pool.release(evt);
+        assertThrows(IllegalStateException.class, () -> pool.checkSend(evt));
+    }
+
+    @Test
+    void testDisabledPoolCreatesRegularEvents() {
+        final var pool = new EventPool(simulation);
+        final var evt = pool.acquire(1, entity, entity, 1, null);
+        assertFalse(pool.release(evt));
+        assertEquals(0, pool.getCreatedEvents());
+    }
+}
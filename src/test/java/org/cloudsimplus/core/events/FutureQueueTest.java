@@ -0,0 +1,190 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that all {@link FutureQueueType}s order events exactly
+ * as the {@link TreeSet} used as reference.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+class FutureQueueTest {
+    private static final long SEED = 12345;
+    private static final int OPERATIONS = 20_000;
+
+    private final SimEntity entity = new CloudSimPlus().getCis();
+
+    @Test
+    void testAllTypesDequeueEventsInTheSameOrderOfATreeSet() {
+        for (final var type : FutureQueueType.values()) {
+            assertSameOrderAsTreeSet(type);
+        }
+    }
+
+    @Test
+    void testAllTypesDequeueSameTimeEventsAddedOutOfOrder() {
+        final var events = new ArrayList<SimEvent>();
+        for (int i = 0; i < 200; i++) {
+            events.add(newEvent(i % 2, 1));
+        }
+
+        // Adds the second half first (as when events are added back) and then shuffles the first half
+        final var shuffled = new ArrayList<>(events.subList(100, 200));
+        final var firstHalf = new ArrayList<>(events.subList(0, 100));
+        Collections.shuffle(firstHalf, new Random(SEED));
+        shuffled.addAll(firstHalf);
+        for (final var type : FutureQueueType.values()) {
+            final var queue = new FutureQueue(type);
+            shuffled.forEach(queue::addEvent);
+            final var expected = new TreeSet<>(events);
+            while (!expected.isEmpty()) {
+                assertSame(expected.pollFirst(), queue.pollFirst(), type.name());
+            }
+        }
+    }
+
+    @Test
+    void testAllTypesRemoveEvents() {
+        for (final var type : FutureQueueType.values()) {
+            final var queue = new FutureQueue(type);
+            final var events = List.of(newEvent(1, 1), newEvent(2, 1), newEvent(3, 1), newEvent(3, 2));
+            events.forEach(queue::addEvent);
+
+            assertTrue(queue.remove(events.get(1)), type.name());
+            assertFalse(queue.remove(events.get(1)), type.name());
+            assertTrue(queue.removeIf(evt -> evt.getTag() == 2), type.name());
+            assertEquals(2, queue.size(), type.name());
+            assertEquals(List.of(events.get(0), events.get(2)), queue.stream().toList(), type.name());
+        }
+    }
+
+    @Test
+    void testAddEventFirst() {
+        for (final var type : FutureQueueType.values()) {
+            final var queue = new FutureQueue(type);
+            final var last = newEvent(0, 1);
+            final var first = newEvent(0, 1);
+            queue.addEvent(last);
+            queue.addEventFirst(first);
+
+            assertSame(first, queue.pollFirst(), type.name());
+            assertSame(last, queue.pollFirst(), type.name());
+            assertTrue(queue.isEmpty(), type.name());
+        }
+    }
+
+    @Test
+    void testPollFirstEvents() {
+        for (final var type : FutureQueueType.values()) {
+            final var queue = new FutureQueue(type);
+            final var events = List.of(newEvent(1, 2), newEvent(1, 1), newEvent(2, 0), newEvent(1, 1));
+            events.forEach(queue::addEvent);
+
+            final var polled = new ArrayList<SimEvent>();
+            assertEquals(3, queue.pollFirstEvents(polled), type.name());
+            assertEquals(List.of(events.get(1), events.get(3), events.get(0)), polled, type.name());
+            assertSame(events.get(2), queue.first(), type.name());
+            assertEquals(1, queue.size(), type.name());
+        }
+    }
+
+    @Test
+    void testStreamBySource() {
+        final var otherEntity = new DatacenterBrokerSimple((CloudSimPlus) entity.getSimulation());
+        final var queue = new FutureQueue();
+        final var evt1 = newEvent(1, 1);
+        final var evt2 = newEvent(2, 2);
+        final var evt3 = new CloudSimEvent(SimEvent.Type.SEND, 1, otherEntity, entity, 1, null);
+        List.of(evt1, evt2, evt3).forEach(queue::addEvent);
+
+        assertEquals(Set.of(evt1, evt2), queue.streamBySource(entity).collect(toSet()));
+        assertEquals(Set.of(evt2), queue.streamBySource(entity, 2).collect(toSet()));
+        assertEquals(Set.of(evt3), queue.streamBySource(otherEntity).collect(toSet()));
+
+        queue.pollFirst();
+        queue.remove(evt3);
+        assertEquals(Set.of(evt2), queue.streamBySource(entity).collect(toSet()));
+        assertEquals(0, queue.streamBySource(otherEntity).count());
+    }
+
+    @Test
+    void testFirstOnEmptyQueue() {
+        for (final var type : FutureQueueType.values()) {
+            final var queue = new FutureQueue(type);
+            assertThrows(NoSuchElementException.class, queue::first, type.name());
+            assertThrows(NoSuchElementException.class, queue::pollFirst, type.name());
+        }
+    }
+
+    /**
+     * Randomly interleaves additions, removals and dequeues
+     * in a queue of the given type and in a reference TreeSet,
+     * checking both return the same events.
+     * Event times are always equal or greater than the time of the last
+     * dequeued event, as it happens in a simulation.
+     */
+    private void assertSameOrderAsTreeSet(final FutureQueueType type) {
+        final var random = new Random(SEED);
+        final var queue = new FutureQueue(type);
+        final var expected = new TreeSet<SimEvent>();
+        double clock = 0;
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            final double op = random.nextDouble();
+            if (op < 0.55 || expected.isEmpty()) {
+                // Uses few distinct times and tags to have lots of ties
+                final double delay = random.nextInt(4) == 0 ? 0 : random.nextInt(100) * random.nextDouble();
+                final var evt = newEvent(clock + delay, random.nextInt(5) - 1);
+                queue.addEvent(evt);
+                expected.add(evt);
+            } else if (op < 0.6) {
+                final var evt = expected.stream().skip(random.nextInt(expected.size())).findFirst().orElseThrow();
+                assertEquals(expected.remove(evt), queue.remove(evt), type.name());
+            } else {
+                assertSame(expected.first(), queue.first(), type.name());
+                final var evt = queue.pollFirst();
+                assertSame(expected.pollFirst(), evt, type.name());
+                clock = evt.getTime();
+            }
+
+            assertEquals(expected.size(), queue.size(), type.name());
+        }
+
+        assertIterableEquals(expected, queue.stream().toList(), type.name());
+    }
+
+    private SimEvent newEvent(final double time, final int tag) {
+        return new CloudSimEvent(SimEvent.Type.SEND, time, entity, entity, tag, null);
+    }
+}
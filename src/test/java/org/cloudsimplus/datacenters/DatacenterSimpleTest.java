@@ -0,0 +1,105 @@
+package org.cloudsimplus.datacenters;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.hosts.HostSimpleTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+class DatacenterSimpleTest {
+    private static final int HOSTS = 6;
+
+    private DatacenterSimple dc;
+    private List<HostSimple> hosts;
+
+    @BeforeEach
+    void setUp() {
+        hosts = new ArrayList<>();
+        for (int i = 0; i < HOSTS; i++) {
+            //Odd Hosts are not activated when the Datacenter starts
+            hosts.add(HostSimpleTest.createHostSimple(-1, 2, i % 2 == 0));
+        }
+
+        dc = new DatacenterSimple(new CloudSimPlus(), new ArrayList<>(hosts));
+    }
+
+    @Test
+    void getActiveHostStream() {
+        assertEquals(List.of(hosts.get(0), hosts.get(2), hosts.get(4)), dc.getActiveHostStream().toList());
+        assertEquals(3, dc.getActiveHostsNumber());
+
+        hosts.get(1).setActive(true);
+        hosts.get(4).setActive(false);
+        assertEquals(List.of(hosts.get(0), hosts.get(1), hosts.get(2)), dc.getActiveHostStream().toList());
+    }
+
+    @Test
+    void getActiveHostStreamAfterAddingAndRemovingHosts() {
+        final var newHost = HostSimpleTest.createHostSimple(-1, 2, true);
+        dc.addHost(newHost);
+        dc.removeHost(hosts.get(0));
+        assertEquals(List.of(hosts.get(2), hosts.get(4), newHost), dc.getActiveHostStream().toList());
+
+        hosts.get(5).setActive(true);
+        assertEquals(List.of(hosts.get(2), hosts.get(4), hosts.get(5), newHost), dc.getActiveHostStream().toList());
+    }
+
+    @Test
+    void getActiveHostStreamIgnoresFailedHosts() {
+        hosts.get(2).setFailed(true);
+        assertEquals(List.of(hosts.get(0), hosts.get(4)), dc.getActiveHostStream().toList());
+    }
+
+    @Test
+    void getHostById() {
+        hosts.forEach(host -> assertSame(host, dc.getHostById(host.getId())));
+        assertSame(Host.NULL, dc.getHostById(HOSTS));
+
+        final var newHost = HostSimpleTest.createHostSimple(-1, 2, true);
+        dc.addHost(newHost);
+        assertEquals(HOSTS, newHost.getId());
+        assertSame(newHost, dc.getHostById(HOSTS));
+
+        dc.removeHost(hosts.get(0));
+        assertSame(Host.NULL, dc.getHostById(0));
+        assertSame(hosts.get(1), dc.getHostById(1));
+    }
+
+    @Test
+    void getHostByIdWhenHostsHaveTheSameId() {
+        final var host1 = HostSimpleTest.createHostSimple(HOSTS*2, 2, true);
+        final var host2 = HostSimpleTest.createHostSimple(HOSTS*2, 2, true);
+        dc.addHost(host1);
+        dc.addHost(host2);
+        assertSame(host1, dc.getHostById(HOSTS*2));
+
+        dc.removeHost(host1);
+        assertSame(host2, dc.getHostById(HOSTS*2));
+    }
+
+    @Test
+    void isProcessingUpdateRequiredForIdleHost() {
+        final HostSimple host = hosts.get(0);
+        assertFalse(host.isProcessingUpdateRequired());
+
+        host.setStateHistoryEnabled(true);
+        assertTrue(host.isProcessingUpdateRequired());
+
+        host.setStateHistoryEnabled(false);
+        host.setIdleShutdownDeadline(1);
+        assertTrue(host.isProcessingUpdateRequired());
+
+        final HostSimple inactiveHost = hosts.get(1);
+        inactiveHost.setIdleShutdownDeadline(1);
+        assertFalse(inactiveHost.isProcessingUpdateRequired(), "Inactive Hosts cannot be shutdown");
+    }
+}
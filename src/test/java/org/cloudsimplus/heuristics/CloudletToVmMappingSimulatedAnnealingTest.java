@@ -0,0 +1,85 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.distributions.UniformDistr;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmTestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class CloudletToVmMappingSimulatedAnnealingTest {
+    private static final long SEED = 7;
+
+    private final List<Vm> vmList =
+        IntStream.range(0, 40).<Vm>mapToObj(i -> VmTestUtil.createVm(i, i % 4 + 1)).toList();
+
+    private final List<Cloudlet> cloudletList =
+        IntStream.range(0, 50).<Cloudlet>mapToObj(i -> CloudletTestUtil.createCloudlet(i, 1000, i % 3 + 1)).toList();
+
+    @Test
+    void testSolveWithMultipleChainsIsReproducible() {
+        final var solution1 = createHeuristic(4).solve();
+        final var solution2 = createHeuristic(4).solve();
+        assertEquals(solution1.getResult(), solution2.getResult());
+        assertEquals(solution1.getCost(), solution2.getCost());
+    }
+
+    @Test
+    void testSolveWithMultipleChainsDoesNotIncreaseInitialCost() {
+        final var heuristic = createHeuristic(4);
+        final double initialCost = heuristic.getInitialSolution().getCost();
+        final var solution = heuristic.solve();
+        assertEquals(cloudletList.size(), solution.getResult().size());
+        assertTrue(solution.getCost() <= initialCost);
+    }
+
+    @Test
+    void testSetSearchChainsWhenInvalid() {
+        final var heuristic = createHeuristic(1);
+        assertThrows(IllegalArgumentException.class, () -> heuristic.setSearchChains(0));
+        assertThrows(IllegalArgumentException.class, () -> heuristic.setChainsExchangeInterval(0));
+    }
+
+    private CloudletToVmMappingSimulatedAnnealing createHeuristic(final int searchChains) {
+        final var heuristic = new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, SEED));
+        heuristic.setColdTemperature(0.0001);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setSearchesByIteration(10);
+        heuristic.setSearchChains(searchChains);
+        heuristic.setVmList(vmList);
+        heuristic.setCloudletList(cloudletList);
+        return heuristic;
+    }
+}
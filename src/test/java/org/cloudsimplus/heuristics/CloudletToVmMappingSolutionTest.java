@@ -25,12 +25,15 @@ package org.cloudsimplus.heuristics;
 
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.distributions.UniformDistr;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmTestUtil;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static java.util.AbstractMap.SimpleEntry;
 import static org.junit.jupiter.api.Assertions.*;
@@ -175,4 +178,23 @@ public class CloudletToVmMappingSolutionTest {
                 swappedVmsEntries.get(1).getValue().getId());
         assertEquals(swappedVmsEntries, originalEntries, msg);
     }
+
+    @Test
+    public void testIncrementalCostAfterSwappingVmsOfRandomEntries() {
+        final List<Vm> vms = IntStream.range(0, 5).<Vm>mapToObj(i -> VmTestUtil.createVm(i, i + 1)).toList();
+        final List<Cloudlet> cloudlets =
+            IntStream.range(0, 20).<Cloudlet>mapToObj(i -> CloudletTestUtil.createCloudlet(i, 1000, i % 3 + 1)).toList();
+
+        final var heuristic = new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(0, 1, 1));
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+
+        var solution = heuristic.getInitialSolution();
+        for (int i = 0; i < 100; i++) {
+            solution = heuristic.createNeighbor(solution);
+            final double incrementalCost = solution.getCost();
+            final var clone = new CloudletToVmMappingSolution(solution, -1);
+            assertEquals(clone.getCost(true), incrementalCost, "Incremental cost differs from the recomputed one");
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import ch.qos.logback.classic.Level;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.util.Log;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * An integration test to check if submitting Cloudlets in batch
+ * produces results close to the ones got submitting Cloudlets one-by-one,
+ * while sending fewer events.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ * @see org.cloudsimplus.brokers.DatacenterBroker#setBatchCloudletSubmission(boolean)
+ */
+class BatchCloudletSubmissionTest {
+    private static final int HOSTS = 20;
+    private static final int HOST_PES = 4;
+    private static final int VMS = HOSTS * 2;
+    private static final int CLOUDLETS = VMS * 3;
+
+    /**
+     * The maximum difference accepted between Cloudlets finish times
+     * when they are submitted in batch or one-by-one.
+     */
+    private static final double MAX_FINISH_TIME_DIFF = 0.5;
+
+    @BeforeAll
+    static void beforeAll(){
+        Log.setLevel(Level.OFF);
+    }
+
+    @Test
+    void batchSubmissionResultsAreCloseToSingleSubmissionOnes() {
+        final var single = new SimulationResult(false);
+        final var batch = new SimulationResult(true);
+
+        assertEquals(CLOUDLETS, single.cloudlets.stream().filter(Cloudlet::isFinished).count());
+        assertEquals(CLOUDLETS, batch.cloudlets.stream().filter(Cloudlet::isFinished).count());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet singleCloudlet = single.cloudlets.get(i);
+            final Cloudlet batchCloudlet = batch.cloudlets.get(i);
+            assertEquals(singleCloudlet.getVm().getId(), batchCloudlet.getVm().getId());
+            assertEquals(singleCloudlet.getStartTime(), batchCloudlet.getStartTime(), MAX_FINISH_TIME_DIFF);
+            assertEquals(singleCloudlet.getFinishTime(), batchCloudlet.getFinishTime(), MAX_FINISH_TIME_DIFF);
+        }
+
+        assertEquals(CLOUDLETS, single.submitEvents);
+        //All Cloudlets are submitted at the same time to the same Datacenter
+        assertEquals(1, batch.submitEvents);
+    }
+
+    /**
+     * Runs a simulation and keeps the submitted Cloudlets
+     * and the number of Cloudlets submission events sent.
+     */
+    private final class SimulationResult {
+        private final List<Cloudlet> cloudlets;
+        private int submitEvents;
+
+        SimulationResult(final boolean batch) {
+            final var simulation = new CloudSimPlus();
+            final var dc = new DatacenterSimple(simulation, createHosts());
+            dc.setSchedulingInterval(1);
+
+            final var broker = new DatacenterBrokerSimple(simulation);
+            broker.setBatchCloudletSubmission(batch);
+            final List<Vm> vms = range(0, VMS).mapToObj(i -> (Vm)new VmSimple(1000, HOST_PES/2)).toList();
+            cloudlets = range(0, CLOUDLETS).mapToObj(BatchCloudletSubmissionTest.this::createCloudlet).toList();
+            broker.submitVmList(vms);
+            broker.submitCloudletList(cloudlets);
+
+            simulation.addOnEventProcessingListener(evt -> {
+                if (evt.getTag() == CloudSimTag.CLOUDLET_SUBMIT) {
+                    submitEvents++;
+                }
+            });
+            simulation.start();
+        }
+    }
+
+    private Cloudlet createCloudlet(final int i) {
+        final var utilization = new UtilizationModelDynamic(0.1 + i % 10 / 10.0);
+        return new CloudletSimple(1000 + i * 37L % 5000, 1)
+                    .setUtilizationModelCpu(utilization)
+                    .setSizes(1024);
+    }
+
+    private List<Host> createHosts() {
+        return range(0, HOSTS).mapToObj(i -> {
+            final List<Pe> peList = range(0, HOST_PES).mapToObj(j -> (Pe)new PeSimple(1000)).toList();
+            return (Host)new HostSimple(100_000, 100_000, 1_000_000, peList);
+        }).toList();
+    }
+}
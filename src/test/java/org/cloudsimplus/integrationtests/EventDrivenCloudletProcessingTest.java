@@ -0,0 +1,153 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import ch.qos.logback.classic.Level;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerAbstract;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerCompletelyFair;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudsimplus.util.Log;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * An integration test to check if the event-driven processing of Cloudlets
+ * produces results close to the regular processing.
+ * @author Manoel Campos da Silva Filho
+ * @see CloudletSchedulerAbstract#setEventDrivenProcessingEnabled(boolean)
+ */
+class EventDrivenCloudletProcessingTest {
+    private static final int HOSTS = 10;
+    private static final int HOST_PES = 16;
+    private static final int VMS = HOSTS * 2;
+    private static final int VM_PES = HOST_PES / 2;
+    private static final int CLOUDLETS = VMS * 20;
+
+    /**
+     * Max difference between the time the last Cloudlet finishes in both modes (in seconds).
+     * Results may slightly differ since the executed length is rounded down
+     * every time the processing of a Cloudlet is updated.
+     * Such a difference changes the order waiting Cloudlets start, so the finish time of each Cloudlet isn't compared.
+     */
+    private static final double MAX_FINISH_TIME_DIFF = 0.5;
+
+    @BeforeAll
+    static void beforeAll(){
+        Log.setLevel(Level.OFF);
+    }
+
+    @Test
+    void timeSharedResultsAreCloseToRegularProcessing() {
+        assertResultsAreClose(CloudletSchedulerTimeShared::new);
+    }
+
+    @Test
+    void spaceSharedResultsAreCloseToRegularProcessing() {
+        assertResultsAreClose(CloudletSchedulerSpaceShared::new);
+    }
+
+    @Test
+    void completelyFairSchedulerKeepsEventDrivenProcessingDisabled() {
+        final var scheduler = new CloudletSchedulerCompletelyFair();
+        assertFalse(scheduler.setEventDrivenProcessingEnabled(true).isEventDrivenProcessingEnabled());
+        assertFalse(scheduler.setEventDrivenProcessingEnabled(false).isEventDrivenProcessingEnabled());
+    }
+
+    private void assertResultsAreClose(final Supplier<CloudletSchedulerAbstract> schedulerSupplier) {
+        final var regular = runSimulation(schedulerSupplier, false);
+        final var eventDriven = runSimulation(schedulerSupplier, true);
+
+        assertEquals(CLOUDLETS, regular.size());
+        assertEquals(CLOUDLETS, eventDriven.size());
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet expected = regular.get(i);
+            final Cloudlet actual = eventDriven.get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getVm().getId(), actual.getVm().getId());
+            assertEquals(expected.getFinishedLengthSoFar(), actual.getFinishedLengthSoFar());
+        }
+
+        assertEquals(lastFinishTime(regular), lastFinishTime(eventDriven), MAX_FINISH_TIME_DIFF);
+    }
+
+    private static double lastFinishTime(final List<Cloudlet> cloudlets) {
+        return cloudlets.stream().mapToDouble(Cloudlet::getFinishTime).max().orElse(0);
+    }
+
+    /**
+     * Runs a simulation and gets the finished Cloudlets sorted by ID.
+     * @param schedulerSupplier creates the CloudletScheduler for each VM
+     * @param eventDriven true to enable the event-driven processing of Cloudlets, false otherwise
+     * @return the list of finished Cloudlets
+     */
+    private List<Cloudlet> runSimulation(final Supplier<CloudletSchedulerAbstract> schedulerSupplier, final boolean eventDriven) {
+        final var simulation = new CloudSimPlus();
+        final var dc = new DatacenterSimple(simulation, createHosts());
+        final var broker = new DatacenterBrokerSimple(simulation);
+
+        final List<Vm> vms = range(0, VMS).mapToObj(i -> createVm(schedulerSupplier.get(), eventDriven)).toList();
+        final List<Cloudlet> cloudlets = range(0, CLOUDLETS).mapToObj(this::createCloudlet).toList();
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        return broker.getCloudletFinishedList().stream().sorted(Comparator.comparingLong(Cloudlet::getId)).toList();
+    }
+
+    private Vm createVm(final CloudletSchedulerAbstract scheduler, final boolean eventDriven) {
+        scheduler.setEventDrivenProcessingEnabled(eventDriven);
+        return new VmSimple(1000, VM_PES).setCloudletScheduler(scheduler);
+    }
+
+    private Cloudlet createCloudlet(final int i) {
+        final var cloudlet = new CloudletSimple(1000 + i * 173L % 7000, 1 + i % 3);
+        cloudlet.setSubmissionDelay(i % 11);
+        return cloudlet;
+    }
+
+    private List<Host> createHosts() {
+        return range(0, HOSTS)
+                .mapToObj(i -> (Host)new HostSimple(80000, 100_000, 1_000_000, range(0, HOST_PES).mapToObj(pe -> (Pe)new PeSimple(1000)).toList()))
+                .toList();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import ch.qos.logback.classic.Level;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.util.Log;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An integration test to check if updating Hosts processing in parallel
+ * produces the same results of the sequential processing.
+ * @author Manoel Campos da Silva Filho
+ * @see DatacenterSimple#setHostCountForParallelProcessing(int)
+ */
+class ParallelHostsProcessingTest {
+    private static final int HOSTS = 200;
+    private static final int HOST_PES = 4;
+    private static final int VMS = HOSTS * 2;
+    private static final int CLOUDLETS = VMS * 3;
+
+    @BeforeAll
+    static void beforeAll(){
+        Log.setLevel(Level.OFF);
+    }
+
+    @Test
+    void parallelResultsAreEqualToSequentialOnes() {
+        final var sequential = runSimulation(false);
+        final var parallel = runSimulation(true);
+
+        assertEquals(CLOUDLETS, sequential.size());
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void parallelProcessingIsEnabledJustForTheMinimumHostCount() {
+        final var dc = new DatacenterSimple(new CloudSimPlus(), createHosts());
+        assertFalse(dc.isParallelHostsProcessingEnabled());
+
+        dc.setHostCountForParallelProcessing(HOSTS);
+        assertTrue(dc.isParallelHostsProcessingEnabled());
+
+        dc.setHostCountForParallelProcessing(HOSTS+1);
+        assertFalse(dc.isParallelHostsProcessingEnabled());
+    }
+
+    /**
+     * Runs a simulation and gets a summary of each finished Cloudlet, in the order they finished.
+     * @param parallel true to process Hosts in parallel, false otherwise
+     * @return the list of finished Cloudlets summary
+     */
+    private List<String> runSimulation(final boolean parallel) {
+        final var simulation = new CloudSimPlus();
+        final var dc = new DatacenterSimple(simulation, createHosts());
+        dc.setSchedulingInterval(1);
+        if(parallel) {
+            dc.setHostCountForParallelProcessing(1);
+        }
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final List<Vm> vms = range(0, VMS).mapToObj(i -> (Vm)new VmSimple(1000, HOST_PES/2)).toList();
+        final List<Cloudlet> cloudlets = range(0, CLOUDLETS).mapToObj(this::createCloudlet).toList();
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        return broker.getCloudletFinishedList().stream()
+                     .map(c -> "%d %d %.4f %.4f".formatted(c.getId(), c.getVm().getId(), c.getStartTime(), c.getFinishTime()))
+                     .toList();
+    }
+
+    private Cloudlet createCloudlet(final int i) {
+        final var utilization = new UtilizationModelDynamic(0.1 + i % 10 / 10.0);
+        return new CloudletSimple(1000 + i * 37L % 5000, 1)
+                    .setUtilizationModelCpu(utilization)
+                    .setSizes(1024);
+    }
+
+    private List<Host> createHosts() {
+        return range(0, HOSTS)
+                .mapToObj(i -> (Host)new HostSimple(8000, 100_000, 1_000_000, range(0, HOST_PES).mapToObj(pe -> (Pe)new PeSimple(1000)).toList()))
+                .toList();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import ch.qos.logback.classic.Level;
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.brokers.DatacenterBrokerBestFit;
+import org.cloudsimplus.brokers.DatacenterBrokerFirstFit;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.util.Log;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.IntStream.range;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An integration test to check if the Cloudlet to VM mapping performed by
+ * {@link DatacenterBrokerBestFit} and {@link DatacenterBrokerFirstFit},
+ * which index VMs by their expected number of free PEs,
+ * selects the same VMs as checking one VM after the other.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class VmMappingBrokersTest {
+    private static final int HOST_PES = 8;
+    private static final int VMS = 40;
+    private static final int CLOUDLETS = 60;
+
+    @BeforeAll
+    static void beforeAll(){
+        Log.setLevel(Level.OFF);
+    }
+
+    @Test
+    void bestFitBrokerSelectsTheVmWithTheLowestSuitableNumberOfFreePes() {
+        final long[] freePes = vmPes();
+        final int[] expectedVms = new int[CLOUDLETS];
+        for (int i = 0; i < CLOUDLETS; i++) {
+            int selected = -1;
+            for (int j = 0; j < VMS; j++) {
+                if (freePes[j] >= cloudletPes(i) && (selected < 0 || freePes[j] < freePes[selected])) {
+                    selected = j;
+                }
+            }
+
+            expectedVms[i] = selected;
+            if (selected >= 0) {
+                freePes[selected] -= cloudletPes(i);
+            }
+        }
+
+        assertMapping(expectedVms, DatacenterBrokerBestFit::new);
+    }
+
+    @Test
+    void firstFitBrokerSelectsTheNextVmWithEnoughFreePes() {
+        final long[] freePes = vmPes();
+        final int[] expectedVms = new int[CLOUDLETS];
+        int last = 0;
+        for (int i = 0; i < CLOUDLETS; i++) {
+            expectedVms[i] = -1;
+            for (int tries = 0; tries < VMS; tries++) {
+                final int j = (last + tries) % VMS;
+                if (freePes[j] >= cloudletPes(i)) {
+                    expectedVms[i] = last = j;
+                    freePes[j] -= cloudletPes(i);
+                    break;
+                }
+            }
+        }
+
+        assertMapping(expectedVms, DatacenterBrokerFirstFit::new);
+    }
+
+    /**
+     * Runs a simulation and checks if the Cloudlets mapped when they were first submitted
+     * were placed at the expected VMs.
+     * Cloudlets that couldn't be mapped at that time will be mapped later,
+     * after some Cloudlets finish, therefore they are not checked.
+     *
+     * @param expectedVms the index of the expected VM for each Cloudlet or -1 if it couldn't be mapped
+     * @param brokerFactory a function to create the broker to be tested
+     */
+    private void assertMapping(final int[] expectedVms, final Function<CloudSimPlus, DatacenterBroker> brokerFactory) {
+        final var simulation = new CloudSimPlus();
+        new DatacenterSimple(simulation, createHosts());
+        final var broker = brokerFactory.apply(simulation);
+
+        final long[] vmPes = vmPes();
+        final List<Vm> vms = range(0, VMS).mapToObj(i -> (Vm)new VmSimple(1000, vmPes[i])).toList();
+        final List<Cloudlet> cloudlets =
+            range(0, CLOUDLETS).mapToObj(i -> (Cloudlet)new CloudletSimple(10_000, cloudletPes(i))).toList();
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        int checked = 0;
+        for (int i = 0; i < CLOUDLETS; i++) {
+            if (expectedVms[i] >= 0) {
+                assertEquals(vms.get(expectedVms[i]), cloudlets.get(i).getVm(), "Unexpected VM for Cloudlet " + i);
+                checked++;
+            }
+        }
+
+        assertTrue(checked > CLOUDLETS / 2);
+    }
+
+    private static long[] vmPes() {
+        return range(0, VMS).mapToLong(i -> i * 7 % HOST_PES + 1).toArray();
+    }
+
+    private static long cloudletPes(final int i) {
+        return i * 5 % 4 + 1;
+    }
+
+    private List<Host> createHosts() {
+        return range(0, VMS).mapToObj(i -> {
+            final List<Pe> peList = range(0, HOST_PES).mapToObj(j -> (Pe)new PeSimple(1000)).toList();
+            return (Host)new HostSimple(100_000, 100_000, 1_000_000, peList);
+        }).toList();
+    }
+}
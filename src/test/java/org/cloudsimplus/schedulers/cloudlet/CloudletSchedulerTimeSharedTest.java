@@ -292,4 +292,33 @@ public class CloudletSchedulerTimeSharedTest {
         instance.addCloudletToExecList(cloudlet);
         assertEquals(list.size(), instance.getCloudletExecList().size());
     }
+
+    @Test
+    public void testFindCloudletInAllListsAfterStatusChanges() {
+        final var instance = newSchedulerWithSingleCoreRunningCloudlets(1000, 2, 3);
+        final var cloudlet = instance.getCloudletExecList().get(1).getCloudlet();
+
+        assertTrue(instance.cloudletPause(cloudlet));
+        assertTrue(instance.findCloudletInPausedList(cloudlet).isPresent());
+        assertTrue(instance.findCloudletInList(cloudlet, instance.getCloudletExecList()).isEmpty());
+        assertFalse(instance.cloudletPause(cloudlet));
+
+        instance.cloudletResume(cloudlet);
+        assertTrue(instance.findCloudletInPausedList(cloudlet).isEmpty());
+        assertSame(cloudlet, instance.findCloudletInAllLists(cloudlet.getId()).orElseThrow().getCloudlet());
+
+        assertSame(cloudlet, instance.cloudletCancel(cloudlet));
+        assertTrue(instance.findCloudletInAllLists(cloudlet.getId()).isEmpty());
+        assertEquals(2, instance.getCloudletExecList().size());
+    }
+
+    @Test
+    public void testFindCloudletInAllListsAfterChangingThePausedList() {
+        final var cle = new CloudletExecution(CloudletTestUtil.createCloudlet(1, 1));
+        instance.getCloudletPausedList().add(cle);
+        assertSame(cle, instance.findCloudletInPausedList(cle.getCloudlet()).orElseThrow());
+
+        instance.getCloudletPausedList().remove(cle);
+        assertTrue(instance.findCloudletInAllLists(cle.getId()).isEmpty());
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class ColumnarTraceCacheTest {
+    private static final String SWF_FILE = "LCG.swf.gz";
+
+    @Test
+    void cacheHasSameLinesAsTraceFile(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.csv");
+        Files.write(trace, List.of("# comment", "1,a,,2.5", "", "3", "4,b,c,d,e,", "áé,x", "007,+1,1.0E-4,3,-0"));
+
+        final var parsedLines = readLines(new FileReader(",", trace.toString()));
+        final var reader = new FileReader(",", trace.toString()).setCacheDir(dir.resolve("cache"));
+        final var firstRead = readLines(reader);
+        final var cachedRead = readLines(reader);
+
+        assertEquals(1, cacheFiles(dir.resolve("cache")).size());
+        assertEquals(parsedLines.size(), firstRead.size());
+        for (int i = 0; i < parsedLines.size(); i++) {
+            assertArrayEquals(parsedLines.get(i), firstRead.get(i));
+            assertArrayEquals(parsedLines.get(i), cachedRead.get(i));
+        }
+    }
+
+    @Test
+    void numericColumnsAreStoredAsTypedValues(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.csv");
+        final Path cacheDir = dir.resolve("cache");
+        Files.write(trace, List.of("1,2.5,a,-1", "300,3,b", "70000,,c,9223372036854775807"));
+        final var lines = readLines(new FileReader(",", trace.toString()).setCacheDir(cacheDir));
+
+        final var cache = ColumnarTraceCache.load(cacheFiles(cacheDir).get(0)).orElseThrow();
+        assertEquals(3, cache.rows());
+        assertTrue(cache.isLong(2, 0));
+        assertEquals(70_000, cache.getLong(2, 0));
+        assertFalse(cache.isLong(0, 1));
+        assertEquals(2.5, cache.getDouble(0, 1));
+        assertTrue(cache.isLong(1, 1));
+        assertEquals(3, cache.getLong(1, 1));
+        assertFalse(cache.isNumber(2, 1), "Empty fields are not numbers");
+        assertFalse(cache.isNumber(0, 2), "Text fields are not numbers");
+        assertFalse(cache.isNumber(1, 3), "Missing fields are not numbers");
+        assertEquals(Long.MAX_VALUE, cache.getLong(2, 3));
+        for (int row = 0; row < lines.size(); row++) {
+            assertArrayEquals(lines.get(row), cache.row(row));
+        }
+    }
+
+    @Test
+    void integerAboveDoublePrecisionFollowedByTextIsStoredAsText(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.txt");
+        final Path cacheDir = dir.resolve("cache");
+        Files.write(trace, List.of("9007199254740993 x 9007199254740993", "abc y 1.5", "9007199254740993 1.5 2"));
+        final var reader = new FileReader(" ", trace.toString()).setCacheDir(cacheDir);
+        final var lines = readLines(reader);
+
+        final var cache = ColumnarTraceCache.load(cacheFiles(cacheDir).get(0)).orElseThrow();
+        assertFalse(cache.isNumber(0, 0), "A column having text values must be stored as text");
+        assertFalse(cache.isNumber(2, 1), "A column having text values must be stored as text");
+        assertFalse(cache.isNumber(1, 2), "Decimals can't be stored along integers above the double precision");
+        assertFalse(cache.isNumber(2, 2), "Decimals can't be stored along integers above the double precision");
+        final var cachedLines = readLines(reader);
+        assertEquals(3, lines.size());
+        for (int row = 0; row < lines.size(); row++) {
+            assertArrayEquals(lines.get(row), cache.row(row));
+            assertArrayEquals(lines.get(row), cachedLines.get(row));
+        }
+    }
+
+    @Test
+    void numericCacheIsSmallerThanTraceFile(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.csv");
+        final Path cacheDir = dir.resolve("cache");
+        final var lines = new ArrayList<String>();
+        for (int i = 0; i < 10_000; i++) {
+            lines.add("%d,%d,%d,%s".formatted(i, i % 100, 1000 + i, i % 4 / 4.0));
+        }
+
+        Files.write(trace, lines);
+        readLines(new FileReader(",", trace.toString()).setCacheDir(cacheDir));
+        assertTrue(Files.size(cacheFiles(cacheDir).get(0)) < Files.size(trace));
+    }
+
+    @Test
+    void changedTraceFileIsNotReadFromCache(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.csv");
+        final Path cacheDir = dir.resolve("cache");
+        Files.write(trace, List.of("1,2"));
+        readLines(new FileReader(",", trace.toString()).setCacheDir(cacheDir));
+
+        Files.write(trace, List.of("3,4"));
+        final var lines = readLines(new FileReader(",", trace.toString()).setCacheDir(cacheDir));
+        assertArrayEquals(new String[]{"3", "4"}, lines.get(0));
+        assertEquals(2, cacheFiles(cacheDir).size());
+    }
+
+    @Test
+    void invalidCacheFileIsIgnored(@TempDir final Path dir) throws IOException {
+        final Path trace = dir.resolve("trace.csv");
+        final Path cacheDir = dir.resolve("cache");
+        Files.write(trace, List.of("1,2"));
+        final var reader = new FileReader(",", trace.toString()).setCacheDir(cacheDir);
+        readLines(reader);
+        Files.write(cacheFiles(cacheDir).get(0), new byte[]{1, 2, 3});
+
+        assertArrayEquals(new String[]{"1", "2"}, readLines(reader).get(0));
+    }
+
+    @Test
+    void swfWorkloadReadFromCacheIsEqualToParsedOne(@TempDir final Path dir) throws IOException {
+        final var expected = SwfWorkloadFileReader.getInstance(SWF_FILE, 1).generateWorkload();
+
+        final var firstReader = SwfWorkloadFileReader.getInstance(SWF_FILE, 1);
+        firstReader.setCacheDir(dir);
+        assertCloudletsEquals(expected, firstReader.generateWorkload());
+        assertEquals(1, cacheFiles(dir).size());
+
+        final var cachedReader = SwfWorkloadFileReader.getInstance(SWF_FILE, 1);
+        cachedReader.setCacheDir(dir);
+        assertCloudletsEquals(expected, cachedReader.generateWorkload());
+
+        final var limitedReader = SwfWorkloadFileReader.getInstance(SWF_FILE, 1);
+        limitedReader.setCacheDir(dir).setMaxLinesToRead(10);
+        assertCloudletsEquals(expected.subList(0, 10), limitedReader.generateWorkload());
+    }
+
+    private static void assertCloudletsEquals(final List<Cloudlet> expected, final List<Cloudlet> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            final var cloudlet = actual.get(i);
+            final var expectedCloudlet = expected.get(i);
+            assertAll(
+                () -> assertEquals(expectedCloudlet.getId(), cloudlet.getId()),
+                () -> assertEquals(expectedCloudlet.getLength(), cloudlet.getLength()),
+                () -> assertEquals(expectedCloudlet.getPesNumber(), cloudlet.getPesNumber()),
+                () -> assertEquals(expectedCloudlet.getSubmissionDelay(), cloudlet.getSubmissionDelay())
+            );
+        }
+    }
+
+    private static List<String[]> readLines(final FileReader reader) {
+        final var lines = new ArrayList<String[]>();
+        reader.readFile(lines::add);
+        return lines;
+    }
+
+    private static List<Path> cacheFiles(final Path cacheDir) throws IOException {
+        try (var files = Files.list(cacheDir)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.traces;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class FieldTokenizerTest {
+    private static final List<String> LINES = List.of(
+        "", "   ", "a", "  1   2\t3  ", "1,,3,", ",a,b", "5 -1 0.25\t\t7", "a;b;;c", "x|y|z", "1\t2\t\t3");
+
+    @Test
+    void splitGivesSameFieldsAsRegex() {
+        for (final String regex : List.of(FileReader.DEF_FIELD_DELIMITER_REGEX, ",", ";", "\\t", "\\|", "[,;]")) {
+            final var tokenizer = new FieldTokenizer(regex);
+            for (final String line : LINES) {
+                assertArrayEquals(line.trim().split(regex, -1), tokenizer.split(line), () -> "regex: " + regex + " line: '" + line + "'");
+            }
+        }
+    }
+
+    @Test
+    void isIntegerMatchesRegex() {
+        for (final String value : List.of("", "-", "1", "-12", "1.0", "12a", "a12", "--1", "007")) {
+            assertEquals(value.matches("^-?\\d+$"), FieldTokenizer.isInteger(value), value);
+        }
+    }
+
+    @Test
+    void isDecimalMatchesRegex() {
+        for (final String value : List.of("", "-", "1", "-12", "1.0", "1.", ".5", "-0.25", "1.2.3", "12a", "1e5")) {
+            assertEquals(value.matches("^-?\\d+(\\.?\\d+)?$"), FieldTokenizer.isDecimal(value), value);
+        }
+    }
+
+    @Test
+    void parseDoubleGivesSameValueAsDoubleParser() {
+        for (final String value : List.of("0", "-0", "1", "-12", "0.1", "0.3", "-0.25", "1.", "1e5", "123456789012345678901", "0.00000000000000000000000001")) {
+            assertEquals(Double.parseDouble(value), FieldTokenizer.parseDouble(value), value);
+        }
+
+        final var random = new Random(1);
+        for (int i = 0; i < 10_000; i++) {
+            final String format = "%." + random.nextInt(12) + "f";
+            final String formatted = String.format(Locale.ROOT, format, (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12)));
+            assertEquals(Double.parseDouble(formatted), FieldTokenizer.parseDouble(formatted), formatted);
+        }
+
+        assertThrows(NumberFormatException.class, () -> FieldTokenizer.parseDouble("a"));
+    }
+}
@@ -23,10 +23,27 @@
  */
 package org.cloudsimplus.traces.google;
 
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.VmSimple;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
-import static org.junit.jupiter.api.Assertions.assertAll;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Manoel Campos da Silva Filho
@@ -91,4 +108,137 @@ public class GoogleTaskEventsTraceReaderTest {
             () -> assertEquals(12, TaskEventField.DIFFERENT_MACHINE_CONSTRAINT.ordinal())
         );
     }
+
+    @Test
+    public void testStreamingModeProducesSameResultsAsReadingTheEntireFile(@TempDir final Path dir) throws IOException {
+        final int tasks = 50;
+        final var traceFile = createTraceFile(dir, tasks);
+
+        final var readAll = runSimulation(traceFile, 0);
+        final var streaming = runSimulation(traceFile, 200);
+
+        assertEquals(tasks, readAll.processedCloudlets);
+        assertTrue(streaming.processedCloudlets < tasks, "Only Cloudlets inside the first window should be created by process()");
+        assertEquals(0, streaming.trackedCloudletsAtEnd, "Finished Cloudlets should be released by the reader");
+        assertEquals(tasks, streaming.finishTimes.size());
+        assertEquals(readAll.finishTimes, streaming.finishTimes);
+    }
+
+    @Test
+    public void testStreamingModeClosesTheFileWhenSimulationFinishesBeforeTheEndOfFile(@TempDir final Path dir) throws IOException {
+        final var traceFile = createTraceFile(dir, 50);
+        final var simulation = new CloudSimPlus();
+        final var host = new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2).setRam(1000).setBw(1000).setSize(1000));
+
+        final var closed = new boolean[1];
+        final var is = Files.newInputStream(traceFile);
+        final var reader = new GoogleTaskEventsTraceReader(simulation, traceFile.toString(), is, GoogleTaskEventsTraceReaderTest::createCloudlet) {
+            @Override
+            protected BufferedReader openFile() {
+                return new BufferedReader(super.openFile()) {
+                    @Override
+                    public void close() throws IOException {
+                        closed[0] = true;
+                        super.close();
+                    }
+                };
+            }
+        };
+        reader.getBrokerManager().setDefaultBroker(broker);
+        reader.setStreamingLookAhead(200);
+        reader.process();
+
+        simulation.terminateAt(300);
+        simulation.start();
+        is.close();
+        assertTrue(closed[0], "The trace file should be closed when the simulation finishes");
+    }
+
+    @Test
+    public void testStreamingModeReadsTheTraceAfterAGapLongerThanTheVmDestructionDelay(@TempDir final Path dir) throws IOException {
+        //The second task is submitted after the broker has become idle and destroyed its VM
+        final var traceFile = createTraceFile(dir, List.of(0L, 5000L));
+        final var simulation = new CloudSimPlus();
+        final var host = new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.setVmDestructionDelay(10);
+        broker.submitVm(new VmSimple(1000, 2).setRam(1000).setBw(1000).setSize(1000));
+
+        final var eventTimes = new TreeSet<Double>();
+        final var reader = GoogleTaskEventsTraceReader.getInstance(simulation, traceFile.toString(), event -> {
+            eventTimes.add(event.getTimestamp());
+            return createCloudlet(event);
+        });
+        reader.getBrokerManager().setDefaultBroker(broker);
+        reader.setStreamingLookAhead(200);
+        reader.process();
+
+        simulation.start();
+        assertEquals(5060.0, eventTimes.last(), "The entire trace should be read");
+    }
+
+    private record SimulationResult(int processedCloudlets, int trackedCloudletsAtEnd, Map<Long, Double> finishTimes) {}
+
+    private static SimulationResult runSimulation(final Path traceFile, final double streamingLookAhead) {
+        final var simulation = new CloudSimPlus();
+        final var host = new HostSimple(100_000, 100_000, 100_000, List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2).setRam(1000).setBw(1000).setSize(1000));
+
+        final var reader = GoogleTaskEventsTraceReader.getInstance(simulation, traceFile.toString(), GoogleTaskEventsTraceReaderTest::createCloudlet);
+        reader.getBrokerManager().setDefaultBroker(broker);
+        reader.setStreamingLookAhead(streamingLookAhead);
+        final int processedCloudlets = reader.process().size();
+
+        simulation.start();
+        final Map<Long, Double> finishTimes = broker.getCloudletFinishedList().stream()
+            .collect(Collectors.toMap(Cloudlet::getId, Cloudlet::getFinishTime, (a, b) -> b, TreeMap::new));
+        return new SimulationResult(processedCloudlets, reader.getAvailableObjects().size(), finishTimes);
+    }
+
+    private static Cloudlet createCloudlet(final TaskEvent event) {
+        return new CloudletSimple(10_000, 1)
+            .setUtilizationModelCpu(new UtilizationModelDynamic(1))
+            .setUtilizationModelRam(new UtilizationModelDynamic(event.getResourceRequestForRam()))
+            .setUtilizationModelBw(new UtilizationModelDynamic(0));
+    }
+
+    /**
+     * Creates a trace file with a given number of tasks,
+     * where each one is submitted, scheduled and finishes at different times.
+     * @return the path of the created file
+     */
+    private static Path createTraceFile(final Path dir, final int tasks) throws IOException {
+        return createTraceFile(dir, IntStream.range(0, tasks).mapToObj(task -> task * 100L).toList());
+    }
+
+    /**
+     * Creates a trace file with one task for each given submission time,
+     * where each task is scheduled 1 second after its submission and finishes 60 seconds after it.
+     * @param submitTimes the submission time of each task (in seconds)
+     * @return the path of the created file
+     */
+    private static Path createTraceFile(final Path dir, final List<Long> submitTimes) throws IOException {
+        final long microsInSecond = 1_000_000;
+        final var lines = new TreeMap<Long, String>();
+        IntStream.range(0, submitTimes.size()).forEach(task -> {
+            final long submitTime = submitTimes.get(task) * microsInSecond;
+            lines.put(submitTime, traceLine(submitTime, task, TaskEventType.SUBMIT));
+            lines.put(submitTime + microsInSecond, traceLine(submitTime + microsInSecond, task, TaskEventType.SCHEDULE));
+            lines.put(submitTime + 60 * microsInSecond, traceLine(submitTime + 60 * microsInSecond, task, TaskEventType.FINISH));
+        });
+
+        final var traceFile = dir.resolve("task_events.csv");
+        Files.write(traceFile, lines.values());
+        return traceFile;
+    }
+
+    private static String traceLine(final long timestamp, final int task, final TaskEventType type) {
+        return "%d,,1,%d,,%d,user%d,0,1,0.1,0.1,0.01,0".formatted(timestamp, task, type.ordinal(), task % 3);
+    }
 }
@@ -0,0 +1,71 @@
+package org.cloudsimplus.util;
+
+import org.cloudsimplus.hosts.HostStateHistoryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class StateHistoryTest {
+    @Test
+    void addGrowsHistoryAndKeepsEntriesOrder() {
+        final var history = new StateHistory<>(HostStateHistoryEntry::new);
+        for (int i = 0; i < 100; i++) {
+            history.add(i, i * 10, i * 20, i % 2 == 0);
+        }
+
+        assertEquals(100, history.size());
+        assertEquals(new HostStateHistoryEntry(0, 0, 0, true), history.get(0));
+        assertEquals(new HostStateHistoryEntry(99, 990, 1980, false), history.get(99));
+        assertEquals(50, history.getTime(50));
+    }
+
+    @Test
+    void addReplacesLastEntryWithSameTime() {
+        final var history = new StateHistory<>(HostStateHistoryEntry::new);
+        history.add(1, 10, 20, true);
+        history.add(1, 30, 40, false);
+
+        assertEquals(List.of(new HostStateHistoryEntry(1, 30, 40, false)), history);
+    }
+
+    @Test
+    void compressedHistoryDoesNotStoreUnchangedSamples() {
+        final var history = new StateHistory<>(HostStateHistoryEntry::new).setCompressed(true);
+        history.add(1, 10, 20, true);
+        history.add(2, 10, 20, true);
+        history.add(3, 10, 20, true);
+        history.add(4, 15, 20, true);
+        history.add(5, 15, 20, false);
+
+        final var expected = List.of(
+            new HostStateHistoryEntry(1, 10, 20, true),
+            new HostStateHistoryEntry(4, 15, 20, true),
+            new HostStateHistoryEntry(5, 15, 20, false));
+        assertEquals(expected, history);
+    }
+
+    @Test
+    void forEachPassesAllEntriesValues() {
+        final var history = new StateHistory<>(HostStateHistoryEntry::new);
+        history.add(1, 10, 20, true);
+        history.add(2, 30, 40, false);
+
+        final var entries = new ArrayList<HostStateHistoryEntry>();
+        history.forEach((time, allocated, requested, active) -> entries.add(new HostStateHistoryEntry(time, allocated, requested, active)));
+        assertEquals(history, entries);
+    }
+
+    @Test
+    void historyIsReadOnly() {
+        final var history = new StateHistory<>(HostStateHistoryEntry::new);
+        assertThrows(UnsupportedOperationException.class, () -> history.add(new HostStateHistoryEntry(1, 1, 1, true)));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(0));
+    }
+}
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SwfWorkloadFileReaderTest {
@@ -37,6 +38,37 @@ public class SwfWorkloadFileReaderTest {
 	    assertTrue(assertCreatedCloudletsFromTrace(ZIP_FILE, ZIP_FILE_JOBS));
     }
 
+    @Test
+    public void readSwfInParallelCreatesSameCloudletsInSameOrder() {
+        final List<Cloudlet> expected = SwfWorkloadFileReader.getInstance(SWF_FILE, 1).generateWorkload();
+        final var reader = SwfWorkloadFileReader.getInstance(SWF_FILE, 1).setParallelParsing(true);
+        final List<Cloudlet> cloudletList = reader.generateWorkload();
+
+        assertEquals(SWF_FILE_JOBS, cloudletList.size());
+        assertEquals(SWF_FILE_JOBS, reader.getLastLineNumber());
+        for (int i = 0; i < expected.size(); i++) {
+            final Cloudlet cloudlet = cloudletList.get(i);
+            assertEquals(expected.get(i).getId(), cloudlet.getId());
+            assertEquals(expected.get(i).getLength(), cloudlet.getLength());
+            assertEquals(expected.get(i).getPesNumber(), cloudlet.getPesNumber());
+            assertEquals(expected.get(i).getSubmissionDelay(), cloudlet.getSubmissionDelay());
+        }
+    }
+
+    @Test
+    public void readSwfInParallelPropagatesProcessingErrors() {
+        final var reader = SwfWorkloadFileReader.getInstance(SWF_FILE, 1).setParallelParsing(true);
+        reader.setPredicate(cloudlet -> {
+            if (cloudlet.getId() == SWF_FILE_JOBS / 2) {
+                throw new IllegalStateException("Processing error");
+            }
+
+            return true;
+        });
+
+        assertThrows(IllegalStateException.class, reader::generateWorkload);
+    }
+
     private boolean assertCreatedCloudletsFromTrace(final String fileNameWithoutPath, final int jobsNumber) {
         final SwfWorkloadFileReader reader = SwfWorkloadFileReader.getInstance(fileNameWithoutPath, 1);
         final long millisecs = System.currentTimeMillis();
@@ -0,0 +1,74 @@
+package org.cloudsimplus.vms;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 8.6.0
+ */
+class QuantileSketchTest {
+    private static final double MAX_ERROR = 1.0 / QuantileSketch.DEF_BUCKETS;
+
+    @Test
+    void getQuantileWhenEmpty() {
+        final var sketch = new QuantileSketch();
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMin()));
+    }
+
+    @Test
+    void getQuantileOfUniformSamples() {
+        final var sketch = new QuantileSketch();
+        for (int i = 0; i <= 10_000; i++) {
+            sketch.add(i / 10_000.0);
+        }
+
+        assertEquals(0.5, sketch.getQuantile(0.5), MAX_ERROR);
+        assertEquals(0.95, sketch.getQuantile(0.95), MAX_ERROR);
+        assertEquals(0.99, sketch.getQuantile(0.99), MAX_ERROR);
+        assertEquals(0, sketch.getQuantile(0));
+        assertEquals(1, sketch.getQuantile(1));
+    }
+
+    @Test
+    void getQuantileIsWithinMinAndMax() {
+        final var sketch = new QuantileSketch();
+        sketch.add(0.42);
+        sketch.add(0.42);
+
+        assertEquals(0.42, sketch.getQuantile(0.1));
+        assertEquals(0.42, sketch.getQuantile(0.9));
+    }
+
+    @Test
+    void mergeEqualsAddingAllSamplesToOneSketch() {
+        final var all = new QuantileSketch();
+        final var first = new QuantileSketch();
+        final var second = new QuantileSketch();
+        for (int i = 0; i < 1000; i++) {
+            final double value = (i * 37 % 1000) / 1000.0;
+            all.add(value);
+            (i % 3 == 0 ? first : second).add(value);
+        }
+
+        final var merged = new QuantileSketch().merge(first).merge(second);
+        assertEquals(all.count(), merged.count());
+        assertEquals(all.getMin(), merged.getMin());
+        assertEquals(all.getMax(), merged.getMax());
+        assertEquals(all.getQuantile(0.95), merged.getQuantile(0.95));
+    }
+
+    @Test
+    void mergeSketchesWithDifferentBuckets() {
+        final var sketch = new QuantileSketch(100);
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(new QuantileSketch(10)));
+    }
+
+    @Test
+    void getQuantileWhenInvalid() {
+        final var sketch = new QuantileSketch();
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.1));
+    }
+}
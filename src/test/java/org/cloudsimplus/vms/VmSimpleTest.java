@@ -22,6 +22,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -169,6 +171,25 @@ public class VmSimpleTest {
         assertEquals(entry, vm.getStateHistory().get(vm.getStateHistory().size()-1));
     }
 
+    @Test
+    public void testStateHistoryKeepsAddedEntriesByDefault(){
+        final VmStateHistoryEntry entry = new VmStateHistoryEntry(0, 1000, 100, false);
+        vm.addStateHistoryEntry(entry);
+        assertFalse(vm.isStateHistoryColumnar());
+        assertSame(entry, vm.getStateHistory().get(0));
+    }
+
+    @Test
+    public void testColumnarStateHistoryKeepsPreviousEntries(){
+        vm.addStateHistoryEntry(new VmStateHistoryEntry(0, 1000, 100, false));
+        vm.setStateHistoryColumnar(true);
+        vm.addStateHistoryEntry(new VmStateHistoryEntry(1, 500, 200, true));
+
+        assertTrue(vm.isStateHistoryColumnar());
+        final var expected = List.of(new VmStateHistoryEntry(0, 1000, 100, false), new VmStateHistoryEntry(1, 500, 200, true));
+        assertEquals(expected, vm.getStateHistory());
+    }
+
     @Test
     public void testSetBw() {
         vm.setBw(VmTestUtil.BANDWIDTH / 2);